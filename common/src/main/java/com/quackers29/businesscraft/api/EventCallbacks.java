@@ -1,6 +1,7 @@
 package com.quackers29.businesscraft.api;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
@@ -12,6 +13,11 @@ public class EventCallbacks {
         void onPlayerTick(ServerPlayer player, ServerLevel level, BlockPos position);
     }
 
+    @FunctionalInterface
+    public interface ServerTickCallback {
+        void onServerTick(MinecraftServer server);
+    }
+
     @FunctionalInterface
     public interface PlayerLoginCallback {
         void onPlayerLogin(ServerPlayer player, ServerLevel level, BlockPos position);
@@ -21,6 +21,11 @@ public interface EventHelper {
 
     void registerPlayerTickCallback(EventCallbacks.PlayerTickCallback callback);
 
+    /**
+     * Runs once at the end of every server tick.
+     */
+    void registerServerTickCallback(EventCallbacks.ServerTickCallback callback);
+
     void registerPlayerLoginCallback(EventCallbacks.PlayerLoginCallback callback);
 
     void registerPlayerLogoutCallback(EventCallbacks.PlayerLogoutCallback callback);
@@ -1,11 +1,14 @@
 package com.quackers29.businesscraft.api;
 
+import com.quackers29.businesscraft.entity.TouristEntity;
 import com.quackers29.businesscraft.platform.Platform;
 import com.quackers29.businesscraft.town.Town;
 import net.minecraft.world.entity.npc.Villager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.UUID;
+
 public interface ITouristHelper {
     Logger LOGGER = LoggerFactory.getLogger(ITouristHelper.class);
 
@@ -54,45 +57,58 @@ public interface ITouristHelper {
         return villager != null && villager.getTags().contains(TAG_TYPE_TOURIST);
     }
 
-    default String getOriginTownId(Villager villager) {
-        if (!isTourist(villager)) {
-            return null;
-        }
+    /**
+     * @return the tourist's origin town, or null if the villager is not a tourist
+     */
+    default UUID getOriginTownId(Villager villager) {
+        TouristInfo info = extractTouristInfo(villager);
+        return info != null ? info.originTownId() : null;
+    }
 
-        for (String tag : villager.getTags()) {
-            if (tag.startsWith(TAG_FROM_TOWN_PREFIX)) {
-                return tag.substring(TAG_FROM_TOWN_PREFIX.length());
-            }
+    /**
+     * @return the tourist's metadata, or null if the villager is not a tourist. A
+     *         {@link TouristEntity} answers from its cached record without touching
+     *         its tags; other villagers have their tags parsed.
+     */
+    default TouristInfo extractTouristInfo(Villager villager) {
+        if (villager instanceof TouristEntity tourist) {
+            return tourist.getTouristInfo();
         }
-
-        return null;
+        return parseTouristTags(villager);
     }
 
-    default TouristInfo extractTouristInfo(Villager villager) {
+    default TouristInfo parseTouristTags(Villager villager) {
         if (!isTourist(villager)) {
             return null;
         }
 
-        TouristInfo info = new TouristInfo();
+        UUID originTownId = null;
+        String originTownName = null;
+        String platformId = null;
+        UUID destinationTownId = null;
+        String destinationTownName = null;
+        int originX = 0;
+        int originY = 0;
+        int originZ = 0;
 
         for (String tag : villager.getTags()) {
             if (tag.startsWith(TAG_FROM_TOWN_PREFIX)) {
-                info.originTownId = tag.substring(TAG_FROM_TOWN_PREFIX.length());
+                originTownId = parseUuid(tag, TAG_FROM_TOWN_PREFIX);
             } else if (tag.startsWith(TAG_FROM_NAME_PREFIX)) {
-                info.originTownName = tag.substring(TAG_FROM_NAME_PREFIX.length());
+                originTownName = tag.substring(TAG_FROM_NAME_PREFIX.length());
             } else if (tag.startsWith(TAG_PLATFORM_PREFIX)) {
-                info.platformId = tag.substring(TAG_PLATFORM_PREFIX.length());
+                platformId = tag.substring(TAG_PLATFORM_PREFIX.length());
             } else if (tag.startsWith(TAG_DEST_TOWN_PREFIX)) {
-                info.destinationTownId = tag.substring(TAG_DEST_TOWN_PREFIX.length());
+                destinationTownId = parseUuid(tag, TAG_DEST_TOWN_PREFIX);
             } else if (tag.startsWith(TAG_DEST_NAME_PREFIX)) {
-                info.destinationTownName = tag.substring(TAG_DEST_NAME_PREFIX.length());
+                destinationTownName = tag.substring(TAG_DEST_NAME_PREFIX.length());
             } else if (tag.startsWith(TAG_POS_PREFIX)) {
                 try {
                     String[] parts = tag.substring(TAG_POS_PREFIX.length()).split("_");
                     if (parts.length == 3) {
-                        info.originX = Integer.parseInt(parts[0]);
-                        info.originY = Integer.parseInt(parts[1]);
-                        info.originZ = Integer.parseInt(parts[2]);
+                        originX = Integer.parseInt(parts[0]);
+                        originY = Integer.parseInt(parts[1]);
+                        originZ = Integer.parseInt(parts[2]);
                     }
                 } catch (NumberFormatException e) {
                     LOGGER.error("Error parsing position from tag: {}", tag, e);
@@ -100,19 +116,38 @@ public interface ITouristHelper {
             }
         }
 
-        return info.isValid() ? info : null;
+        if (originTownId == null) {
+            return null;
+        }
+        return new TouristInfo(originTownId, originTownName, platformId, destinationTownId,
+                destinationTownName, originX, originY, originZ);
     }
 
-    class TouristInfo {
-        public String originTownId;
-        public String originTownName;
-        public String platformId;
-        public String destinationTownId;
-        public String destinationTownName;
-        public int originX;
-        public int originY;
-        public int originZ;
+    private static UUID parseUuid(String tag, String prefix) {
+        try {
+            return UUID.fromString(tag.substring(prefix.length()));
+        } catch (IllegalArgumentException e) {
+            LOGGER.error("Error parsing town id from tag: {}", tag);
+            return null;
+        }
+    }
 
+    /**
+     * What a tourist carries: where it came from and where it is going.
+     *
+     * @param destinationTownId the destination town, {@link TouristEntity#ANY_TOWN_DESTINATION}
+     *                          for any town, or null if none was set
+     */
+    record TouristInfo(
+        UUID originTownId,
+        String originTownName,
+        String platformId,
+        UUID destinationTownId,
+        String destinationTownName,
+        int originX,
+        int originY,
+        int originZ
+    ) {
         public boolean isValid() {
             return originTownId != null;
         }
@@ -98,6 +98,8 @@ import com.quackers29.businesscraft.town.viewmodel.TradingViewModelBuilder;
 import com.quackers29.businesscraft.network.packets.TradingViewModelSyncPacket;
 import com.quackers29.businesscraft.town.data.VisitorProcessingHelper;
 import com.quackers29.businesscraft.town.data.ClientSyncHelper;
+import com.quackers29.businesscraft.town.data.ClientSyncSections;
+import com.quackers29.businesscraft.network.packets.town.TownInterfaceSyncPacket;
 import com.quackers29.businesscraft.town.viewmodel.ViewModelCache;
 import com.quackers29.businesscraft.town.viewmodel.TownResourceViewModel;
 import com.quackers29.businesscraft.town.viewmodel.TownResourceViewModelBuilder;
@@ -156,7 +158,8 @@ public class TownInterfaceEntity extends BlockEntity
     private static final long MARK_DIRTY_COOLDOWN_MS = 2000; // 2 seconds between calls
     private long lastSearchRadiusLogTime = 0; // For rate-limiting debug logs
 
-    private final TouristVehicleManager touristVehicleManager = new TouristVehicleManager();
+    // Stateless; vehicle motion is tracked per level by VehicleMotionTracker
+    private static final TouristVehicleManager TOURIST_VEHICLE_MANAGER = new TouristVehicleManager();
 
     private final VisitBuffer visitBuffer = new VisitBuffer();
 
@@ -164,6 +167,12 @@ public class TownInterfaceEntity extends BlockEntity
 
     private final ViewModelCache vmCache = new ViewModelCache();
 
+    private final ClientSyncSections clientSyncSections = new ClientSyncSections();
+    private final long[] clientSectionVersions = new long[ClientSyncSections.Section.values().length];
+
+    // Set by requestClientSync(); flushed at most once per tick
+    private boolean clientSyncPending = false;
+
     private void updateResourceVM() {
         Town town = getTown();
         if (town != null) {
@@ -203,29 +212,122 @@ public class TownInterfaceEntity extends BlockEntity
         updateInterfaceVM();
     }
 
-    public void syncAllDirtyTownVMsToPlayers() {
-        if (level == null || level.isClientSide()) return;
-        if (!(level instanceof ServerLevel serverLevel)) return;
+    // Players with this town's menu open; they receive its view models wherever they are
+    private final Set<UUID> vmSubscribers = new HashSet<>();
+    // Everyone who received the view models in the last pass (subscribers and players in range)
+    private final Set<UUID> vmViewers = new HashSet<>();
 
+    /**
+     * Rebuilds the view models and sends them to the players viewing this town, if there
+     * are any: players with its menu open and players within
+     * {@link ConfigLoader#viewModelSyncRadius} of the block. Players already viewing get
+     * the changed view models, players who just came into range all of them. Players
+     * subscribe when they open this town's menu and unsubscribe when they close it; see
+     * {@link #subscribeToTownVMs} and {@link #unsubscribeFromTownVMs}.
+     */
+    private void updateAndSyncTownVMs(ServerLevel serverLevel) {
+        List<ServerPlayer> viewers = resolveVmViewers(serverLevel);
+        if (viewers.isEmpty()) {
+            vmViewers.clear();
+            return; // Nobody to show it to; rebuilt when a viewer appears
+        }
+
+        updateAllTownVMs();
+        List<ServerPlayer> known = new ArrayList<>(viewers.size());
+        List<ServerPlayer> joined = new ArrayList<>();
+        for (ServerPlayer player : viewers) {
+            if (vmViewers.contains(player.getUUID())) {
+                known.add(player);
+            } else {
+                joined.add(player);
+            }
+        }
+        // Known viewers get what changed before the dirty flags are cleared
+        sendDirtyTownVMs(known);
+        joined.forEach(this::sendAllTownVMs);
+
+        vmViewers.clear();
+        viewers.forEach(player -> vmViewers.add(player.getUUID()));
+    }
+
+    // Online subscribers in this level plus players in range; drops subscribers that left
+    private List<ServerPlayer> resolveVmViewers(ServerLevel serverLevel) {
+        List<ServerPlayer> viewers = new ArrayList<>(vmSubscribers.size());
+        Iterator<UUID> it = vmSubscribers.iterator();
+        while (it.hasNext()) {
+            ServerPlayer player = serverLevel.getServer().getPlayerList().getPlayer(it.next());
+            if (player == null || player.level() != serverLevel) {
+                it.remove();
+            } else {
+                viewers.add(player);
+            }
+        }
+
+        double radiusSqr = (double) ConfigLoader.viewModelSyncRadius * ConfigLoader.viewModelSyncRadius;
         BlockPos pos = getBlockPos();
+        for (ServerPlayer player : serverLevel.players()) {
+            if (!vmSubscribers.contains(player.getUUID())
+                    && player.distanceToSqr(pos.getX(), pos.getY(), pos.getZ()) < radiusSqr) {
+                viewers.add(player);
+            }
+        }
+        return viewers;
+    }
+
+    /**
+     * Subscribes a player to this town's view models (on opening the town menu) and
+     * sends them the current ones immediately.
+     */
+    public void subscribeToTownVMs(ServerPlayer player) {
+        if (!(level instanceof ServerLevel serverLevel))
+            return;
+        vmSubscribers.add(player.getUUID());
+        // Treated as a new viewer, so they get every view model even if already in range
+        vmViewers.remove(player.getUUID());
+        updateAndSyncTownVMs(serverLevel);
+    }
+
+    /**
+     * Stops sending this town's view models to a player (on closing the town menu).
+     * They keep receiving them while within range.
+     */
+    public void unsubscribeFromTownVMs(ServerPlayer player) {
+        vmSubscribers.remove(player.getUUID());
+    }
 
+    private void sendDirtyTownVMs(List<ServerPlayer> players) {
+        BlockPos pos = getBlockPos();
         vmCache.syncAllDirty(vm -> {
-            if (vm instanceof TownResourceViewModel rvm) {
-                ResourceViewModelSyncPacket packet = new ResourceViewModelSyncPacket(pos, rvm);
-                serverLevel.players().forEach(player -> PlatformAccess.getNetworkMessages().sendToPlayer(packet, player));
-            } else if (vm instanceof ProductionStatusViewModel pvm) {
-                ProductionViewModelSyncPacket packet = new ProductionViewModelSyncPacket(pos, pvm);
-                serverLevel.players().forEach(player -> PlatformAccess.getNetworkMessages().sendToPlayer(packet, player));
-            } else if (vm instanceof com.quackers29.businesscraft.town.viewmodel.UpgradeStatusViewModel uvm) {
-                com.quackers29.businesscraft.network.packets.UpgradeViewModelSyncPacket packet = new com.quackers29.businesscraft.network.packets.UpgradeViewModelSyncPacket(pos, uvm);
-                serverLevel.players().forEach(player -> PlatformAccess.getNetworkMessages().sendToPlayer(packet, player));
-            } else if (vm instanceof com.quackers29.businesscraft.town.viewmodel.TownInterfaceViewModel ivm) {
-                com.quackers29.businesscraft.network.packets.TownInterfaceViewModelSyncPacket packet = new com.quackers29.businesscraft.network.packets.TownInterfaceViewModelSyncPacket(pos, ivm);
-                serverLevel.players().forEach(player -> PlatformAccess.getNetworkMessages().sendToPlayer(packet, player));
+            Object packet = createVMPacket(pos, vm);
+            if (packet != null) {
+                players.forEach(player -> PlatformAccess.getNetworkMessages().sendToPlayer(packet, player));
             }
         });
     }
 
+    private void sendAllTownVMs(ServerPlayer player) {
+        BlockPos pos = getBlockPos();
+        vmCache.forEach(vm -> {
+            Object packet = createVMPacket(pos, vm);
+            if (packet != null) {
+                PlatformAccess.getNetworkMessages().sendToPlayer(packet, player);
+            }
+        });
+    }
+
+    private static Object createVMPacket(BlockPos pos, Object vm) {
+        if (vm instanceof TownResourceViewModel rvm) {
+            return new ResourceViewModelSyncPacket(pos, rvm);
+        } else if (vm instanceof ProductionStatusViewModel pvm) {
+            return new ProductionViewModelSyncPacket(pos, pvm);
+        } else if (vm instanceof com.quackers29.businesscraft.town.viewmodel.UpgradeStatusViewModel uvm) {
+            return new com.quackers29.businesscraft.network.packets.UpgradeViewModelSyncPacket(pos, uvm);
+        } else if (vm instanceof com.quackers29.businesscraft.town.viewmodel.TownInterfaceViewModel ivm) {
+            return new com.quackers29.businesscraft.network.packets.TownInterfaceViewModelSyncPacket(pos, ivm);
+        }
+        return null;
+    }
+
 public ViewModelCache getVmCache() {
     return vmCache;
 }
@@ -251,19 +353,24 @@ public ViewModelCache getVmCache() {
         if (town == null)
             return;
 
-        TradingViewModel viewModel = TradingViewModelBuilder.build(town);
-
-        TradingViewModelSyncPacket packet = new TradingViewModelSyncPacket(viewModel);
-
-        int syncRadius = 64;
-        double syncRadiusSqr = syncRadius * syncRadius;
+        double syncRadiusSqr = (double) ConfigLoader.viewModelSyncRadius * ConfigLoader.viewModelSyncRadius;
         BlockPos pos = getBlockPos();
 
+        List<ServerPlayer> nearby = new ArrayList<>();
         for (net.minecraft.server.level.ServerPlayer player : serverLevel.players()) {
             if (player.distanceToSqr(pos.getX(), pos.getY(), pos.getZ()) < syncRadiusSqr) {
-                PlatformAccess.getNetworkMessages().sendToPlayer(packet, player);
+                nearby.add(player);
             }
         }
+        if (nearby.isEmpty())
+            return; // Don't build a view model nobody receives
+
+        TradingViewModel viewModel = TradingViewModelBuilder.build(town);
+
+        TradingViewModelSyncPacket packet = new TradingViewModelSyncPacket(viewModel);
+        for (ServerPlayer player : nearby) {
+            PlatformAccess.getNetworkMessages().sendToPlayer(packet, player);
+        }
     }
 
     /**
@@ -670,11 +777,10 @@ public ViewModelCache getVmCache() {
 
         if (level.getGameTime() % 10 == 0) { // Every 10 ticks (0.5 seconds) for snappier UI
             updateFromTownProvider();
-            setChanged(); // Force sync of resources to client
+            requestClientSync(); // Periodic sync of changed client data; nothing new to save
 
-            if (!level.isClientSide && level instanceof ServerLevel) {
-                updateAllTownVMs();
-                syncAllDirtyTownVMsToPlayers();
+            if (!level.isClientSide && level instanceof ServerLevel serverLevel) {
+                updateAndSyncTownVMs(serverLevel);
                 syncTradingViewModelToNearbyPlayers();
             }
 
@@ -684,6 +790,11 @@ public ViewModelCache getVmCache() {
             }
         }
 
+        if (clientSyncPending && !level.isClientSide) {
+            clientSyncPending = false;
+            pushToClients();
+        }
+
         if (!level.isClientSide && townId != null) {
             if (level instanceof ServerLevel sLevel1) {
                 Town town = TownManager.get(sLevel1).getTown(townId);
@@ -732,7 +843,7 @@ public ViewModelCache getVmCache() {
 
                 if (currentTown != null && currentTown.canSpawnTourists()) {
                     for (Platform platform : platformManager.getEnabledPlatforms()) {
-                        touristVehicleManager.mountTouristsToVehicles(
+                        TOURIST_VEHICLE_MANAGER.mountTouristsToVehicles(
                                 level,
                                 platform.getStartPos(),
                                 platform.getEndPos(),
@@ -775,11 +886,29 @@ public ViewModelCache getVmCache() {
         return ConfigLoader.townNames.get(index);
     }
 
+    /**
+     * Marks the block entity for saving and schedules a push to viewers.
+     */
     @Override
     public void setChanged() {
         super.setChanged();
         if (level != null && !level.isClientSide()) {
             DebugConfig.debug(LOGGER, DebugConfig.PLATFORM_SYSTEM, "[PLATFORM] setChanged called on SERVER");
+            requestClientSync();
+        }
+    }
+
+    /**
+     * Schedules refreshing open menus and sending tracking clients the changed sync
+     * sections. Requests are coalesced and flushed once, at the next tick, and do not
+     * mark the chunk for saving.
+     */
+    public void requestClientSync() {
+        clientSyncPending = true;
+    }
+
+    private void pushToClients() {
+        if (level != null && !level.isClientSide()) {
             if (townId != null && level instanceof ServerLevel serverLevel) {
                 Town town = TownManager.get(serverLevel).getTown(townId);
                 if (town != null) {
@@ -792,8 +921,55 @@ public ViewModelCache getVmCache() {
 
             refreshOpenMenus();
 
-            level.sendBlockUpdated(getBlockPos(), getBlockState(), getBlockState(), Block.UPDATE_ALL);
-            DebugConfig.debug(LOGGER, DebugConfig.PLATFORM_SYSTEM, "[PLATFORM] sendBlockUpdated called");
+            syncChangedSectionsToClients();
+        }
+    }
+
+    // Writes and sends only the sections whose change counters moved since the last push
+    private void syncChangedSectionsToClients() {
+        Town town = getTown();
+        for (ClientSyncSections.Section section : ClientSyncSections.Section.values()) {
+            clientSectionVersions[section.ordinal()] = town != null ? town.getClientDataVersion(section) : 0;
+        }
+        clientSectionVersions[ClientSyncSections.Section.PLATFORMS.ordinal()] += platformManager.getVersion();
+
+        int sections = clientSyncSections.takeChanged(town, clientSectionVersions);
+        if (sections != 0) {
+            CompoundTag changed = new CompoundTag();
+            writeClientSyncSections(changed, sections, town);
+            PlatformAccess.getNetworkMessages().sendToAllTrackingChunk(
+                    new TownInterfaceSyncPacket(getBlockPos(), sections, changed), level, getBlockPos());
+            DebugConfig.debug(LOGGER, DebugConfig.PLATFORM_SYSTEM, "[PLATFORM] Sent sync sections {}",
+                    Integer.toBinaryString(sections));
+        }
+    }
+
+    /**
+     * Applies the sections of a {@link TownInterfaceSyncPacket} on the client. Sections
+     * not in the mask are left untouched.
+     */
+    public void applyClientSyncSections(int sections, CompoundTag tag) {
+        if (ClientSyncSections.Section.INFO.isIn(sections)) {
+            this.townId = tag.contains("TownId") ? tag.getUUID("TownId") : null;
+            this.name = tag.getString("name");
+            if (tag.contains("searchRadius")) {
+                this.searchRadius = tag.getInt("searchRadius");
+            }
+        }
+        if (ClientSyncSections.Section.RESOURCES.isIn(sections)) {
+            clientSyncHelper.loadResourcesFromTag(tag);
+        }
+        if (ClientSyncSections.Section.WANTS.isIn(sections)) {
+            clientSyncHelper.loadWantedResourcesFromTag(tag);
+        }
+        if (ClientSyncSections.Section.ESCROW.isIn(sections)) {
+            clientSyncHelper.loadEscrowedResourcesFromTag(tag);
+        }
+        if (ClientSyncSections.Section.HISTORY.isIn(sections)) {
+            clientSyncHelper.loadVisitHistoryFromTag(tag);
+        }
+        if (ClientSyncSections.Section.PLATFORMS.isIn(sections)) {
+            platformManager.updateClientPlatforms(tag);
         }
     }
 
@@ -802,14 +978,8 @@ public ViewModelCache getVmCache() {
      * This ensures population and tourist values are updated in real-time
      */
     private void refreshOpenMenus() {
-        if (level instanceof ServerLevel serverLevel) {
-            for (net.minecraft.server.level.ServerPlayer player : serverLevel.players()) {
-                if (player.containerMenu instanceof com.quackers29.businesscraft.menu.TownInterfaceMenu menu) {
-                    if (getBlockPos().equals(menu.getBlockPos())) {
-                        menu.refreshDataSlots();
-                    }
-                }
-            }
+        for (TownInterfaceMenu menu : TownInterfaceMenu.getOpenMenus(level, getBlockPos())) {
+            menu.refreshDataSlots();
         }
     }
 
@@ -821,37 +991,45 @@ public ViewModelCache getVmCache() {
     public CompoundTag getUpdateTag() {
         DebugConfig.debug(LOGGER, DebugConfig.PLATFORM_SYSTEM, "[PLATFORM] getUpdateTag called on SERVER");
         CompoundTag tag = super.getUpdateTag();
-        if (townId != null) {
-            tag.putUUID("TownId", townId);
-        }
-
-        String freshTownName = getTownName();
-        tag.putString("name", freshTownName != null ? freshTownName : "");
-
-        tag.putInt("searchRadius", getSearchRadius());
-
-        syncResourcesForClient(tag);
-
-        platformManager.saveToNBT(tag);
-
+        writeClientSyncSections(tag, ClientSyncSections.Section.ALL, getTownDataProvider());
         return tag;
     }
 
     /**
-     * Adds resource data to the provided tag for client-side rendering
-     * This centralizes our resource serialization logic in one place
+     * Writes the given sections of what clients render from: town id, name, search
+     * radius, resources, wants, escrow, visit history and platforms
      */
-    private void syncResourcesForClient(CompoundTag tag) {
-        ITownDataProvider provider = getTownDataProvider();
-        if (provider != null) {
-            clientSyncHelper.syncResourcesForClient(tag, provider);
+    private void writeClientSyncSections(CompoundTag tag, int sections, ITownDataProvider provider) {
+        if (ClientSyncSections.Section.INFO.isIn(sections)) {
+            if (townId != null) {
+                tag.putUUID("TownId", townId);
+            }
 
+            String freshTownName = getTownName();
+            tag.putString("name", freshTownName != null ? freshTownName : "");
+
+            tag.putInt("searchRadius", getSearchRadius());
+        }
+
+        if (provider != null) {
+            if (ClientSyncSections.Section.RESOURCES.isIn(sections)) {
+                clientSyncHelper.syncResourcesForClient(tag, provider);
+            }
             if (provider instanceof Town town) {
-                clientSyncHelper.syncWantedResourcesForClient(tag, town);
-                clientSyncHelper.syncEscrowedResourcesForClient(tag, town);
+                if (ClientSyncSections.Section.WANTS.isIn(sections)) {
+                    clientSyncHelper.syncWantedResourcesForClient(tag, town);
+                }
+                if (ClientSyncSections.Section.ESCROW.isIn(sections)) {
+                    clientSyncHelper.syncEscrowedResourcesForClient(tag, town);
+                }
+            }
+            if (ClientSyncSections.Section.HISTORY.isIn(sections)) {
+                clientSyncHelper.syncVisitHistoryForClient(tag, provider, level);
             }
+        }
 
-            clientSyncHelper.syncVisitHistoryForClient(tag, provider, level);
+        if (ClientSyncSections.Section.PLATFORMS.isIn(sections)) {
+            platformManager.saveToNBT(tag);
         }
     }
 
@@ -969,7 +1147,6 @@ public ViewModelCache getVmCache() {
                 syncTradingViewModelToNearbyPlayers();
             }
 
-            level.sendBlockUpdated(getBlockPos(), getBlockState(), getBlockState(), Block.UPDATE_ALL);
             setChanged();
         }
     }
@@ -992,7 +1169,7 @@ public ViewModelCache getVmCache() {
         if (pathStart == null || pathEnd == null)
             return;
 
-        int mounted = touristVehicleManager.mountTouristsToVehicles(level, pathStart, pathEnd, searchRadius, townId);
+        int mounted = TOURIST_VEHICLE_MANAGER.mountTouristsToVehicles(level, pathStart, pathEnd, searchRadius, townId);
         if (mounted > 0) {
             DebugConfig.debug(LOGGER, DebugConfig.TOWN_BLOCK_ENTITY, "Mounted {} tourists to vehicles for town {}",
                     mounted, name);
@@ -1026,13 +1203,12 @@ public ViewModelCache getVmCache() {
             Town town = TownManager.get(sLevel).getTown(townId);
             if (town != null) {
                 town.setSearchRadius(this.searchRadius);
-                TownManager.get(sLevel).markDirty();
+                town.markDirty();
             }
         }
 
         if (level != null && !level.isClientSide()) {
             containerData.markDirty("search_radius");
-            level.sendBlockUpdated(getBlockPos(), getBlockState(), getBlockState(), Block.UPDATE_ALL);
         }
 
         setChanged();
@@ -1071,13 +1247,11 @@ public ViewModelCache getVmCache() {
         Map<UUID, String> result = new HashMap<>();
 
         TownManager townManager = TownManager.get(serverLevel);
-        Map<UUID, Town> allTowns = townManager.getAllTowns();
-
-        allTowns.forEach((id, town) -> {
-            if (!id.equals(townId)) {
-                result.put(id, town.getName());
+        for (com.quackers29.businesscraft.town.TownHeader header : townManager.getTownHeaders()) {
+            if (!header.id().equals(townId)) {
+                result.put(header.id(), header.name());
             }
-        });
+        }
 
         return result;
     }
@@ -1145,8 +1319,6 @@ public ViewModelCache getVmCache() {
                                 stack.shrink(1);
                                 ContractBoard.get(sLevel).processCourierDelivery(contractId, 1L);
                                 setChanged();
-                                level.sendBlockUpdated(getBlockPos(), getBlockState(), getBlockState(),
-                                        Block.UPDATE_ALL);
                                 return;
                             }
                         }
@@ -1168,7 +1340,6 @@ public ViewModelCache getVmCache() {
     @Override
     public void setRemoved() {
         super.setRemoved();
-        touristVehicleManager.clearTrackedVehicles();
         visitorProcessingHelper.clearAll();
         clientSyncHelper.clearAll();
         platformIndicatorSpawnTimes.clear();
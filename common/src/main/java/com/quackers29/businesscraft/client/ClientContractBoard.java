@@ -0,0 +1,100 @@
+package com.quackers29.businesscraft.client;
+
+import com.quackers29.businesscraft.contract.Contract;
+import com.quackers29.businesscraft.debug.DebugConfig;
+import net.minecraft.nbt.CompoundTag;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Client copy of the server contract board, kept current from a snapshot
+ * (ContractSyncPacket) plus per-tick deltas (ContractDeltaPacket).
+ */
+public class ClientContractBoard {
+    private static final ClientContractBoard INSTANCE = new ClientContractBoard();
+    private static final org.slf4j.Logger LOGGER = org.slf4j.LoggerFactory.getLogger(ClientContractBoard.class);
+
+    private final Map<UUID, Contract> contracts = new LinkedHashMap<>();
+    private long version = -1; // -1 until the first snapshot
+    private boolean resyncRequested = false;
+
+    private ClientContractBoard() {
+    }
+
+    public static ClientContractBoard get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Forgets the board; called when the client leaves its level or disconnects.
+     */
+    public void reset() {
+        contracts.clear();
+        version = -1;
+        resyncRequested = false;
+    }
+
+    public void applySnapshot(long version, List<Contract> snapshot) {
+        contracts.clear();
+        for (Contract contract : snapshot) {
+            contracts.put(contract.getId(), contract);
+        }
+        this.version = version;
+        resyncRequested = false;
+    }
+
+    /**
+     * @return false if the delta does not follow the held version; it is dropped and the
+     *         caller should {@link #requestResync()}
+     */
+    public boolean applyDelta(long baseVersion, long newVersion, List<Contract> added,
+            Map<UUID, CompoundTag> updated, List<UUID> removed) {
+        if (version < 0 || baseVersion != version) {
+            DebugConfig.debug(LOGGER, DebugConfig.NETWORK_PACKETS,
+                    "[CLIENT] Dropping contract delta {} -> {} (holding version {})", baseVersion, newVersion, version);
+            return false;
+        }
+
+        for (Contract contract : added) {
+            contracts.put(contract.getId(), contract);
+        }
+        updated.forEach((id, state) -> {
+            Contract contract = contracts.get(id);
+            if (contract != null) {
+                contract.loadState(state);
+            }
+        });
+        for (UUID id : removed) {
+            contracts.remove(id);
+        }
+        version = newVersion;
+        return true;
+    }
+
+    /**
+     * Asks the server for a new snapshot, once per dropped run of deltas: further deltas
+     * dropped before the snapshot arrives do not repeat the request.
+     */
+    public void requestResync() {
+        if (resyncRequested) {
+            return;
+        }
+        resyncRequested = true;
+        DebugConfig.debug(LOGGER, DebugConfig.NETWORK_PACKETS, "[CLIENT] Requesting contract snapshot (holding version {})",
+                version);
+        com.quackers29.businesscraft.api.PlatformAccess.getNetworkMessages().sendToServer(
+                new com.quackers29.businesscraft.network.packets.ui.ContractResyncRequestPacket(version));
+    }
+
+    public List<Contract> getContracts() {
+        return new ArrayList<>(contracts.values());
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
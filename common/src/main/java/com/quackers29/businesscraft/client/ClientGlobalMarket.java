@@ -41,6 +41,16 @@ public class ClientGlobalMarket {
         }
     }
 
+    /**
+     * Merges changed prices into the cache without dropping the others.
+     */
+    @Deprecated
+    public void putPrices(Map<String, Float> changedPrices) {
+        if (changedPrices != null) {
+            prices.putAll(changedPrices);
+        }
+    }
+
     @Deprecated
     public float getPrice(String resourceId) {
         return prices.getOrDefault(resourceId, 1.0f);
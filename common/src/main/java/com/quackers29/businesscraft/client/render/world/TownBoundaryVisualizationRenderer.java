@@ -3,8 +3,6 @@ package com.quackers29.businesscraft.client.render.world;
 import com.quackers29.businesscraft.api.RenderHelper;
 import com.quackers29.businesscraft.block.entity.TownInterfaceEntity;
 import com.quackers29.businesscraft.api.PlatformAccess;
-import com.quackers29.businesscraft.network.packets.ui.BoundarySyncRequestPacket;
-import com.quackers29.businesscraft.debug.DebugConfig;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -18,16 +16,15 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
-/** Renders circular town boundaries from server-synced radius; integrates with {@link VisualizationManager}. */
+/**
+ * Renders circular town boundaries from server-synced radius; integrates with {@link VisualizationManager}.
+ * The radius is requested once when a visualization opens; later changes are pushed by the server.
+ */
 public class TownBoundaryVisualizationRenderer extends WorldVisualizationRenderer {
     private static final Logger LOGGER = LoggerFactory.getLogger(TownBoundaryVisualizationRenderer.class);
 
     private static final LineRenderer3D.Color BOUNDARY_COLOR = LineRenderer3D.Color.GREEN;
 
-    // Global sync tracking (shared across all boundary visualizations)
-    private static long lastGlobalSyncTime = 0;
-    private static final long GLOBAL_SYNC_INTERVAL_MS = 2000;
-
     // Registry to track active boundary data by position
     private static final Map<BlockPos, TownBoundaryVisualizationData> activeBoundaryData = new ConcurrentHashMap<>();
 
@@ -149,33 +146,6 @@ public class TownBoundaryVisualizationRenderer extends WorldVisualizationRendere
 
         // Clean up expired boundary visualizations
         manager.cleanupExpired(VisualizationManager.TYPE_TOWN_BOUNDARY);
-
-        // Periodically request boundary sync for all active visualizations
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastGlobalSyncTime >= GLOBAL_SYNC_INTERVAL_MS) {
-            requestBoundaryUpdatesForActiveVisualizations(level);
-            lastGlobalSyncTime = currentTime;
-        }
-    }
-
-    private void requestBoundaryUpdatesForActiveVisualizations(Level level) {
-        VisualizationManager manager = VisualizationManager.getInstance();
-
-        // Get all active boundary visualizations and request updates
-        List<VisualizationManager.VisualizationEntry> activeEntries = manager
-                .getActiveVisualizations(VisualizationManager.TYPE_TOWN_BOUNDARY);
-
-        for (VisualizationManager.VisualizationEntry entry : activeEntries) {
-            BlockPos pos = entry.getPosition();
-            PlatformAccess.getNetworkMessages().sendToServer(new BoundarySyncRequestPacket(pos));
-            DebugConfig.debug(LOGGER, DebugConfig.UI_MANAGERS,
-                    "Requested boundary sync for active town at {}", pos);
-        }
-
-        if (!activeEntries.isEmpty()) {
-            DebugConfig.debug(LOGGER, DebugConfig.UI_MANAGERS,
-                    "Sent {} boundary sync requests to server", activeEntries.size());
-        }
     }
 
     @Override
@@ -186,6 +156,10 @@ public class TownBoundaryVisualizationRenderer extends WorldVisualizationRendere
 
     public static void updateBoundaryRadius(BlockPos pos, int radius) {
         TownBoundaryVisualizationData data = activeBoundaryData.get(pos);
+        if (data == null && isTownBoundaryVisualizationActive(pos)) {
+            // Response to the request sent on open can arrive before the first frame
+            data = activeBoundaryData.computeIfAbsent(pos, TownBoundaryVisualizationData::new);
+        }
         if (data != null) {
             data.updateBoundaryRadius(radius);
         }
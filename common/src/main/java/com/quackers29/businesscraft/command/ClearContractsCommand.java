@@ -3,7 +3,6 @@ package com.quackers29.businesscraft.command;
 import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.context.CommandContext;
 import com.quackers29.businesscraft.contract.ContractBoard;
-import com.quackers29.businesscraft.data.ContractSavedData;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.network.chat.Component;
@@ -30,13 +29,7 @@ public class ClearContractsCommand {
 
             int totalCleared = 0;
             for (ContractBoard instanceBoard : instances.values()) {
-                java.lang.reflect.Field savedDataField = ContractBoard.class.getDeclaredField("savedData");
-                savedDataField.setAccessible(true);
-                ContractSavedData savedData = (ContractSavedData) savedDataField.get(instanceBoard);
-
-                totalCleared += savedData.getContracts().size();
-                savedData.getContracts().clear();
-                savedData.setDirty();
+                totalCleared += instanceBoard.clearContracts();
             }
 
             final int finalTotalCleared = totalCleared;
@@ -79,6 +79,15 @@ public class ConfigLoader {
     public static boolean contractsEnabled = true;
     public static boolean researchEnabled = true;
 
+    // Performance config
+    public static int townTickBuckets = 4;
+    public static double townTickBudgetMs = 5.0;
+    public static String productionMode = "tick"; // "tick" or "analytic"
+    public static int viewModelSyncRadius = 64;
+    public static boolean perTownStorage = false;
+    public static boolean lazyTownLoading = false;
+    public static int townIdleUnloadSeconds = 0;
+
     public static final ConfigLoader INSTANCE = new ConfigLoader();
 
     private ConfigLoader() {
@@ -179,6 +188,15 @@ public class ConfigLoader {
                 // Player settings
                 playerTracking = config.getOrElse("player.playerTracking", true);
                 townBoundaryMessages = config.getOrElse("player.townBoundaryMessages", true);
+
+                // Performance settings
+                townTickBuckets = config.getIntOrElse("performance.townTickBuckets", 4);
+                townTickBudgetMs = config.<Number>getOrElse("performance.townTickBudgetMs", 5.0).doubleValue();
+                productionMode = config.getOrElse("performance.productionMode", "tick");
+                viewModelSyncRadius = config.getIntOrElse("performance.viewModelSyncRadius", 64);
+                perTownStorage = config.getOrElse("performance.perTownStorage", false);
+                lazyTownLoading = config.getOrElse("performance.lazyTownLoading", false);
+                townIdleUnloadSeconds = config.getIntOrElse("performance.townIdleUnloadSeconds", 0);
             }
 
             // Load registries after config
@@ -349,6 +367,22 @@ public class ConfigLoader {
                 config.set("research.enabled", researchEnabled);
                 config.setComment("research.enabled", "Enable research/upgrade system");
 
+                // Performance settings
+                config.set("performance.townTickBuckets", townTickBuckets);
+                config.setComment("performance.townTickBuckets", " Spread town updates over this many ticks (1 = every town every tick)");
+                config.set("performance.townTickBudgetMs", townTickBudgetMs);
+                config.setComment("performance.townTickBudgetMs", " Max milliseconds per tick spent updating towns (0 = unlimited)");
+                config.set("performance.productionMode", productionMode);
+                config.setComment("performance.productionMode", " Production simulation: \"tick\" (evaluate recipes every tick) or \"analytic\" (only at completions and town changes)");
+                config.set("performance.viewModelSyncRadius", viewModelSyncRadius);
+                config.setComment("performance.viewModelSyncRadius", " Players within this many blocks of a town block receive its town screen and trading data (players with the town menu open receive the screen data at any distance)");
+                config.set("performance.perTownStorage", perTownStorage);
+                config.setComment("performance.perTownStorage", " Save each town as its own file and only rewrite towns that changed");
+                config.set("performance.lazyTownLoading", lazyTownLoading);
+                config.setComment("performance.lazyTownLoading", " Load a town's full data only when it is first needed (requires perTownStorage)");
+                config.set("performance.townIdleUnloadSeconds", townIdleUnloadSeconds);
+                config.setComment("performance.townIdleUnloadSeconds", " Unload a town unused for this many seconds while its town block is unloaded (0 = never, requires perTownStorage)");
+
                 config.save();
             }
 
@@ -149,6 +149,59 @@ public abstract class Contract {
         loadAdditional(tag);
     }
 
+    /**
+     * Writes only the fields that change after creation (expiry, completion, bids and the
+     * subclass lifecycle fields). Used for contract deltas sent to clients that already
+     * hold the full contract.
+     */
+    public void saveState(CompoundTag tag) {
+        tag.putLong("expiryTime", expiryTime);
+        tag.putBoolean("isCompleted", isCompleted);
+
+        net.minecraft.nbt.ListTag bidsList = new net.minecraft.nbt.ListTag();
+        for (Map.Entry<UUID, Float> entry : bids.entrySet()) {
+            CompoundTag bidTag = new CompoundTag();
+            bidTag.putUUID("bidder", entry.getKey());
+            bidTag.putFloat("amount", entry.getValue());
+            String name = bidderNames.get(entry.getKey());
+            if (name != null) {
+                bidTag.putString("name", name);
+            }
+            bidsList.add(bidTag);
+        }
+        tag.put("bids", bidsList);
+
+        saveStateAdditional(tag);
+    }
+
+    /**
+     * Applies a tag written by {@link #saveState(CompoundTag)}.
+     */
+    public void loadState(CompoundTag tag) {
+        expiryTime = tag.getLong("expiryTime");
+        isCompleted = tag.getBoolean("isCompleted");
+
+        bids.clear();
+        bidderNames.clear();
+        net.minecraft.nbt.ListTag bidsList = tag.getList("bids", 10);
+        for (int i = 0; i < bidsList.size(); i++) {
+            CompoundTag bidTag = bidsList.getCompound(i);
+            UUID bidder = bidTag.getUUID("bidder");
+            bids.put(bidder, bidTag.getFloat("amount"));
+            if (bidTag.contains("name")) {
+                bidderNames.put(bidder, bidTag.getString("name"));
+            }
+        }
+
+        loadStateAdditional(tag);
+    }
+
+    protected void saveStateAdditional(CompoundTag tag) {
+    }
+
+    protected void loadStateAdditional(CompoundTag tag) {
+    }
+
     protected abstract void saveAdditional(CompoundTag tag);
 
     protected abstract void loadAdditional(CompoundTag tag);
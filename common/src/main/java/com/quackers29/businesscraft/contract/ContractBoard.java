@@ -20,10 +20,24 @@ public class ContractBoard {
 
     private final ContractSavedData savedData;
     private final ServerLevel level;
+    private final ContractIndex index = new ContractIndex();
+    // Completed sell contracts whose remaining quantity has not been handed to the buyer yet
+    private final java.util.ArrayDeque<SellContract> pendingDeliveries = new java.util.ArrayDeque<>();
+    private final ContractJournal journal = new ContractJournal();
+    // Players holding a client copy of the board -> journal version they last received
+    private final Map<UUID, Long> viewerVersions = new HashMap<>();
+    // Resources whose market price may have moved since the last flush
+    private final java.util.Set<String> changedPriceResources = new java.util.HashSet<>();
 
     private ContractBoard(ServerLevel level) {
         this.level = level;
         this.savedData = ContractSavedData.get(level);
+        this.index.rebuild(savedData.getContracts());
+        for (Contract contract : index.getByState(ContractIndex.State.COMPLETED)) {
+            if (contract instanceof SellContract sc && !sc.isDelivered()) {
+                pendingDeliveries.add(sc);
+            }
+        }
     }
 
     public static ContractBoard get(ServerLevel level) {
@@ -36,33 +50,78 @@ public class ContractBoard {
 
     public void addContract(Contract contract) {
         savedData.getContracts().add(contract);
+        index.add(contract);
         savedData.setDirty();
-        broadcastUpdate();
+        journal.recordAdded(contract.getId());
+        touchPrice(contract);
     }
 
     public void removeContract(UUID contractId) {
-        savedData.getContracts().removeIf(c -> c.getId().equals(contractId));
+        Contract removed = index.remove(contractId);
+        if (removed != null) {
+            savedData.getContracts().remove(removed);
+            journal.recordRemoved(contractId);
+            touchPrice(removed);
+        }
         savedData.setDirty();
-        broadcastUpdate();
     }
 
+    /**
+     * Call after mutating a contract outside the board so its index entries stay current
+     * and viewers receive the change.
+     */
     public void updateContract(Contract contract) {
+        index.reindex(contract);
         savedData.setDirty();
+        markChanged(contract);
     }
 
-    public Contract getContract(UUID contractId) {
-        for (Contract c : savedData.getContracts()) {
-            if (c.getId().equals(contractId)) {
-                return c;
-            }
+    /**
+     * @return the number of contracts removed
+     */
+    public int clearContracts() {
+        int count = savedData.getContracts().size();
+        for (Contract contract : savedData.getContracts()) {
+            journal.recordRemoved(contract.getId());
         }
-        return null;
+        savedData.getContracts().clear();
+        index.clear();
+        pendingDeliveries.clear();
+        savedData.setDirty();
+        return count;
+    }
+
+    public Contract getContract(UUID contractId) {
+        return index.get(contractId);
     }
 
     public List<Contract> getContracts() {
         return Collections.unmodifiableList(savedData.getContracts());
     }
 
+    public java.util.Collection<Contract> getContractsByIssuer(UUID townId) {
+        return index.getByIssuer(townId);
+    }
+
+    public java.util.Collection<Contract> getContractsByHighestBidder(UUID townId) {
+        return index.getByHighestBidder(townId);
+    }
+
+    /**
+     * @return contracts delivering to the town (won sell auctions, courier jobs bound for it)
+     */
+    public java.util.Collection<Contract> getContractsByReceiver(UUID townId) {
+        return index.getByReceiver(townId);
+    }
+
+    public java.util.Collection<Contract> getContractsByResource(String resourceId) {
+        return index.getByResource(resourceId);
+    }
+
+    public java.util.Collection<Contract> getContractsInState(ContractIndex.State state) {
+        return index.getByState(state);
+    }
+
     public float getMarketPrice(String resourceId) {
         return com.quackers29.businesscraft.economy.GlobalMarket.get().getPrice(resourceId);
     }
@@ -87,15 +146,19 @@ public class ContractBoard {
     }
 
     public void tick(ServerLevel level) {
-        closeAuctions();
+        long now = System.currentTimeMillis();
+        if (index.nextDeadline() < now || !pendingDeliveries.isEmpty()) {
+            closeAuctions(now);
 
-        for (Contract contract : savedData.getContracts()) {
-            if (contract instanceof SellContract sc) {
-                if (sc.isCompleted() && !sc.isDelivered()) {
+            while (!pendingDeliveries.isEmpty()) {
+                SellContract sc = pendingDeliveries.poll();
+                if (index.get(sc.getId()) == sc && sc.isCompleted() && !sc.isDelivered()) {
                     processContractDelivery(sc, level);
                 }
             }
         }
+
+        flushUpdates();
     }
 
     public void processCourierDelivery(UUID contractId, long amount) {
@@ -104,7 +167,7 @@ public class ContractBoard {
         if (contract instanceof SellContract sc) {
             sc.addDeliveredAmount(amount);
             savedData.setDirty();
-            broadcastUpdate();
+            markChanged(sc);
 
             com.quackers29.businesscraft.town.TownManager manager = com.quackers29.businesscraft.town.TownManager
                     .get(level);
@@ -121,8 +184,10 @@ public class ContractBoard {
             if (sc.isDeliveryComplete() && !sc.isCompleted()) {
                 sc.complete();
                 sc.expireNow();
+                index.reindex(sc);
+                pendingDeliveries.add(sc);
                 savedData.setDirty();
-                broadcastUpdate();
+                markChanged(sc);
 
                 com.quackers29.businesscraft.town.TownManager townManager = com.quackers29.businesscraft.town.TownManager
                         .get(level);
@@ -158,7 +223,7 @@ public class ContractBoard {
         else if (contract instanceof CourierContract cc) {
             cc.addDeliveredAmount(amount);
             savedData.setDirty();
-            broadcastUpdate();
+            markChanged(cc);
 
             com.quackers29.businesscraft.town.TownManager manager = com.quackers29.businesscraft.town.TownManager
                     .get(level);
@@ -174,8 +239,9 @@ public class ContractBoard {
 
             if (cc.isDelivered()) {
                 cc.complete();
+                index.reindex(cc);
                 savedData.setDirty();
-                broadcastUpdate();
+                markChanged(cc);
 
                 com.quackers29.businesscraft.town.TownManager townManager = com.quackers29.businesscraft.town.TownManager
                         .get(level);
@@ -242,6 +308,7 @@ public class ContractBoard {
                 * com.quackers29.businesscraft.config.ConfigLoader.contractCourierDeliveryMinutesPerMeter * 60000L);
 
         sc.extendExpiry(deliveryDuration);
+        index.reindex(sc);
 
         String destTownName = sc.getWinningTownName() != null ? sc.getWinningTownName() : "Unknown";
         net.minecraft.world.item.ItemStack contractItem = com.quackers29.businesscraft.util.ContractItemHelper
@@ -267,16 +334,25 @@ public class ContractBoard {
         }
 
         savedData.setDirty();
-        broadcastUpdate();
+        markChanged(sc);
     }
 
-    private void closeAuctions() {
+    /**
+     * Runs the time-driven transitions (auction close, snail-mail fallback, snail-mail
+     * completion) for contracts whose expiry has passed. Only contracts popped from the
+     * index's deadline queue are visited; each transition that sets a new expiry
+     * re-queues the contract through reindex.
+     */
+    private void closeAuctions(long now) {
+        List<Contract> expired = index.pollExpired(now);
+        if (expired.isEmpty()) {
+            return;
+        }
+
         com.quackers29.businesscraft.town.TownManager townManager = com.quackers29.businesscraft.town.TownManager
                 .get(level);
 
-        List<Contract> contractsCopy = new ArrayList<>(savedData.getContracts());
-
-        for (Contract contract : contractsCopy) {
+        for (Contract contract : expired) {
             if (contract instanceof SellContract sc) {
                 if (sc.isExpired() && !sc.isCompleted() && sc.getWinningTownId() == null) {
                     if (!sc.getBids().isEmpty()) {
@@ -323,8 +399,10 @@ public class ContractBoard {
                             sc.extendExpiry(
                                     (long) (com.quackers29.businesscraft.config.ConfigLoader.contractCourierAcceptanceMinutes
                                             * 60000L));
+                            index.reindex(sc);
 
                             savedData.setDirty();
+                            markChanged(sc);
                         }
                     } else {
                         com.quackers29.businesscraft.town.Town sellerTown = townManager.getTown(sc.getIssuerTownId());
@@ -363,16 +441,19 @@ public class ContractBoard {
                             * 60000L);
 
                     sc.extendExpiry(smDuration);
+                    index.reindex(sc);
 
                     DebugConfig.debug(LOGGER, DebugConfig.TOWN_DATA_SYSTEMS,
                             "Contract {} assigned to Snail Mail (courier acceptance expired)", sc.getId());
                     savedData.setDirty();
-                    broadcastUpdate();
+                    markChanged(sc);
                 }
                 else if (sc.isSnailMail() && sc.isExpired() && !sc.isCompleted()) {
                     sc.complete();
+                    index.reindex(sc);
+                    pendingDeliveries.add(sc);
                     savedData.setDirty();
-                    broadcastUpdate();
+                    markChanged(sc);
                 }
             }
         }
@@ -381,6 +462,7 @@ public class ContractBoard {
     private void processContractDelivery(SellContract sc, ServerLevel level) {
         sc.setDelivered(true);
         savedData.setDirty();
+        markChanged(sc);
 
         com.quackers29.businesscraft.town.TownManager townManager = com.quackers29.businesscraft.town.TownManager
                 .get(level);
@@ -439,6 +521,7 @@ public class ContractBoard {
                 int totalCost = (int) roundedAmount + courierCost;
 
                 contract.addBid(bidder, bidderTown.getName(), roundedAmount);
+                index.reindex(contract);
 
                 bidderTown.addResource(net.minecraft.world.item.Items.EMERALD, -totalCost);
                 bidderTown.addEscrowResource(net.minecraft.world.item.Items.EMERALD, totalCost);
@@ -456,7 +539,7 @@ public class ContractBoard {
                 }
 
                 savedData.setDirty();
-                broadcastUpdate();
+                markChanged(contract);
             } else if (contract instanceof CourierContract cc) {
                 if (!cc.isAccepted() && !cc.isExpired()) {
                     net.minecraft.server.level.ServerPlayer player = level.getServer().getPlayerList()
@@ -496,6 +579,7 @@ public class ContractBoard {
                             * 60000L);
 
                     cc.extendExpiry(deliveryDuration);
+                    index.reindex(cc);
 
                     if (cc.getResourceId() != null) {
                         String destTownName = "Unknown";
@@ -530,7 +614,7 @@ public class ContractBoard {
                     }
 
                     savedData.setDirty();
-                    broadcastUpdate();
+                    markChanged(cc);
                 }
             }
         }
@@ -545,16 +629,130 @@ public class ContractBoard {
         return (int) Math.ceil(distance / 10.0);
     }
 
-    private void broadcastUpdate() {
+    /**
+     * Sends the player the whole board and starts sending them per-tick deltas.
+     */
+    public void sendSnapshot(net.minecraft.server.level.ServerPlayer player) {
         try {
             if (PlatformAccess.getNetworkMessages() != null) {
-                Map<String, Float> prices = getAllMarketPrices();
-                PlatformAccess.getNetworkMessages().sendToAllPlayers(
+                PlatformAccess.getNetworkMessages().sendToPlayer(
                         new com.quackers29.businesscraft.network.packets.ui.ContractSyncPacket(
-                                savedData.getContracts(), prices));
+                                journal.getVersion(), savedData.getContracts(), getAllMarketPrices()),
+                        player);
+                viewerVersions.put(player.getUUID(), journal.getVersion());
             }
         } catch (Exception e) {
-            LOGGER.error("Failed to broadcast contract update", e);
+            LOGGER.error("Failed to send contract snapshot", e);
         }
     }
+
+    /**
+     * Sends the player a fresh snapshot, replacing whatever version they were at, so a
+     * stale entry left from an earlier screen cannot hold back their view.
+     */
+    public void subscribe(net.minecraft.server.level.ServerPlayer player) {
+        sendSnapshot(player);
+    }
+
+    /**
+     * Answers a client that dropped a delta it could not apply. Ignored for players not
+     * looking at a board of this level.
+     */
+    public void resync(net.minecraft.server.level.ServerPlayer player) {
+        if (isViewing(player)) {
+            sendSnapshot(player);
+        }
+    }
+
+    private void markChanged(Contract contract) {
+        journal.recordUpdated(contract.getId());
+        touchPrice(contract);
+    }
+
+    private void touchPrice(Contract contract) {
+        String resourceId = contract instanceof SellContract sc ? sc.getResourceId()
+                : contract instanceof CourierContract cc ? cc.getResourceId() : null;
+        if (resourceId != null) {
+            changedPriceResources.add(resourceId);
+        }
+    }
+
+    /**
+     * Sends this tick's coalesced changes as one delta per viewer. Viewers that are not at
+     * the delta's base version (or whose client copy was dropped) get a snapshot instead;
+     * players no longer looking at a contract or town screen in this level stop receiving
+     * updates.
+     */
+    private void flushUpdates() {
+        ContractJournal.Batch batch = journal.flush();
+        if (batch == null) {
+            return;
+        }
+        java.util.Set<String> priceResources = new java.util.HashSet<>(changedPriceResources);
+        changedPriceResources.clear();
+        if (viewerVersions.isEmpty()) {
+            return;
+        }
+
+        try {
+            if (PlatformAccess.getNetworkMessages() == null) {
+                return;
+            }
+
+            List<Contract> added = new ArrayList<>(batch.added().size());
+            for (UUID id : batch.added()) {
+                Contract contract = index.get(id);
+                if (contract != null) {
+                    added.add(contract);
+                }
+            }
+            List<Contract> updated = new ArrayList<>(batch.updated().size());
+            for (UUID id : batch.updated()) {
+                Contract contract = index.get(id);
+                if (contract != null) {
+                    updated.add(contract);
+                }
+            }
+            Map<String, Float> prices = new HashMap<>();
+            Map<String, Float> estimated = com.quackers29.businesscraft.production.ProductionRegistry
+                    .getAllEstimatedValues();
+            Map<String, Float> market = com.quackers29.businesscraft.economy.GlobalMarket.get().getPrices();
+            for (String resourceId : priceResources) {
+                Float price = market.containsKey(resourceId) ? market.get(resourceId) : estimated.get(resourceId);
+                if (price != null) {
+                    prices.put(resourceId, price);
+                }
+            }
+
+            com.quackers29.businesscraft.network.packets.ui.ContractDeltaPacket delta = new com.quackers29.businesscraft.network.packets.ui.ContractDeltaPacket(
+                    batch.baseVersion(), batch.version(), added, updated, batch.removed(), prices);
+
+            java.util.Iterator<Map.Entry<UUID, Long>> it = viewerVersions.entrySet().iterator();
+            List<net.minecraft.server.level.ServerPlayer> resync = new ArrayList<>();
+            while (it.hasNext()) {
+                Map.Entry<UUID, Long> entry = it.next();
+                net.minecraft.server.level.ServerPlayer player = level.getServer().getPlayerList()
+                        .getPlayer(entry.getKey());
+                if (player == null || !isViewing(player)) {
+                    it.remove();
+                } else if (entry.getValue() == batch.baseVersion()) {
+                    PlatformAccess.getNetworkMessages().sendToPlayer(delta, player);
+                    entry.setValue(batch.version());
+                } else {
+                    resync.add(player);
+                }
+            }
+            for (net.minecraft.server.level.ServerPlayer player : resync) {
+                sendSnapshot(player);
+            }
+        } catch (Exception e) {
+            LOGGER.error("Failed to send contract updates", e);
+        }
+    }
+
+    // Journals of different levels share version numbers, so viewers must be in this level
+    private boolean isViewing(net.minecraft.server.level.ServerPlayer player) {
+        return player.level() == level && (player.containerMenu instanceof com.quackers29.businesscraft.menu.ContractBoardMenu
+                || player.containerMenu instanceof com.quackers29.businesscraft.menu.TownInterfaceMenu);
+    }
 }
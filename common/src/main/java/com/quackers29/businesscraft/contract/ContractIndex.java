@@ -0,0 +1,253 @@
+package com.quackers29.businesscraft.contract;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Hash indexes over the contracts held by a {@link ContractBoard}.
+ *
+ * Besides the id lookup, each contract is filed under its issuer town, current highest
+ * bidder, receiving town (auction winner / courier destination), resource id and
+ * {@link State}. Those keys are derived from mutable contract fields, so the board calls
+ * {@link #reindex(Contract)} after every bid, award, courier assignment or completion.
+ *
+ * Expiry is time-based, so it is not a lookup key. Instead every contract that is not
+ * completed sits in a deadline queue ordered by expiry time; {@link #pollExpired(long)}
+ * hands out only the contracts whose deadline has passed. Entries left behind by an
+ * expiry change are discarded lazily when they reach the head of the queue.
+ *
+ * Returned collections are live, unmodifiable views - copy them before mutating the board
+ * while iterating.
+ */
+public class ContractIndex {
+
+    /** Lifecycle phase, derived from contract fields (not from time). */
+    public enum State {
+        OPEN, // Sell auction still taking bids
+        AWARDED, // Waiting for a courier (sell auction won, or courier job not yet accepted)
+        IN_TRANSIT, // Courier (player or snail mail) assigned
+        COMPLETED
+    }
+
+    // Keys a contract is currently filed under, so reindexing can remove the stale ones
+    private record Keys(UUID issuer, UUID highestBidder, UUID receiver, String resourceId, State state,
+            long expiryTime) {
+    }
+
+    private record Deadline(long time, Contract contract) {
+    }
+
+    private final Map<UUID, Contract> byId = new LinkedHashMap<>();
+    private final Map<UUID, Keys> keys = new HashMap<>();
+    private final Map<UUID, Set<Contract>> byIssuer = new HashMap<>();
+    private final Map<UUID, Set<Contract>> byHighestBidder = new HashMap<>();
+    private final Map<UUID, Set<Contract>> byReceiver = new HashMap<>();
+    private final Map<String, Set<Contract>> byResource = new HashMap<>();
+    private final Map<State, Set<Contract>> byState = new EnumMap<>(State.class);
+    private final PriorityQueue<Deadline> deadlines = new PriorityQueue<>(
+            (a, b) -> Long.compare(a.time(), b.time()));
+
+    public static State stateOf(Contract contract) {
+        if (contract.isCompleted()) {
+            return State.COMPLETED;
+        }
+        if (contract instanceof SellContract sc) {
+            if (!sc.isAuctionClosed()) {
+                return State.OPEN;
+            }
+            return sc.isCourierAssigned() ? State.IN_TRANSIT : State.AWARDED;
+        }
+        if (contract instanceof CourierContract cc) {
+            return cc.isAccepted() ? State.IN_TRANSIT : State.AWARDED;
+        }
+        return State.OPEN;
+    }
+
+    private static UUID receiverOf(Contract contract) {
+        if (contract instanceof SellContract sc) {
+            return sc.getWinningTownId();
+        }
+        if (contract instanceof CourierContract cc) {
+            return cc.getDestinationTownId();
+        }
+        return null;
+    }
+
+    private static String resourceOf(Contract contract) {
+        if (contract instanceof SellContract sc) {
+            return sc.getResourceId();
+        }
+        if (contract instanceof CourierContract cc) {
+            return cc.getResourceId();
+        }
+        return null;
+    }
+
+    public void add(Contract contract) {
+        byId.put(contract.getId(), contract);
+        file(contract, null);
+    }
+
+    public Contract remove(UUID contractId) {
+        Contract contract = byId.remove(contractId);
+        if (contract != null) {
+            unfile(contract);
+        }
+        return contract;
+    }
+
+    /**
+     * Re-files a contract after its bidder, winner, courier, expiry or completion changed.
+     * Unknown contracts are ignored.
+     */
+    public void reindex(Contract contract) {
+        if (byId.get(contract.getId()) != contract) {
+            return;
+        }
+        Keys previous = keys.get(contract.getId());
+        Keys current = keysOf(contract);
+        if (current.equals(previous)) {
+            return;
+        }
+        unfile(contract);
+        file(contract, previous);
+    }
+
+    /**
+     * @return the earliest pending expiry time, or Long.MAX_VALUE if nothing is queued.
+     *         Nothing has expired while this is &gt;= now.
+     */
+    public long nextDeadline() {
+        Deadline head = deadlines.peek();
+        return head == null ? Long.MAX_VALUE : head.time();
+    }
+
+    /**
+     * Removes and returns the contracts whose expiry time is before {@code now} (the
+     * same test as {@link Contract#isExpired()}), earliest first. Each deadline is
+     * handed out once; a contract comes back only after its expiry is changed and it is
+     * reindexed.
+     */
+    public List<Contract> pollExpired(long now) {
+        List<Contract> expired = new ArrayList<>();
+        while (!deadlines.isEmpty() && deadlines.peek().time() < now) {
+            Deadline deadline = deadlines.poll();
+            Keys current = keys.get(deadline.contract().getId());
+            if (current != null && byId.get(deadline.contract().getId()) == deadline.contract()
+                    && current.expiryTime() == deadline.time() && current.state() != State.COMPLETED) {
+                expired.add(deadline.contract());
+            }
+        }
+        return expired;
+    }
+
+    public void rebuild(Collection<Contract> contracts) {
+        clear();
+        for (Contract contract : contracts) {
+            add(contract);
+        }
+    }
+
+    public void clear() {
+        byId.clear();
+        keys.clear();
+        byIssuer.clear();
+        byHighestBidder.clear();
+        byReceiver.clear();
+        byResource.clear();
+        byState.clear();
+        deadlines.clear();
+    }
+
+    public Contract get(UUID contractId) {
+        return byId.get(contractId);
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    public Collection<Contract> getByIssuer(UUID townId) {
+        return view(byIssuer.get(townId));
+    }
+
+    public Collection<Contract> getByHighestBidder(UUID townId) {
+        return view(byHighestBidder.get(townId));
+    }
+
+    /**
+     * @return contracts delivering to the town (sell auctions it won, courier jobs bound for it)
+     */
+    public Collection<Contract> getByReceiver(UUID townId) {
+        return view(byReceiver.get(townId));
+    }
+
+    public Collection<Contract> getByResource(String resourceId) {
+        return view(byResource.get(resourceId));
+    }
+
+    public Collection<Contract> getByState(State state) {
+        return view(byState.get(state));
+    }
+
+    private static Keys keysOf(Contract contract) {
+        return new Keys(contract.getIssuerTownId(), contract.getHighestBidder(), receiverOf(contract),
+                resourceOf(contract), stateOf(contract), contract.getExpiryTime());
+    }
+
+    private void file(Contract contract, Keys previous) {
+        Keys k = keysOf(contract);
+        // Queue a deadline only when it is new, so bids and other reindexes don't duplicate it
+        if (k.state() != State.COMPLETED && (previous == null || previous.expiryTime() != k.expiryTime())) {
+            deadlines.add(new Deadline(k.expiryTime(), contract));
+        }
+        keys.put(contract.getId(), k);
+        put(byIssuer, k.issuer(), contract);
+        put(byHighestBidder, k.highestBidder(), contract);
+        put(byReceiver, k.receiver(), contract);
+        put(byResource, k.resourceId(), contract);
+        put(byState, k.state(), contract);
+    }
+
+    private void unfile(Contract contract) {
+        Keys k = keys.remove(contract.getId());
+        if (k == null) {
+            return;
+        }
+        take(byIssuer, k.issuer(), contract);
+        take(byHighestBidder, k.highestBidder(), contract);
+        take(byReceiver, k.receiver(), contract);
+        take(byResource, k.resourceId(), contract);
+        take(byState, k.state(), contract);
+    }
+
+    private static <K> void put(Map<K, Set<Contract>> index, K key, Contract contract) {
+        if (key != null) {
+            index.computeIfAbsent(key, x -> new LinkedHashSet<>()).add(contract);
+        }
+    }
+
+    private static <K> void take(Map<K, Set<Contract>> index, K key, Contract contract) {
+        if (key == null) {
+            return;
+        }
+        Set<Contract> set = index.get(key);
+        if (set != null && set.remove(contract) && set.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static Collection<Contract> view(Set<Contract> set) {
+        return set == null ? Collections.emptySet() : Collections.unmodifiableSet(set);
+    }
+}
@@ -0,0 +1,76 @@
+package com.quackers29.businesscraft.contract;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Versioned change log for a {@link ContractBoard}, used to send clients deltas instead
+ * of the full contract list.
+ *
+ * Changes recorded during a tick are coalesced per contract (an add followed by bids is
+ * still one add, an add followed by a removal cancels out) and handed out as one
+ * {@link Batch} by {@link #flush()}, which advances the board version by one. A client
+ * that holds version {@code batch.baseVersion()} reaches {@code batch.version()} by
+ * applying the batch; any other client needs a full snapshot.
+ */
+public class ContractJournal {
+
+    /**
+     * One tick's worth of changes. Added contracts are sent in full, updated ones as
+     * state only.
+     */
+    public record Batch(long baseVersion, long version, List<UUID> added, List<UUID> updated, List<UUID> removed) {
+    }
+
+    private long version = 0;
+    private final Set<UUID> added = new LinkedHashSet<>();
+    private final Set<UUID> updated = new LinkedHashSet<>();
+    private final Set<UUID> removed = new LinkedHashSet<>();
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void recordAdded(UUID contractId) {
+        removed.remove(contractId);
+        updated.remove(contractId);
+        added.add(contractId);
+    }
+
+    public void recordUpdated(UUID contractId) {
+        if (!added.contains(contractId)) {
+            updated.add(contractId);
+        }
+    }
+
+    public void recordRemoved(UUID contractId) {
+        updated.remove(contractId);
+        if (!added.remove(contractId)) {
+            removed.add(contractId); // Only clients that saw it need to drop it
+        }
+    }
+
+    public boolean hasPending() {
+        return !added.isEmpty() || !updated.isEmpty() || !removed.isEmpty();
+    }
+
+    /**
+     * @return the pending changes as a batch from the current version to the next, or
+     *         null if nothing changed
+     */
+    public Batch flush() {
+        if (!hasPending()) {
+            return null;
+        }
+        Batch batch = new Batch(version, version + 1,
+                new ArrayList<>(added), new ArrayList<>(updated), new ArrayList<>(removed));
+        version++;
+        added.clear();
+        updated.clear();
+        removed.clear();
+        return batch;
+    }
+}
@@ -151,6 +151,22 @@ public class CourierContract extends Contract {
         sourceTownRadius = tag.getInt("sourceRadius");
     }
 
+    @Override
+    protected void saveStateAdditional(CompoundTag tag) {
+        tag.putLong("deliveredAmount", deliveredAmount);
+        if (courierId != null) {
+            tag.putUUID("courierId", courierId);
+        }
+        tag.putLong("acceptedTime", acceptedTime);
+    }
+
+    @Override
+    protected void loadStateAdditional(CompoundTag tag) {
+        deliveredAmount = tag.getLong("deliveredAmount");
+        courierId = tag.hasUUID("courierId") ? tag.getUUID("courierId") : null;
+        acceptedTime = tag.getLong("acceptedTime");
+    }
+
     @Override
     public String getType() {
         return "courier";
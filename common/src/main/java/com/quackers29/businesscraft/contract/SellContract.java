@@ -215,6 +215,36 @@ public class SellContract extends Contract {
         }
     }
 
+    @Override
+    protected void saveStateAdditional(CompoundTag tag) {
+        if (winningTownId != null) {
+            tag.putUUID("winningTownId", winningTownId);
+        }
+        if (winningTownName != null) {
+            tag.putString("winningTownName", winningTownName);
+        }
+        tag.putFloat("acceptedBid", acceptedBid);
+        tag.putBoolean("isDelivered", isDelivered);
+        if (courierId != null) {
+            tag.putUUID("courierId", courierId);
+        }
+        tag.putFloat("courierReward", courierReward);
+        tag.putLong("courierAcceptedTime", courierAcceptedTime);
+        tag.putLong("deliveredAmount", deliveredAmount);
+    }
+
+    @Override
+    protected void loadStateAdditional(CompoundTag tag) {
+        winningTownId = tag.hasUUID("winningTownId") ? tag.getUUID("winningTownId") : null;
+        winningTownName = tag.contains("winningTownName") ? tag.getString("winningTownName") : null;
+        acceptedBid = tag.getFloat("acceptedBid");
+        isDelivered = tag.getBoolean("isDelivered");
+        courierId = tag.hasUUID("courierId") ? tag.getUUID("courierId") : null;
+        courierReward = tag.getFloat("courierReward");
+        courierAcceptedTime = tag.getLong("courierAcceptedTime");
+        deliveredAmount = tag.getLong("deliveredAmount");
+    }
+
     @Override
     public String getType() {
         return "sell";
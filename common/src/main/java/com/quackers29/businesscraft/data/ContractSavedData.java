@@ -89,6 +89,14 @@ public class ContractSavedData extends SavedData {
         return tag;
     }
 
+    /**
+     * Snapshots on the server thread and writes in the background (see SavedDataWriter).
+     */
+    @Override
+    public void save(java.io.File file) {
+        SavedDataWriter.saveAsync(this, file);
+    }
+
     public static ContractSavedData get(net.minecraft.server.level.ServerLevel level) {
         return level.getDataStorage().computeIfAbsent(ContractSavedData::load, ContractSavedData::create, NAME);
     }
@@ -0,0 +1,196 @@
+package com.quackers29.businesscraft.data;
+
+import com.quackers29.businesscraft.debug.DebugConfig;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.NbtUtils;
+import net.minecraft.world.level.saveddata.SavedData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes saved data off the server thread.
+ *
+ * The server thread only builds the NBT tree (the snapshot), which is handed over and
+ * never touched again. Compression and file I/O run on a single background thread, in
+ * submission order, into a temporary file that is then moved over the target. Several
+ * pending writes and deletes of the same file collapse into the latest one, so the file
+ * always ends up as last submitted. {@link #flush()} blocks
+ * until everything submitted so far is on disk and must run after the final save at
+ * server stop.
+ */
+public final class SavedDataWriter {
+    private static final Logger LOGGER = LoggerFactory.getLogger("BusinessCraft/SavedDataWriter");
+
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "BusinessCraft-SaveIO");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Latest tag waiting to be written per file, or DELETED
+    private static final Map<Path, CompoundTag> PENDING = new ConcurrentHashMap<>();
+    // Marks a pending delete in PENDING; compared by identity, never written
+    private static final CompoundTag DELETED = new CompoundTag();
+    // Data whose last write failed, marked dirty again by the next saveAsync on the server thread
+    private static final Set<SavedData> FAILED = ConcurrentHashMap.newKeySet();
+
+    private static final AtomicLong snapshotNanos = new AtomicLong();
+    private static final AtomicLong writeNanos = new AtomicLong();
+    private static final AtomicLong writeCount = new AtomicLong();
+
+    private SavedDataWriter() {
+    }
+
+    /**
+     * Replacement for {@link SavedData#save(File)}: snapshots the data on the calling
+     * thread and writes it in the background, in the same file format. Data whose
+     * previous write failed is written again even if nothing changed since.
+     */
+    public static void saveAsync(SavedData data, File file) {
+        if (FAILED.remove(data)) {
+            data.setDirty(true);
+        }
+        if (!data.isDirty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        CompoundTag root = new CompoundTag();
+        root.put("data", data.save(new CompoundTag()));
+        NbtUtils.addCurrentDataVersion(root);
+        recordSnapshot(System.nanoTime() - start);
+
+        data.setDirty(false);
+        write(file.toPath(), root, () -> FAILED.add(data));
+    }
+
+    /**
+     * Queues a compressed write of {@code tag} to {@code target}. The tag must not be
+     * modified afterwards. {@code onFailure} runs on the writer thread if the write fails,
+     * so it must only touch thread-safe state.
+     */
+    public static void write(Path target, CompoundTag tag, Runnable onFailure) {
+        PENDING.put(target, tag);
+        EXECUTOR.execute(() -> process(target, onFailure));
+    }
+
+    /**
+     * @return a copy of the tag still waiting to be written to {@code target}, or null
+     *         if the file on disk is current
+     */
+    public static CompoundTag getPending(Path target) {
+        CompoundTag pending = PENDING.get(target);
+        return pending != null && pending != DELETED ? pending.copy() : null;
+    }
+
+    /**
+     * @return true if the latest submission for {@code target} is a delete that has not
+     *         run yet, so the file on disk is stale
+     */
+    public static boolean isDeletePending(Path target) {
+        return PENDING.get(target) == DELETED;
+    }
+
+    /**
+     * Queues deleting {@code target}. Writes queued before it are dropped; a write queued
+     * after it replaces the delete.
+     */
+    public static void delete(Path target) {
+        PENDING.put(target, DELETED);
+        EXECUTOR.execute(() -> process(target, null));
+    }
+
+    /**
+     * Blocks until every write and delete submitted so far has finished.
+     */
+    public static void flush() {
+        try {
+            EXECUTOR.submit(() -> {
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while waiting for saved data writes");
+        } catch (ExecutionException e) {
+            LOGGER.error("Saved data flush failed: {}", e.getMessage());
+        }
+        DebugConfig.debug(LOGGER, DebugConfig.TOWN_DATA_SYSTEMS, "Saved data flushed. {}", getStatsSummary());
+    }
+
+    /**
+     * Adds server-thread time spent building NBT for a save.
+     */
+    public static void recordSnapshot(long nanos) {
+        snapshotNanos.addAndGet(nanos);
+    }
+
+    public static long getSnapshotNanos() {
+        return snapshotNanos.get();
+    }
+
+    public static long getWriteNanos() {
+        return writeNanos.get();
+    }
+
+    public static long getWriteCount() {
+        return writeCount.get();
+    }
+
+    public static String getStatsSummary() {
+        return String.format("%d files written, snapshot %.1f ms (server thread), write %.1f ms (background)",
+                writeCount.get(), snapshotNanos.get() / 1_000_000.0, writeNanos.get() / 1_000_000.0);
+    }
+
+    private static void process(Path target, Runnable onFailure) {
+        CompoundTag latest = PENDING.get(target);
+        if (latest == null) {
+            return; // A later submission already handled it
+        }
+        try {
+            if (latest == DELETED) {
+                Files.deleteIfExists(target);
+                return;
+            }
+            long start = System.nanoTime();
+            writeAtomically(target, latest);
+            writeNanos.addAndGet(System.nanoTime() - start);
+            writeCount.incrementAndGet();
+        } catch (IOException e) {
+            LOGGER.error("Could not {} {}: {}", latest == DELETED ? "delete" : "save", target, e.getMessage());
+            if (onFailure != null) {
+                onFailure.run();
+            }
+        } finally {
+            // Kept until done so getPending() covers the write in progress; a newer
+            // submission has replaced it and is left for its own task
+            PENDING.remove(target, latest);
+        }
+    }
+
+    private static void writeAtomically(Path target, CompoundTag tag) throws IOException {
+        Path parent = target.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        NbtIo.writeCompressed(tag, temp.toFile());
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Not every file system supports atomic moves
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.quackers29.businesscraft.data;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * One compressed NBT file per town, {@code <uuid>.dat}, in a directory next to the
+ * level's other saved data. Used by {@link TownSavedData} in per-town storage mode so
+ * an autosave only rewrites the towns that changed.
+ *
+ * Writes and deletes are queued on {@link SavedDataWriter}, which writes through a
+ * temporary file so a crash mid-write leaves the previous record intact. Reads see
+ * a record that is still queued.
+ */
+public class TownRecordStore {
+    private static final Logger LOGGER = LoggerFactory.getLogger("BusinessCraft/TownRecordStore");
+    private static final String EXTENSION = ".dat";
+
+    private final Path directory;
+
+    public TownRecordStore(Path directory) {
+        this.directory = directory;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Queues writing a town's record. The tag must not be modified afterwards;
+     * {@code onFailure} runs on the writer thread if the write fails.
+     */
+    public void write(UUID townId, CompoundTag tag, Runnable onFailure) {
+        SavedDataWriter.write(pathOf(townId), tag, onFailure);
+    }
+
+    /**
+     * @return the stored record, or null if there is none or it cannot be read
+     */
+    public CompoundTag read(UUID townId) {
+        if (SavedDataWriter.isDeletePending(pathOf(townId))) {
+            return null;
+        }
+        CompoundTag pending = SavedDataWriter.getPending(pathOf(townId));
+        if (pending != null) {
+            return pending;
+        }
+        File file = pathOf(townId).toFile();
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            return NbtIo.readCompressed(file);
+        } catch (IOException e) {
+            LOGGER.error("Failed to read town record {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    public void delete(UUID townId) {
+        SavedDataWriter.delete(pathOf(townId));
+    }
+
+    private Path pathOf(UUID townId) {
+        return directory.resolve(townId + EXTENSION);
+    }
+}
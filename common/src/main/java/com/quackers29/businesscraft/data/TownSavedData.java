@@ -1,44 +1,475 @@
 package com.quackers29.businesscraft.data;
 
 import com.quackers29.businesscraft.api.PlatformAccess;
+import com.quackers29.businesscraft.debug.DebugConfig;
 import com.quackers29.businesscraft.town.Town;
+import com.quackers29.businesscraft.town.TownHeader;
+import com.quackers29.businesscraft.town.service.TownBoundaryIndex;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.world.level.saveddata.SavedData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * All towns of one level.
+ *
+ * By default every town is written into this SavedData on each save. In per-town
+ * storage mode (see {@link #attachStore}) each town is kept as its own record in a
+ * {@link TownRecordStore} and this SavedData only holds the list of record ids; a save
+ * then rewrites only towns that changed since the previous one, and deletes records of
+ * removed towns. Switching modes migrates on the next save in either direction.
+ *
+ * Every town also has a {@link TownHeader}, kept in memory at all times. With lazy
+ * loading in per-town mode only the headers are read at startup; a town's record is
+ * read by {@link #hydrate} when it is first needed, and {@link #dehydrate} writes an
+ * idle town back to its record and drops it from memory. {@link #getTowns()} holds
+ * loaded towns only. A {@link TownBoundaryIndex} over the headers answers "which town
+ * is here" and placement overlap queries; it is updated whenever a header is.
+ */
 public class TownSavedData extends SavedData {
+    private static final Logger LOGGER = LoggerFactory.getLogger("BusinessCraft/TownSavedData");
     public static final String NAME = PlatformAccess.getPlatform().getModId() + "_towns";
 
+    // Loaded towns
     private final Map<UUID, Town> towns = new ConcurrentHashMap<>();
+    // Towns known only by header and record (lazy loading)
+    private final Set<UUID> dormantIds = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, TownHeader> headers = new ConcurrentHashMap<>();
+    private final TownBoundaryIndex boundaryIndex = new TownBoundaryIndex();
 
+    // Towns that called markDirty() since the last flushDirtyTowns()
+    private final Set<Town> pendingDirty = ConcurrentHashMap.newKeySet();
+    // Towns changed since the last save, for reporting
+    private final Set<UUID> changedSinceSave = ConcurrentHashMap.newKeySet();
+    private int lastSaveChangedCount = 0;
+
+    // Per-town storage; null in single-file mode
+    private TownRecordStore store = null;
+    // Record ids listed in the loaded tag, read when the store is attached
+    private final List<UUID> unreadRecordIds = new ArrayList<>();
+    private boolean loadedInlineTowns = false;
+    // Records currently on disk and the town state version each was written at
+    private final Map<UUID, Long> storedVersions = new HashMap<>();
+    // Records whose last write failed (added from the writer thread)
+    private final Set<UUID> retryIds = ConcurrentHashMap.newKeySet();
+    private int lastSaveWrittenCount = 0;
+    private int hydratedCount = 0;
+    private int dehydratedCount = 0;
+
+    /**
+     * @return the loaded towns; towns not loaded yet are only listed by {@link #getHeaders()}
+     */
     public Map<UUID, Town> getTowns() {
         return towns;
     }
 
+    /**
+     * Adds a newly created or loaded town.
+     */
+    public void addTown(Town town) {
+        towns.put(town.getId(), town);
+        getHeader(town.getId());
+    }
+
+    public TownBoundaryIndex getBoundaryIndex() {
+        return boundaryIndex;
+    }
+
+    public Set<UUID> getDormantIds() {
+        return Collections.unmodifiableSet(dormantIds);
+    }
+
+    public boolean isLoaded(UUID id) {
+        return towns.containsKey(id);
+    }
+
+    public boolean contains(UUID id) {
+        return towns.containsKey(id) || dormantIds.contains(id);
+    }
+
+    public int getTownCount() {
+        return towns.size() + dormantIds.size();
+    }
+
+    /**
+     * @return the header of a town, loaded or not; rebuilt when a loaded town changed
+     */
+    public TownHeader getHeader(UUID id) {
+        TownHeader header = headers.get(id);
+        Town town = towns.get(id);
+        if (town != null && (header == null || header.stateVersion() != town.getStateVersion())) {
+            header = refreshHeader(town);
+        }
+        return header;
+    }
+
+    /**
+     * Rebuilds the header of a loaded town from its current state and re-indexes its
+     * boundary, whether or not its state version moved.
+     *
+     * @return the new header
+     */
+    public TownHeader refreshHeader(Town town) {
+        TownHeader header = TownHeader.of(town);
+        headers.put(town.getId(), header);
+        boundaryIndex.update(header);
+        return header;
+    }
+
+    /**
+     * @return headers of every town of this level, loaded or not
+     */
+    public List<TownHeader> getHeaders() {
+        List<TownHeader> result = new ArrayList<>(getTownCount());
+        for (UUID id : towns.keySet()) {
+            result.add(getHeader(id));
+        }
+        for (UUID id : dormantIds) {
+            TownHeader header = headers.get(id);
+            if (header != null) {
+                result.add(header);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Loads a town that is only known by its header. Returns the town if it is already
+     * loaded, null if it does not exist or its record cannot be read.
+     */
+    public Town hydrate(UUID id) {
+        Town town = towns.get(id);
+        if (town != null || store == null || !dormantIds.contains(id)) {
+            return town;
+        }
+        CompoundTag record = store.read(id);
+        if (record == null) {
+            // Same as a missing record at startup: the town is dropped
+            LOGGER.error("Town record {} is missing from {}", id, store.getDirectory());
+            dormantIds.remove(id);
+            headers.remove(id);
+            boundaryIndex.remove(id);
+            storedVersions.remove(id);
+            setDirty();
+            return null;
+        }
+        town = Town.load(record);
+        towns.put(id, town);
+        dormantIds.remove(id);
+        storedVersions.put(id, town.getStateVersion());
+        hydratedCount++;
+        return town;
+    }
+
+    /**
+     * Writes a loaded town back to its record if it changed and drops it from memory,
+     * keeping its header. Per-town mode only; towns with changes not yet folded in by
+     * {@link #flushDirtyTowns()} or a failed write pending are kept.
+     *
+     * @return the town that was unloaded, or null if it was kept
+     */
+    public Town dehydrate(UUID id) {
+        Town town = towns.get(id);
+        if (store == null || town == null || town.isDirtyPending() || retryIds.contains(id)) {
+            return null;
+        }
+        refreshHeader(town);
+        if (recordChanged(id, town)) {
+            writeRecord(id, town);
+            // The index holds the headers
+            setDirty();
+        }
+        dormantIds.add(id);
+        towns.remove(id);
+        dehydratedCount++;
+        return town;
+    }
+
+    /**
+     * Removes a town whether or not it is loaded. Its record is deleted on the next save.
+     *
+     * @return the removed town if it was loaded
+     */
+    public Town removeTown(UUID id) {
+        boolean wasDormant = dormantIds.remove(id);
+        Town town = towns.remove(id);
+        headers.remove(id);
+        boundaryIndex.remove(id);
+        if (town != null || wasDormant) {
+            setDirty();
+        }
+        return town;
+    }
+
+    /**
+     * Removes every town, loaded or not.
+     */
+    public void clearTowns() {
+        towns.clear();
+        dormantIds.clear();
+        headers.clear();
+        boundaryIndex.clear();
+        setDirty();
+    }
+
+    public int getHydratedCount() {
+        return hydratedCount;
+    }
+
+    public int getDehydratedCount() {
+        return dehydratedCount;
+    }
+
+    /**
+     * Queues a town that just became dirty; folded in by {@link #flushDirtyTowns()}.
+     */
+    public void queueDirty(Town town) {
+        pendingDirty.add(town);
+    }
+
+    /**
+     * Marks this data dirty once for every town queued since the last call.
+     *
+     * @return how many towns were folded in
+     */
+    public int flushDirtyTowns() {
+        if (pendingDirty.isEmpty()) {
+            return 0;
+        }
+        int count = 0;
+        for (Town town : pendingDirty) {
+            town.clearDirtyPending();
+            changedSinceSave.add(town.getId());
+            // Keeps the boundary index current (e.g. after a "border" upgrade)
+            getHeader(town.getId());
+            count++;
+        }
+        pendingDirty.clear();
+        setDirty();
+        return count;
+    }
+
+    /**
+     * Treats every town as changed, for callers that changed towns without saying which.
+     */
+    public void markAllTownsChanged() {
+        changedSinceSave.addAll(towns.keySet());
+        setDirty();
+    }
+
+    /**
+     * Also dirty while town changes are still queued, so a save between a town's
+     * markDirty() and the next fold is never skipped.
+     */
+    @Override
+    public boolean isDirty() {
+        return super.isDirty() || !pendingDirty.isEmpty() || !retryIds.isEmpty();
+    }
+
+    /**
+     * @return how many distinct towns changed since the last save
+     */
+    public int getChangedSinceSaveCount() {
+        return changedSinceSave.size();
+    }
+
+    /**
+     * @return how many distinct towns had changed when the last save ran
+     */
+    public int getLastSaveChangedCount() {
+        return lastSaveChangedCount;
+    }
+
+    /**
+     * @return how many town records the last save wrote (per-town mode only)
+     */
+    public int getLastSaveWrittenCount() {
+        return lastSaveWrittenCount;
+    }
+
+    public boolean isPerTownStorage() {
+        return store != null;
+    }
+
+    /**
+     * Reads the town records listed in the loaded data and selects the storage mode.
+     * With {@code perTown} set, towns loaded from a single-file save are written out as
+     * records on the next save; without it, towns loaded from records are written back
+     * into this SavedData. With {@code perTown} and {@code lazy} set, records that have
+     * a saved header are left unread until {@link #hydrate} asks for them. Safe to call
+     * again for the same data.
+     */
+    public void attachStore(TownRecordStore recordStore, boolean perTown, boolean lazy) {
+        int deferred = 0;
+        for (UUID id : unreadRecordIds) {
+            if (towns.containsKey(id) || dormantIds.contains(id)) {
+                continue;
+            }
+            if (perTown && lazy && headers.containsKey(id)) {
+                dormantIds.add(id);
+                // Version unknown until hydrated; the entry marks the record as present
+                storedVersions.put(id, -1L);
+                deferred++;
+                continue;
+            }
+            CompoundTag record = recordStore.read(id);
+            if (record == null) {
+                LOGGER.error("Town record {} listed in {} is missing from {}", id, NAME, recordStore.getDirectory());
+                continue;
+            }
+            Town town = Town.load(record);
+            towns.put(id, town);
+            storedVersions.put(id, town.getStateVersion());
+        }
+        boolean hadRecords = !unreadRecordIds.isEmpty();
+        unreadRecordIds.clear();
+        if (deferred > 0) {
+            DebugConfig.debug(LOGGER, DebugConfig.TOWN_DATA_SYSTEMS,
+                    "Deferred loading {} of {} towns until first access", deferred, getTownCount());
+        }
+        boundaryIndex.clear();
+        getHeaders().forEach(boundaryIndex::update);
+
+        if (perTown) {
+            this.store = recordStore;
+            if (loadedInlineTowns) {
+                LOGGER.info("Migrating {} towns to per-town records in {}", towns.size(), recordStore.getDirectory());
+                loadedInlineTowns = false;
+                markAllTownsChanged();
+            }
+        } else {
+            this.store = null;
+            if (hadRecords) {
+                LOGGER.info("Per-town storage disabled; moving {} towns back into {}", towns.size(), NAME);
+                setDirty();
+            }
+        }
+    }
+
     @Override
     public CompoundTag save(CompoundTag tag) {
-        CompoundTag townsTag = new CompoundTag();
-        towns.forEach((id, town) -> {
-            CompoundTag townTag = new CompoundTag();
-            town.save(townTag);
-            townsTag.put(id.toString(), townTag);
-        });
-        tag.put("towns", townsTag);
+        flushDirtyTowns();
+        lastSaveChangedCount = changedSinceSave.size();
+
+        if (store != null) {
+            saveRecords(tag);
+        } else {
+            headers.keySet().retainAll(towns.keySet());
+            CompoundTag townsTag = new CompoundTag();
+            towns.forEach((id, town) -> {
+                CompoundTag townTag = new CompoundTag();
+                town.save(townTag);
+                townsTag.put(id.toString(), townTag);
+            });
+            tag.put("towns", townsTag);
+            storedVersions.clear();
+        }
+
+        changedSinceSave.clear();
+        DebugConfig.debug(LOGGER, DebugConfig.TOWN_DATA_SYSTEMS,
+                "Saving {} towns ({} loaded, {} changed since last save, {} records written)",
+                getTownCount(), towns.size(), lastSaveChangedCount, lastSaveWrittenCount);
 
         return tag;
     }
 
+    /**
+     * Snapshots on the server thread and writes in the background (see SavedDataWriter).
+     */
+    @Override
+    public void save(File file) {
+        SavedDataWriter.saveAsync(this, file);
+    }
+
+    private void saveRecords(CompoundTag tag) {
+        int written = 0;
+        long snapshotStart = System.nanoTime();
+        for (Map.Entry<UUID, Town> entry : towns.entrySet()) {
+            UUID id = entry.getKey();
+            Town town = entry.getValue();
+            if (!recordChanged(id, town)) {
+                continue;
+            }
+            writeRecord(id, town);
+            written++;
+        }
+        DebugConfig.debug(LOGGER, DebugConfig.TOWN_DATA_SYSTEMS, "Snapshotted {} town records in {} us",
+                written, (System.nanoTime() - snapshotStart) / 1000);
+
+        storedVersions.keySet().removeIf(id -> {
+            if (contains(id)) {
+                return false;
+            }
+            store.delete(id);
+            return true;
+        });
+
+        lastSaveWrittenCount = written;
+
+        ListTag ids = new ListTag();
+        ListTag headerList = new ListTag();
+        for (TownHeader header : getHeaders()) {
+            ids.add(StringTag.valueOf(header.id().toString()));
+            headerList.add(header.save());
+        }
+        tag.put("townRecords", ids);
+        tag.put("townHeaders", headerList);
+    }
+
+    private boolean recordChanged(UUID id, Town town) {
+        Long storedVersion = storedVersions.get(id);
+        // Mutators that skip markDirty() still move the state version
+        return storedVersion == null || storedVersion != town.getStateVersion()
+                || changedSinceSave.contains(id) || retryIds.contains(id);
+    }
+
+    private void writeRecord(UUID id, Town town) {
+        CompoundTag record = new CompoundTag();
+        town.save(record);
+        retryIds.remove(id);
+        store.write(id, record, () -> retryIds.add(id));
+        storedVersions.put(id, town.getStateVersion());
+    }
+
     public void loadFromNbt(CompoundTag tag) {
         towns.clear();
+        dormantIds.clear();
+        headers.clear();
+        boundaryIndex.clear();
+        unreadRecordIds.clear();
         if (tag.contains("towns")) {
             CompoundTag townsTag = tag.getCompound("towns");
             townsTag.getAllKeys().forEach(key -> {
                 UUID id = UUID.fromString(key);
                 towns.put(id, Town.load(townsTag.getCompound(key)));
             });
+            loadedInlineTowns = !towns.isEmpty();
+        }
+        if (tag.contains("townRecords")) {
+            ListTag ids = tag.getList("townRecords", Tag.TAG_STRING);
+            for (int i = 0; i < ids.size(); i++) {
+                unreadRecordIds.add(UUID.fromString(ids.getString(i)));
+            }
+        }
+        if (tag.contains("townHeaders")) {
+            ListTag headerList = tag.getList("townHeaders", Tag.TAG_COMPOUND);
+            for (int i = 0; i < headerList.size(); i++) {
+                TownHeader header = TownHeader.load(headerList.getCompound(i));
+                headers.put(header.id(), header);
+            }
         }
     }
 
@@ -19,6 +19,7 @@ public class ResourceRegistry {
     private static final Logger LOGGER = LoggerFactory.getLogger(ResourceRegistry.class);
     private static final Map<String, ResourceType> RESOURCES = new HashMap<>();
     private static final String CONFIG_FILE_NAME = "items.csv";
+    private static int version = 0; // bumped on every load so compiled lookups can detect a reload
 
     public static void load() {
         RESOURCES.clear();
@@ -73,6 +74,7 @@ public class ResourceRegistry {
         for (ResourceType type : RESOURCES.values()) {
             type.expand();
         }
+        version++;
     }
 
     private static void createDefaultConfig(File file) {
@@ -87,6 +89,13 @@ public class ResourceRegistry {
             LOGGER.error("Failed to create default {}", CONFIG_FILE_NAME, e);
         }
     }
+    /**
+     * @return a counter that changes every time resources are (re)loaded
+     */
+    public static int getVersion() {
+        return version;
+    }
+
     public static ResourceType get(String id) {
         return RESOURCES.get(id);
     }
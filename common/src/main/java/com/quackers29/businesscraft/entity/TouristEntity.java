@@ -2,6 +2,7 @@ package com.quackers29.businesscraft.entity;
 
 import com.quackers29.businesscraft.platform.Platform;
 import com.quackers29.businesscraft.town.Town;
+import com.quackers29.businesscraft.api.ITouristHelper;
 import com.quackers29.businesscraft.api.PlatformAccess;
 import com.quackers29.businesscraft.town.utils.TownNotificationUtils;
 import com.quackers29.businesscraft.config.ConfigLoader;
@@ -34,6 +35,7 @@ import net.minecraft.world.item.trading.MerchantOffers;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.entity.EntityInLevelCallback;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.jetbrains.annotations.Nullable;
@@ -100,6 +102,14 @@ public class TouristEntity extends Villager {
     // Override merchant offers (Villager already implements Merchant)
     private MerchantOffers customOffers;
 
+    // Built on first use from the fields above; reset when they are loaded
+    @Nullable
+    private ITouristHelper.TouristInfo touristInfo;
+
+    // Registry of the server level this tourist is currently part of
+    @Nullable
+    private TouristRegistry registry;
+
     // Distance-based leveling config
     private static final double DISTANCE_PER_LEVEL = 20.0; // 20m per level
     private static final int MAX_LEVEL = 3; // Max level 3 (starts at 1)
@@ -180,10 +190,33 @@ public class TouristEntity extends Villager {
         return false; // Tourists don't restock
     }
 
+    /**
+     * Called by the level's entity storage when the tourist is added (spawn, chunk load)
+     * and, with {@link EntityInLevelCallback#NULL}, when it leaves the level (discard,
+     * death, chunk unload, dimension change). Keeps the level's TouristRegistry in step.
+     */
+    @Override
+    public void setLevelCallback(EntityInLevelCallback callback) {
+        super.setLevelCallback(callback);
+        if (callback == EntityInLevelCallback.NULL) {
+            if (registry != null) {
+                registry.remove(this);
+                registry = null;
+            }
+        } else if (registry == null && this.level() instanceof ServerLevel serverLevel) {
+            registry = TouristRegistry.get(serverLevel);
+            registry.add(this);
+        }
+    }
+
     @Override
     public void tick() {
         super.tick();
 
+        if (registry != null) {
+            registry.moved(this);
+        }
+
         // Force offer refresh for live updates when trading
         if (!this.level().isClientSide && this.getTradingPlayer() != null) {
             // Refresh offers for live data
@@ -331,6 +364,11 @@ public class TouristEntity extends Villager {
 
     @Override
     public void die(net.minecraft.world.damagesource.DamageSource cause) {
+        // Stays in the level for the death animation; no longer a tourist to anyone
+        if (registry != null) {
+            registry.remove(this);
+        }
+
         if (!this.level().isClientSide && originTownId != null) {
             if (this.level() instanceof ServerLevel serverLevel) {
                 Town originTown = TownNotificationUtils.removeTouristFromOrigin(serverLevel, originTownId);
@@ -376,6 +414,27 @@ public class TouristEntity extends Villager {
         return this.destinationTownId;
     }
 
+    /**
+     * @return this tourist's metadata, or null if it has no origin town. Cached, so
+     *         visitor processing reads it without parsing tags.
+     */
+    @Nullable
+    public ITouristHelper.TouristInfo getTouristInfo() {
+        if (touristInfo == null && originTownId != null) {
+            String platformId = null;
+            for (String tag : this.getTags()) {
+                if (tag.startsWith(ITouristHelper.TAG_PLATFORM_PREFIX)) {
+                    platformId = tag.substring(ITouristHelper.TAG_PLATFORM_PREFIX.length());
+                    break;
+                }
+            }
+            touristInfo = new ITouristHelper.TouristInfo(originTownId, originTownName, platformId,
+                    destinationTownId, destinationTownName,
+                    (int) Math.floor(spawnPosX), (int) Math.floor(spawnPosY), (int) Math.floor(spawnPosZ));
+        }
+        return touristInfo;
+    }
+
     public String getDestinationTownName() {
         return this.destinationTownName;
     }
@@ -452,6 +511,9 @@ public class TouristEntity extends Villager {
     @Override
     public void readAdditionalSaveData(CompoundTag tag) {
         super.readAdditionalSaveData(tag);
+        // Loading into a live tourist (e.g. /data merge) can change its towns; unlist
+        // under the old ones first
+        boolean relist = registry != null && registry.remove(this);
 
         if (tag.contains("ExpiryTicks")) {
             expiryTicks = tag.getInt("ExpiryTicks");
@@ -512,6 +574,11 @@ public class TouristEntity extends Villager {
             destinationTownName = tag.getString("DestinationTownName");
         }
 
+        touristInfo = null;
+        if (relist) {
+            registry.add(this);
+        }
+
         syncSkinTierFromLevel();
     }
 
@@ -0,0 +1,186 @@
+package com.quackers29.businesscraft.entity;
+
+import com.quackers29.businesscraft.debug.DebugConfig;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.phys.AABB;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Live {@link TouristEntity} instances of one server level, indexed by origin town,
+ * destination town and a {@value #CELL_SIZE}-block grid cell. Platform and vehicle code
+ * asks it which tourists are around instead of scanning the world for villagers.
+ *
+ * Tourists add and remove themselves as they enter and leave the level (spawn, chunk
+ * load, discard, death, chunk unload, dimension change) and report when they cross
+ * into another cell; see {@link TouristEntity#setLevelCallback}. Only tourists spawned
+ * as TouristEntity are tracked, not plain villagers carrying tourist tags.
+ * Not thread-safe; used from the server thread.
+ */
+public class TouristRegistry {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TouristRegistry.class);
+    static final int CELL_SHIFT = 4;
+    static final int CELL_SIZE = 1 << CELL_SHIFT;
+
+    private static final Map<ServerLevel, TouristRegistry> INSTANCES = new HashMap<>();
+
+    private final Map<TouristEntity, Long> cellOf = new HashMap<>();
+    private final Map<Long, Set<TouristEntity>> cells = new HashMap<>();
+    private final Map<UUID, Set<TouristEntity>> byOrigin = new HashMap<>();
+    private final Map<UUID, Set<TouristEntity>> byDestination = new HashMap<>();
+
+    public static TouristRegistry get(ServerLevel level) {
+        return INSTANCES.computeIfAbsent(level, key -> new TouristRegistry());
+    }
+
+    public static void clearInstances() {
+        DebugConfig.debug(LOGGER, DebugConfig.TOURIST_ENTITY, "Clearing {} TouristRegistry instances",
+                INSTANCES.size());
+        INSTANCES.clear();
+    }
+
+    void add(TouristEntity tourist) {
+        if (cellOf.containsKey(tourist)) {
+            return;
+        }
+        long cell = cellKey(tourist);
+        cellOf.put(tourist, cell);
+        link(cells, cell, tourist);
+        if (tourist.getOriginTownId() != null) {
+            link(byOrigin, tourist.getOriginTownId(), tourist);
+        }
+        if (tourist.getDestinationTownId() != null) {
+            link(byDestination, tourist.getDestinationTownId(), tourist);
+        }
+    }
+
+    /**
+     * @return true if the tourist was listed
+     */
+    boolean remove(TouristEntity tourist) {
+        Long cell = cellOf.remove(tourist);
+        if (cell == null) {
+            return false;
+        }
+        unlink(cells, cell, tourist);
+        if (tourist.getOriginTownId() != null) {
+            unlink(byOrigin, tourist.getOriginTownId(), tourist);
+        }
+        if (tourist.getDestinationTownId() != null) {
+            unlink(byDestination, tourist.getDestinationTownId(), tourist);
+        }
+        return true;
+    }
+
+    /**
+     * Re-buckets a tourist whose position may have changed; cheap when it stayed in
+     * its cell.
+     */
+    void moved(TouristEntity tourist) {
+        Long old = cellOf.get(tourist);
+        if (old == null) {
+            return;
+        }
+        long cell = cellKey(tourist);
+        if (cell != old) {
+            unlink(cells, old, tourist);
+            link(cells, cell, tourist);
+            cellOf.put(tourist, cell);
+        }
+    }
+
+    public int size() {
+        return cellOf.size();
+    }
+
+    /**
+     * @return tourists whose bounding box intersects {@code bounds}, like
+     *         level.getEntitiesOfClass would find them
+     */
+    public List<TouristEntity> findInBox(AABB bounds) {
+        List<TouristEntity> result = new ArrayList<>();
+        // One block of slack: a tourist's box can reach past the cell its position is in
+        int minX = Mth.floor(bounds.minX - 1) >> CELL_SHIFT;
+        int maxX = Mth.floor(bounds.maxX + 1) >> CELL_SHIFT;
+        int minZ = Mth.floor(bounds.minZ - 1) >> CELL_SHIFT;
+        int maxZ = Mth.floor(bounds.maxZ + 1) >> CELL_SHIFT;
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cz = minZ; cz <= maxZ; cz++) {
+                Set<TouristEntity> cell = cells.get(cellKey(cx, cz));
+                if (cell == null) {
+                    continue;
+                }
+                for (TouristEntity tourist : cell) {
+                    if (bounds.intersects(tourist.getBoundingBox())) {
+                        result.add(tourist);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return tourists that set out from {@code townId} and are inside {@code bounds}
+     */
+    public List<TouristEntity> findByOrigin(UUID townId, AABB bounds) {
+        List<TouristEntity> result = new ArrayList<>();
+        addInside(byOrigin.get(townId), bounds, null, result);
+        return result;
+    }
+
+    /**
+     * @return tourists inside {@code bounds} that count as visitors of {@code townId}:
+     *         heading there or to any town, and not from it
+     */
+    public List<TouristEntity> findArriving(UUID townId, AABB bounds) {
+        List<TouristEntity> result = new ArrayList<>();
+        addInside(byDestination.get(townId), bounds, townId, result);
+        addInside(byDestination.get(TouristEntity.ANY_TOWN_DESTINATION), bounds, townId, result);
+        return result;
+    }
+
+    private static void addInside(Set<TouristEntity> candidates, AABB bounds, UUID excludedOrigin,
+                                  List<TouristEntity> result) {
+        if (candidates == null) {
+            return;
+        }
+        for (TouristEntity tourist : candidates) {
+            if ((excludedOrigin == null || !excludedOrigin.equals(tourist.getOriginTownId()))
+                    && bounds.intersects(tourist.getBoundingBox())) {
+                result.add(tourist);
+            }
+        }
+    }
+
+    private static <K> void link(Map<K, Set<TouristEntity>> index, K key, TouristEntity tourist) {
+        index.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(tourist);
+    }
+
+    private static <K> void unlink(Map<K, Set<TouristEntity>> index, K key, TouristEntity tourist) {
+        Set<TouristEntity> set = index.get(key);
+        if (set != null) {
+            set.remove(tourist);
+            if (set.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private static long cellKey(TouristEntity tourist) {
+        return cellKey(tourist.getBlockX() >> CELL_SHIFT, tourist.getBlockZ() >> CELL_SHIFT);
+    }
+
+    private static long cellKey(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+}
@@ -65,6 +65,8 @@ public class ClientRenderEvents {
     private static void onLevelUnload(Level level) {
         if (level.isClientSide()) {
             VisualizationManager.getInstance().onLevelUnload();
+            // Boards are per level; the next screen opened starts from a fresh snapshot
+            com.quackers29.businesscraft.client.ClientContractBoard.get().reset();
         }
     }
     
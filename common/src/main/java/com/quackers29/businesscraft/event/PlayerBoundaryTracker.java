@@ -1,31 +1,49 @@
 package com.quackers29.businesscraft.event;
 
-import com.quackers29.businesscraft.api.EventCallbacks;
 import com.quackers29.businesscraft.api.PlatformAccess;
 import com.quackers29.businesscraft.config.ConfigLoader;
-import com.quackers29.businesscraft.town.Town;
+import com.quackers29.businesscraft.debug.DebugConfig;
+import com.quackers29.businesscraft.town.TownHeader;
 import com.quackers29.businesscraft.town.TownManager;
-import net.minecraft.ChatFormatting;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Sends "Welcome to" / "Leaving" action bar messages when players cross town boundaries.
+ *
+ * Runs as one pass at the end of every {@value #TRACKING_INTERVAL_TICKS}th server tick:
+ * per level, the players that moved since their last check are looked up against the
+ * level's boundary index in a single batch query. When a player walks straight from one
+ * town into another, the welcome message is queued for a later tick so it follows the
+ * leave message instead of replacing it in the same tick.
+ */
 public class PlayerBoundaryTracker {
     private static final Logger LOGGER = LoggerFactory.getLogger(PlayerBoundaryTracker.class);
     private static final long MESSAGE_COOLDOWN_MS = 2000; // 2 seconds between messages
     private static final int TRACKING_INTERVAL_TICKS = 10; // Check every 10 ticks (0.5 seconds)
+    private static final int FOLLOW_UP_DELAY_TICKS = 2; // Welcome after a leave message
     private static final Map<UUID, PlayerBoundaryState> playerStates = new ConcurrentHashMap<>();
-    private static int tickCounter = 0;
+    private static final ArrayDeque<ScheduledMessage> scheduledMessages = new ArrayDeque<>();
+    private static long serverTicks = 0;
+
+    // Metrics for the most recent pass
+    private static int lastPassPlayers = 0;
+    private static int lastPassChecked = 0;
+    private static long lastPassNanos = 0;
 
     private static class PlayerBoundaryState {
-        public Town currentTown = null;
+        public TownHeader currentTown = null;
         public BlockPos lastPosition = null;
         public long lastNotificationTime = 0;
 
@@ -42,102 +60,134 @@ public class PlayerBoundaryTracker {
         }
     }
 
+    private record ScheduledMessage(long dueTick, UUID playerId, String message) {
+    }
+
     public static void initialize() {
-        PlatformAccess.getEvents().registerPlayerTickCallback(PlayerBoundaryTracker::onPlayerTick);
+        PlatformAccess.getEvents().registerServerTickCallback(PlayerBoundaryTracker::onServerTick);
         PlatformAccess.getEvents().registerPlayerLoginCallback(PlayerBoundaryTracker::onPlayerLogin);
         PlatformAccess.getEvents().registerPlayerLogoutCallback(PlayerBoundaryTracker::onPlayerLogout);
     }
 
-    private static void onPlayerTick(ServerPlayer player, ServerLevel level, BlockPos position) {
+    private static void onServerTick(MinecraftServer server) {
+        serverTicks++;
+        deliverScheduledMessages(server);
+
         if (!ConfigLoader.playerTracking || !ConfigLoader.townBoundaryMessages) {
             return;
         }
-
-        if (++tickCounter % TRACKING_INTERVAL_TICKS != 0) {
+        if (serverTicks % TRACKING_INTERVAL_TICKS != 0) {
             return;
         }
 
-        UUID playerId = player.getUUID();
-        BlockPos currentPos = position;
-
-        PlayerBoundaryState state = playerStates.computeIfAbsent(playerId, 
-            k -> new PlayerBoundaryState(currentPos));
-
-        if (state.lastPosition != null && state.lastPosition.distSqr(currentPos) < 16) { // 4 block threshold
-            return;
+        long start = System.nanoTime();
+        int players = 0;
+        int checked = 0;
+        for (ServerLevel level : server.getAllLevels()) {
+            if (level.players().isEmpty()) {
+                continue;
+            }
+            players += level.players().size();
+            checked += checkLevel(level);
         }
+        lastPassPlayers = players;
+        lastPassChecked = checked;
+        lastPassNanos = System.nanoTime() - start;
 
-        state.lastPosition = currentPos;
-
-        checkBoundaryTransition(player, level, state, currentPos);
+        DebugConfig.debug(LOGGER, DebugConfig.TOWN_DATA_SYSTEMS,
+                "Boundary pass: {} players, {} moved and checked, {} ms", players, checked, getLastPassMillis());
     }
 
-    private static void checkBoundaryTransition(ServerPlayer player, ServerLevel level, 
-                                               PlayerBoundaryState state, BlockPos playerPos) {
-        try {
-            TownManager townManager = TownManager.get(level);
-            Town newTown = findTownAtPosition(townManager, playerPos);
+    // Looks up every player of the level that moved far enough; returns how many
+    private static int checkLevel(ServerLevel level) {
+        Map<ServerPlayer, BlockPos> moved = new HashMap<>();
+        for (ServerPlayer player : level.players()) {
+            BlockPos currentPos = player.blockPosition();
+            PlayerBoundaryState state = playerStates.computeIfAbsent(player.getUUID(),
+                k -> new PlayerBoundaryState(currentPos));
 
-            if (state.currentTown != newTown) {
-                handleBoundaryTransition(player, state, state.currentTown, newTown);
-                state.currentTown = newTown;
+            if (state.lastPosition != null && state.lastPosition.distSqr(currentPos) < 16) { // 4 block threshold
+                continue;
             }
+            state.lastPosition = currentPos;
+            moved.put(player, currentPos);
+        }
+        if (moved.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            Map<ServerPlayer, TownHeader> found = TownManager.get(level).findTownsAt(moved);
+            found.forEach((player, newTown) -> {
+                PlayerBoundaryState state = playerStates.get(player.getUUID());
+                if (!sameTown(state.currentTown, newTown)) {
+                    handleBoundaryTransition(player, state, state.currentTown, newTown);
+                    state.currentTown = newTown;
+                }
+            });
         } catch (Exception e) {
-            LOGGER.warn("Error checking boundary transition for player {}: {}", 
-                player.getName().getString(), e.getMessage());
+            LOGGER.warn("Error checking boundary transitions in {}: {}",
+                level.dimension().location(), e.getMessage());
         }
+        return moved.size();
     }
 
-    private static Town findTownAtPosition(TownManager townManager, BlockPos playerPos) {
-        for (Town town : townManager.getAllTowns().values()) {
-            double distance = Math.sqrt(playerPos.distSqr(town.getPosition()));
-            if (distance <= town.getBoundaryRadius()) {
-                return town;
-            }
-        }
-        return null; // Player is not in any town boundary
+    // Headers are replaced whenever their town changes, so compare ids
+    private static boolean sameTown(TownHeader a, TownHeader b) {
+        return a == null ? b == null : b != null && a.id().equals(b.id());
     }
 
-    private static void handleBoundaryTransition(ServerPlayer player, PlayerBoundaryState state, 
-                                                Town oldTown, Town newTown) {
+    private static void handleBoundaryTransition(ServerPlayer player, PlayerBoundaryState state,
+                                                TownHeader oldTown, TownHeader newTown) {
         if (!state.canSendNotification()) {
             return;
         }
 
         if (oldTown == null && newTown != null) {
-            sendWelcomeMessage(player, newTown.getName());
+            sendWelcomeMessage(player, newTown.name());
             state.markNotificationSent();
 
         } else if (oldTown != null && newTown == null) {
-            sendLeavingMessage(player, oldTown.getName());
+            sendLeavingMessage(player, oldTown.name());
             state.markNotificationSent();
 
-        } else if (oldTown != null && newTown != null && !oldTown.getId().equals(newTown.getId())) {
-            sendLeavingMessage(player, oldTown.getName());
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException ignored) {}
-            sendWelcomeMessage(player, newTown.getName());
+        } else if (oldTown != null && newTown != null && !oldTown.id().equals(newTown.id())) {
+            sendLeavingMessage(player, oldTown.name());
+            scheduledMessages.addLast(new ScheduledMessage(serverTicks + FOLLOW_UP_DELAY_TICKS,
+                player.getUUID(), welcomeText(newTown.name())));
             state.markNotificationSent();
         }
     }
 
-    private static void sendWelcomeMessage(ServerPlayer player, String townName) {
-        String message = "🏘️ Welcome to " + townName;
-        Component messageComponent = Component.literal(message);
+    // Messages all share one delay, so the queue is in due order
+    private static void deliverScheduledMessages(MinecraftServer server) {
+        while (!scheduledMessages.isEmpty() && scheduledMessages.peekFirst().dueTick() <= serverTicks) {
+            ScheduledMessage scheduled = scheduledMessages.pollFirst();
+            ServerPlayer player = server.getPlayerList().getPlayer(scheduled.playerId());
+            if (player != null) {
+                sendMessage(player, scheduled.message());
+            }
+        }
+    }
 
-        player.displayClientMessage(messageComponent, true);
+    private static String welcomeText(String townName) {
+        return "🏘️ Welcome to " + townName;
+    }
 
-        LOGGER.info("Sent welcome message to {}: {}", player.getName().getString(), message);
+    private static void sendWelcomeMessage(ServerPlayer player, String townName) {
+        sendMessage(player, welcomeText(townName));
     }
 
     private static void sendLeavingMessage(ServerPlayer player, String townName) {
-        String message = "👋 Leaving " + townName;
+        sendMessage(player, "👋 Leaving " + townName);
+    }
+
+    private static void sendMessage(ServerPlayer player, String message) {
         Component messageComponent = Component.literal(message);
 
         player.displayClientMessage(messageComponent, true);
 
-        LOGGER.info("Sent leaving message to {}: {}", player.getName().getString(), message);
+        LOGGER.info("Sent boundary message to {}: {}", player.getName().getString(), message);
     }
 
     private static void onPlayerLogout(ServerPlayer player) {
@@ -153,9 +203,28 @@ public class PlayerBoundaryTracker {
         LOGGER.debug("Initialized boundary tracking for player: {}", player.getName().getString());
     }
 
+    /**
+     * @return players online during the most recent boundary pass
+     */
+    public static int getLastPassPlayers() {
+        return lastPassPlayers;
+    }
+
+    /**
+     * @return players that had moved far enough to be looked up in the most recent pass
+     */
+    public static int getLastPassChecked() {
+        return lastPassChecked;
+    }
+
+    public static double getLastPassMillis() {
+        return lastPassNanos / 1_000_000.0;
+    }
+
     public static void clearAllTrackingData() {
         int count = playerStates.size();
         playerStates.clear();
+        scheduledMessages.clear();
         LOGGER.info("Cleared boundary tracking data for {} players", count);
     }
 }
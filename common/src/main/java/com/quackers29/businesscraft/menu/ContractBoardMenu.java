@@ -32,10 +32,7 @@ public class ContractBoardMenu extends AbstractContainerMenu {
                     .level();
             com.quackers29.businesscraft.contract.ContractBoard board = com.quackers29.businesscraft.contract.ContractBoard
                     .get(level);
-            PlatformAccess.getNetworkMessages().sendToPlayer(
-                    new com.quackers29.businesscraft.network.packets.ui.ContractSyncPacket(board.getContracts(),
-                            board.getAllMarketPrices()),
-                    serverPlayer);
+            board.sendSnapshot(serverPlayer);
         }
     }
 
@@ -8,6 +8,7 @@ import com.quackers29.businesscraft.town.Town;
 import com.quackers29.businesscraft.town.TownManager;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
@@ -22,6 +23,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -41,6 +43,12 @@ public class TownInterfaceMenu extends AbstractContainerMenu {
     private UUID townId;
     private boolean needsImmediateSync = true;
 
+    // Server-side menus currently open, by dimension and block position (see getOpenMenus)
+    private static final Map<OpenMenuKey, List<TownInterfaceMenu>> OPEN_MENUS = new HashMap<>();
+
+    private record OpenMenuKey(ResourceKey<Level> dimension, BlockPos pos) {
+    }
+
     // Add ContainerData field for syncing values between server and client
     private static final int DATA_SEARCH_RADIUS = 0;
     private static final int DATA_TOURIST_COUNT = 1;
@@ -96,6 +104,7 @@ public class TownInterfaceMenu extends AbstractContainerMenu {
         if (level.isClientSide()) {
             // No-op
         } else {
+            OPEN_MENUS.computeIfAbsent(new OpenMenuKey(level.dimension(), pos), k -> new ArrayList<>(1)).add(this);
             if (inv.player instanceof net.minecraft.server.level.ServerPlayer serverPlayer) {
                 com.quackers29.businesscraft.town.viewmodel.MarketViewModelSyncHelper.syncToPlayer(serverPlayer);
             }
@@ -103,12 +112,11 @@ public class TownInterfaceMenu extends AbstractContainerMenu {
             if (level instanceof ServerLevel serverLevel) {
                 TownManager townManager = TownManager.get(serverLevel);
 
-                // Find the town at this position by iterating through all towns
-                Map<UUID, Town> allTowns = townManager.getAllTowns();
-                for (Town t : allTowns.values()) {
-                    if (t.getPosition().equals(pos)) {
-                        this.town = t;
-                        this.townId = t.getId();
+                // Find the town at this position by iterating through all town headers
+                for (com.quackers29.businesscraft.town.TownHeader header : townManager.getTownHeaders()) {
+                    if (header.position().equals(pos)) {
+                        this.town = townManager.getTown(header.id());
+                        this.townId = header.id();
                         DebugConfig.debug(LOGGER, DebugConfig.TOWN_INTERFACE_MENU,
                                 "Found town with ID {} at position {}", this.townId, pos);
                         break;
@@ -142,7 +150,7 @@ public class TownInterfaceMenu extends AbstractContainerMenu {
                     if (level != null && !level.isClientSide()) {
                         BlockEntity be = level.getBlockEntity(pos);
                         if (be instanceof TownInterfaceEntity entity) {
-                            entity.setChanged(); // Triggers sendBlockUpdated -> getUpdateTag -> ClientSyncHelper
+                            entity.setChanged(); // Pushes changed sync sections to tracking clients
                         }
 
                         // --- REPLACED BY TownInterfaceViewModelSyncPacket (Phase 2.3) ---
@@ -152,19 +160,14 @@ public class TownInterfaceMenu extends AbstractContainerMenu {
                         // Force a sync of the view model to this player right now
                         if (be instanceof TownInterfaceEntity entity
                                 && inv.player instanceof net.minecraft.server.level.ServerPlayer sp) {
-                            entity.updateInterfaceVM();
-                            entity.syncAllDirtyTownVMsToPlayers();
+                            entity.subscribeToTownVMs(sp);
                         }
 
                         // --- FIX: Sync Contract/Market Data for GPI Display ---
                         com.quackers29.businesscraft.contract.ContractBoard board = com.quackers29.businesscraft.contract.ContractBoard
                                 .get((ServerLevel) level);
                         if (board != null) {
-                            PlatformAccess.getNetworkMessages().sendToPlayer(
-                                    new com.quackers29.businesscraft.network.packets.ui.ContractSyncPacket(
-                                            board.getContracts(),
-                                            board.getAllMarketPrices()),
-                                    (net.minecraft.server.level.ServerPlayer) inv.player);
+                            board.sendSnapshot((net.minecraft.server.level.ServerPlayer) inv.player);
                             DebugConfig.debug(LOGGER, DebugConfig.SMART_GPI_DEBUG,
                                     "TownInterfaceMenu: Synced market prices to {}", inv.player.getName().getString());
                         }
@@ -190,6 +193,38 @@ public class TownInterfaceMenu extends AbstractContainerMenu {
         return ItemStack.EMPTY;
     }
 
+    @Override
+    public void removed(Player player) {
+        super.removed(player);
+        if (!level.isClientSide()) {
+            OpenMenuKey key = new OpenMenuKey(level.dimension(), pos);
+            List<TownInterfaceMenu> menus = OPEN_MENUS.get(key);
+            if (menus != null && menus.remove(this) && menus.isEmpty()) {
+                OPEN_MENUS.remove(key);
+            }
+            if (player instanceof net.minecraft.server.level.ServerPlayer serverPlayer && level.isLoaded(pos)
+                    && level.getBlockEntity(pos) instanceof TownInterfaceEntity townEntity) {
+                townEntity.unsubscribeFromTownVMs(serverPlayer);
+            }
+        }
+    }
+
+    /**
+     * @return the server-side menus open on the town block at this position in this level
+     */
+    public static List<TownInterfaceMenu> getOpenMenus(Level level, BlockPos pos) {
+        List<TownInterfaceMenu> menus = OPEN_MENUS.get(new OpenMenuKey(level.dimension(), pos));
+        return menus == null ? Collections.emptyList() : new ArrayList<>(menus);
+    }
+
+    /**
+     * Forgets all open menus; called when the server stops so menus and their levels
+     * do not outlive it.
+     */
+    public static void clearInstances() {
+        OPEN_MENUS.clear();
+    }
+
     @Override
     public boolean stillValid(Player player) {
         return player.distanceToSqr(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5) < 64;
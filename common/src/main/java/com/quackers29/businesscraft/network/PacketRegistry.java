@@ -2,6 +2,7 @@ package com.quackers29.businesscraft.network;
 
 import com.quackers29.businesscraft.network.packets.town.ToggleTouristSpawningPacket;
 import com.quackers29.businesscraft.network.packets.town.SetTownNamePacket;
+import com.quackers29.businesscraft.network.packets.town.TownInterfaceSyncPacket;
 import com.quackers29.businesscraft.network.packets.platform.*;
 import com.quackers29.businesscraft.network.packets.ui.*;
 import com.quackers29.businesscraft.network.packets.storage.*;
@@ -306,9 +307,24 @@ public class PacketRegistry {
                                 TradingViewModelSyncPacket::decode, TradingViewModelSyncPacket::encode,
                                 TradingViewModelSyncPacket::handle);
 
+                // Changed sections of a town block's client data (periodic block-entity sync)
+                register(TownInterfaceSyncPacket.class, "town_interface_sync_packet", NetworkDirection.PLAY_TO_CLIENT,
+                                TownInterfaceSyncPacket::decode, TownInterfaceSyncPacket::encode,
+                                TownInterfaceSyncPacket::handle);
+
                 register(ContractSyncPacket.class, "contract_sync_packet", NetworkDirection.PLAY_TO_CLIENT,
                                 ContractSyncPacket::decode, ContractSyncPacket::encode, ContractSyncPacket::handle);
 
+                // Per-tick contract board changes against the last ContractSyncPacket snapshot
+                register(ContractDeltaPacket.class, "contract_delta_packet", NetworkDirection.PLAY_TO_CLIENT,
+                                ContractDeltaPacket::decode, ContractDeltaPacket::encode, ContractDeltaPacket::handle);
+
+                // Client asks for a new contract snapshot after dropping a delta it could not apply
+                register(ContractResyncRequestPacket.class, "contract_resync_request_packet",
+                                NetworkDirection.PLAY_TO_SERVER,
+                                ContractResyncRequestPacket::decode, ContractResyncRequestPacket::encode,
+                                ContractResyncRequestPacket::handle);
+
                 // Phase 5: Contract list sync packet (paginated contract summaries)
                 register(ContractListSyncPacket.class, "contract_list_sync_packet", NetworkDirection.PLAY_TO_CLIENT,
                                 ContractListSyncPacket::decode, ContractListSyncPacket::encode,
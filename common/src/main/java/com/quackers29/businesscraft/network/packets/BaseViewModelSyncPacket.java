@@ -47,7 +47,7 @@ public abstract class BaseViewModelSyncPacket<T extends IViewModel> {
             if (be instanceof TownInterfaceEntity entity) {
                 @SuppressWarnings("unchecked")
                 Class<T> vmClass = (Class<T>) viewModel.getClass();
-                entity.getVmCache().update(vmClass, viewModel);
+                entity.getVmCache().put(vmClass, viewModel);
 
                 if (mc.screen instanceof com.quackers29.businesscraft.ui.screens.town.TownInterfaceScreen screen) {
                     screen.getMenu().refreshDataSlots();
@@ -153,7 +153,7 @@ public class BufferStoragePacket extends BaseBlockEntityPacket {
 
             if (success) {
                 // Mark dirty after storage update
-                townManager.markDirty();
+                town.markDirty();
 
                 // Force the townInterfaceEntity to update and sync
                 townInterfaceEntity.setChanged();
@@ -159,7 +159,7 @@ public class CommunalStoragePacket extends BaseBlockEntityPacket {
             
             if (success) {
                 // Mark dirty after storage update
-                townManager.markDirty();
+                town.markDirty();
                 
                 // Force the townInterfaceEntity to update and sync
                 townInterfaceEntity.setChanged();
@@ -172,7 +172,7 @@ public class CommunalStoragePacket extends BaseBlockEntityPacket {
                     Block.UPDATE_ALL);
                 
                 // Force the TownManager to save changes
-                townManager.markDirty();
+                town.markDirty();
                 
                 // Send a response to update the UI
                 PlatformAccess.getNetworkMessages().sendToPlayer(new CommunalStorageResponsePacket(town.getAllCommunalStorageItems()), player);
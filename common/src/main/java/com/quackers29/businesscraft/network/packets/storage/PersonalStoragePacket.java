@@ -156,7 +156,7 @@ public class PersonalStoragePacket extends BaseBlockEntityPacket {
             
             if (success) {
                 // Mark dirty after storage update
-                townManager.markDirty();
+                town.markDirty();
                 
                 // Force the townInterfaceEntity to update and sync
                 townInterfaceEntity.setChanged();
@@ -169,7 +169,7 @@ public class PersonalStoragePacket extends BaseBlockEntityPacket {
                     Block.UPDATE_ALL);
                 
                 // Force the TownManager to save changes
-                townManager.markDirty();
+                town.markDirty();
                 
                 // Send a response to update the UI
                 PlatformAccess.getNetworkMessages().sendToPlayer(new PersonalStorageResponsePacket(town.getPersonalStorageItems(playerId)), player);
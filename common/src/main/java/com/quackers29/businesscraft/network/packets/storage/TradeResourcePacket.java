@@ -122,7 +122,7 @@ public class TradeResourcePacket extends BaseBlockEntityPacket {
             town.addResource(itemToTrade.getItem(), itemCount);
 
             // MARK DIRTY AFTER ADDING RESOURCES
-            townManager.markDirty();
+            town.markDirty();
 
             DebugConfig.debug(LOGGER, DebugConfig.TRADE_OPERATIONS, "Player {} traded {} x{} to town {}",
                     player.getName().getString(),
@@ -176,7 +176,7 @@ public class TradeResourcePacket extends BaseBlockEntityPacket {
                 town.addResource(currencyItem, -paymentAmt);
 
                 // Explicitly mark the town manager as dirty to persist changes
-                townManager.markDirty();
+                town.markDirty();
 
                 // Force the townInterfaceEntity to update and sync
                 townInterfaceEntity.setChanged();
@@ -223,7 +223,7 @@ public class TradeResourcePacket extends BaseBlockEntityPacket {
             townInterfaceEntity.syncTownData();
 
             // Force the TownManager to save changes
-            townManager.markDirty();
+            town.markDirty();
 
         });
         PlatformAccess.getNetwork().setPacketHandled(context);
@@ -0,0 +1,55 @@
+package com.quackers29.businesscraft.network.packets.town;
+
+import com.quackers29.businesscraft.api.PlatformAccess;
+import com.quackers29.businesscraft.block.entity.TownInterfaceEntity;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.level.Level;
+
+/**
+ * Server-to-client update of a town block's client data, carrying only the sections
+ * that changed (see {@link com.quackers29.businesscraft.town.data.ClientSyncSections}).
+ * Replaces the full block-entity update tag for periodic syncs.
+ */
+public class TownInterfaceSyncPacket {
+    private final BlockPos pos;
+    private final int sections;
+    private final CompoundTag data;
+
+    public TownInterfaceSyncPacket(BlockPos pos, int sections, CompoundTag data) {
+        this.pos = pos;
+        this.sections = sections;
+        this.data = data;
+    }
+
+    public TownInterfaceSyncPacket(FriendlyByteBuf buf) {
+        this.pos = buf.readBlockPos();
+        this.sections = buf.readByte();
+        this.data = buf.readNbt();
+    }
+
+    public void toBytes(FriendlyByteBuf buf) {
+        buf.writeBlockPos(pos);
+        buf.writeByte(sections);
+        buf.writeNbt(data);
+    }
+
+    public static void encode(TownInterfaceSyncPacket msg, FriendlyByteBuf buf) {
+        msg.toBytes(buf);
+    }
+
+    public static TownInterfaceSyncPacket decode(FriendlyByteBuf buf) {
+        return new TownInterfaceSyncPacket(buf);
+    }
+
+    public void handle(Object context) {
+        PlatformAccess.getNetwork().enqueueWork(context, () -> {
+            if (PlatformAccess.getClient().getClientLevel() instanceof Level level
+                    && level.getBlockEntity(pos) instanceof TownInterfaceEntity entity) {
+                entity.applyClientSyncSections(sections, data == null ? new CompoundTag() : data);
+            }
+        });
+        PlatformAccess.getNetwork().setPacketHandled(context);
+    }
+}
@@ -53,10 +53,7 @@ public class AcceptContractPacket {
                         courierContract.setCourierId(player.getUUID());
                         board.updateContract(courierContract);
 
-                        PlatformAccess.getNetworkMessages().sendToPlayer(
-                                new com.quackers29.businesscraft.network.packets.ui.ContractSyncPacket(
-                                        board.getContracts(), board.getAllMarketPrices()),
-                                player);
+                        board.subscribe(player);
                     } else {
                         LOGGER.warn("Player {} tried to accept already assigned contract {}",
                                 player.getName().getString(), contractId);
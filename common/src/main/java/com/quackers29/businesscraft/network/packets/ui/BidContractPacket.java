@@ -81,8 +81,7 @@ public class BidContractPacket {
                             player.getName().getString());
                     return;
                 }
-                PlatformAccess.getNetworkMessages().sendToPlayer(
-                        new ContractSyncPacket(board.getContracts(), board.getAllMarketPrices()), player);
+                board.subscribe(player);
             }
         });
         PlatformAccess.getNetwork().setPacketHandled(context);
@@ -0,0 +1,141 @@
+package com.quackers29.businesscraft.network.packets.ui;
+
+import com.quackers29.businesscraft.api.PlatformAccess;
+import com.quackers29.businesscraft.client.ClientContractBoard;
+import com.quackers29.businesscraft.contract.Contract;
+import com.quackers29.businesscraft.contract.CourierContract;
+import com.quackers29.businesscraft.contract.SellContract;
+import com.quackers29.businesscraft.menu.ContractBoardMenu;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.entity.player.Player;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Packet carrying one tick's contract board changes from server to client.
+ *
+ * New contracts are sent in full, changed ones as their mutable state only (bids,
+ * winner, courier, delivered amount, expiry, completion), removed ones as ids. Market
+ * prices are included only for the resources those contracts touch. The client applies
+ * it only if it holds {@code baseVersion}; otherwise it drops it and asks for a new
+ * snapshot with a {@link ContractResyncRequestPacket}.
+ */
+public class ContractDeltaPacket {
+    private final long baseVersion;
+    private final long version;
+    private final List<Contract> added;
+    private final Map<UUID, CompoundTag> updated;
+    private final List<UUID> removed;
+    private final Map<String, Float> marketPrices;
+
+    public ContractDeltaPacket(long baseVersion, long version, List<Contract> added, List<Contract> updated,
+            List<UUID> removed, Map<String, Float> marketPrices) {
+        this.baseVersion = baseVersion;
+        this.version = version;
+        this.added = added;
+        this.updated = new LinkedHashMap<>();
+        for (Contract contract : updated) {
+            CompoundTag tag = new CompoundTag();
+            contract.saveState(tag);
+            this.updated.put(contract.getId(), tag);
+        }
+        this.removed = removed;
+        this.marketPrices = marketPrices;
+    }
+
+    public ContractDeltaPacket(FriendlyByteBuf buf) {
+        this.baseVersion = buf.readLong();
+        this.version = buf.readLong();
+
+        int addedCount = buf.readInt();
+        this.added = new ArrayList<>(addedCount);
+        for (int i = 0; i < addedCount; i++) {
+            String type = buf.readUtf();
+            CompoundTag tag = buf.readNbt();
+            if ("sell".equals(type)) {
+                this.added.add(new SellContract(tag));
+            } else if ("courier".equals(type)) {
+                this.added.add(new CourierContract(tag));
+            }
+        }
+
+        int updatedCount = buf.readInt();
+        this.updated = new LinkedHashMap<>(updatedCount);
+        for (int i = 0; i < updatedCount; i++) {
+            this.updated.put(buf.readUUID(), buf.readNbt());
+        }
+
+        int removedCount = buf.readInt();
+        this.removed = new ArrayList<>(removedCount);
+        for (int i = 0; i < removedCount; i++) {
+            this.removed.add(buf.readUUID());
+        }
+
+        int priceCount = buf.readInt();
+        this.marketPrices = new HashMap<>(priceCount);
+        for (int i = 0; i < priceCount; i++) {
+            this.marketPrices.put(buf.readUtf(), buf.readFloat());
+        }
+    }
+
+    private void write(FriendlyByteBuf buf) {
+        buf.writeLong(baseVersion);
+        buf.writeLong(version);
+
+        buf.writeInt(added.size());
+        for (Contract c : added) {
+            buf.writeUtf(c.getType());
+            CompoundTag tag = new CompoundTag();
+            c.save(tag);
+            buf.writeNbt(tag);
+        }
+
+        buf.writeInt(updated.size());
+        updated.forEach((id, tag) -> {
+            buf.writeUUID(id);
+            buf.writeNbt(tag);
+        });
+
+        buf.writeInt(removed.size());
+        for (UUID id : removed) {
+            buf.writeUUID(id);
+        }
+
+        buf.writeInt(marketPrices.size());
+        marketPrices.forEach((k, v) -> {
+            buf.writeUtf(k);
+            buf.writeFloat(v);
+        });
+    }
+
+    public static void encode(ContractDeltaPacket msg, FriendlyByteBuf buf) {
+        msg.write(buf);
+    }
+
+    public static ContractDeltaPacket decode(FriendlyByteBuf buf) {
+        return new ContractDeltaPacket(buf);
+    }
+
+    public void handle(Object context) {
+        PlatformAccess.getNetwork().enqueueWork(context, () -> {
+            ClientContractBoard board = ClientContractBoard.get();
+            if (board.applyDelta(baseVersion, version, added, updated, removed)) {
+                Player player = (Player) PlatformAccess.getClient().getPlayer();
+                if (player != null && player.containerMenu instanceof ContractBoardMenu menu) {
+                    menu.setContracts(board.getContracts());
+                }
+            } else {
+                board.requestResync();
+            }
+            com.quackers29.businesscraft.client.ClientGlobalMarket.get().putPrices(marketPrices);
+        });
+        PlatformAccess.getNetwork().setPacketHandled(context);
+    }
+}
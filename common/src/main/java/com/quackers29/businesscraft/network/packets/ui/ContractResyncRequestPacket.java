@@ -0,0 +1,53 @@
+package com.quackers29.businesscraft.network.packets.ui;
+
+import com.quackers29.businesscraft.api.PlatformAccess;
+import com.quackers29.businesscraft.contract.ContractBoard;
+import com.quackers29.businesscraft.debug.DebugConfig;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sent by the client when it had to drop a {@link ContractDeltaPacket} because it does not
+ * hold the delta's base version; the server answers with a fresh {@link ContractSyncPacket}.
+ */
+public class ContractResyncRequestPacket {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContractResyncRequestPacket.class);
+
+    private final long heldVersion;
+
+    public ContractResyncRequestPacket(long heldVersion) {
+        this.heldVersion = heldVersion;
+    }
+
+    public ContractResyncRequestPacket(FriendlyByteBuf buf) {
+        this.heldVersion = buf.readLong();
+    }
+
+    private void write(FriendlyByteBuf buf) {
+        buf.writeLong(heldVersion);
+    }
+
+    public static void encode(ContractResyncRequestPacket msg, FriendlyByteBuf buf) {
+        msg.write(buf);
+    }
+
+    public static ContractResyncRequestPacket decode(FriendlyByteBuf buf) {
+        return new ContractResyncRequestPacket(buf);
+    }
+
+    public void handle(Object context) {
+        PlatformAccess.getNetwork().enqueueWork(context, () -> {
+            Object senderObj = PlatformAccess.getNetwork().getSender(context);
+            if (senderObj instanceof ServerPlayer player && player.level() instanceof ServerLevel level) {
+                DebugConfig.debug(LOGGER, DebugConfig.NETWORK_PACKETS,
+                        "Contract resync requested by {} (holding version {})", player.getName().getString(),
+                        heldVersion);
+                ContractBoard.get(level).resync(player);
+            }
+        });
+        PlatformAccess.getNetwork().setPacketHandled(context);
+    }
+}
@@ -16,20 +16,24 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Packet to sync active contracts from server to client.
+ * Packet to sync active contracts from server to client. This is the full snapshot;
+ * later changes arrive as {@link ContractDeltaPacket}s against its version.
  */
 public class ContractSyncPacket {
     private static final Logger LOGGER = LoggerFactory.getLogger(ContractSyncPacket.class);
 
+    private final long version;
     private final List<Contract> contracts;
     private final java.util.Map<String, Float> marketPrices;
 
-    public ContractSyncPacket(List<Contract> contracts, java.util.Map<String, Float> marketPrices) {
+    public ContractSyncPacket(long version, List<Contract> contracts, java.util.Map<String, Float> marketPrices) {
+        this.version = version;
         this.contracts = contracts;
         this.marketPrices = marketPrices;
     }
 
     public ContractSyncPacket(FriendlyByteBuf buf) {
+        this.version = buf.readLong();
         this.contracts = new ArrayList<>();
         int size = buf.readInt();
         for (int i = 0; i < size; i++) {
@@ -56,6 +60,7 @@ public class ContractSyncPacket {
     }
 
     private void write(FriendlyByteBuf buf) {
+        buf.writeLong(version);
         buf.writeInt(contracts.size());
         for (Contract c : contracts) {
             buf.writeUtf(c.getType());
@@ -82,9 +87,12 @@ public class ContractSyncPacket {
 
     public void handle(Object context) {
         PlatformAccess.getNetwork().enqueueWork(context, () -> {
+            com.quackers29.businesscraft.client.ClientContractBoard board = com.quackers29.businesscraft.client.ClientContractBoard
+                    .get();
+            board.applySnapshot(version, contracts);
             Player player = (Player) PlatformAccess.getClient().getPlayer();
             if (player != null && player.containerMenu instanceof ContractBoardMenu menu) {
-                menu.setContracts(contracts);
+                menu.setContracts(board.getContracts());
             }
             com.quackers29.businesscraft.client.ClientGlobalMarket.get().setPrices(marketPrices);
         });
@@ -1,16 +1,13 @@
 package com.quackers29.businesscraft.network.packets.ui;
 
 import com.quackers29.businesscraft.town.TownManager;
-import com.quackers29.businesscraft.town.Town;
+import com.quackers29.businesscraft.town.TownHeader;
 import com.quackers29.businesscraft.town.data.TownLeaderboardData;
 import com.quackers29.businesscraft.api.PlatformAccess;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.world.item.Items;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.UUID;
 
 /**
  * Client → Server: Request leaderboard data for all towns.
@@ -47,21 +44,20 @@ public class LeaderboardDataRequestPacket {
             Object senderObj = PlatformAccess.getNetwork().getSender(context);
             if (!(senderObj instanceof ServerPlayer player)) return;
 
-            // Get all towns from the server
+            // Headers cover every town without loading any
             TownManager townManager = TownManager.get(player.serverLevel());
-            Map<UUID, Town> allTowns = townManager.getAllTowns();
 
             // Convert to leaderboard data
             List<TownLeaderboardData> leaderboardData = new ArrayList<>();
-            for (Town town : allTowns.values()) {
+            for (TownHeader town : townManager.getTownHeaders()) {
                 TownLeaderboardData data = new TownLeaderboardData(
-                    town.getId(),
-                    town.getName(),
-                    town.getPosition(),
-                    town.getPopulation(),
-                    town.getResourceCount(Items.EMERALD),
-                    town.getHappiness(),
-                    town.getTotalTouristsArrived()
+                    town.id(),
+                    town.name(),
+                    town.position(),
+                    town.population(),
+                    town.emeralds(),
+                    town.happiness(),
+                    town.touristsArrived()
                 );
                 leaderboardData.add(data);
             }
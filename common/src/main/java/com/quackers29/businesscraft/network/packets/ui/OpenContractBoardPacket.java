@@ -68,10 +68,7 @@ public class OpenContractBoardPacket {
                                 .level();
                         com.quackers29.businesscraft.contract.ContractBoard board = com.quackers29.businesscraft.contract.ContractBoard
                                 .get(level);
-                        PlatformAccess.getNetworkMessages().sendToPlayer(
-                                new com.quackers29.businesscraft.network.packets.ui.ContractSyncPacket(
-                                        board.getContracts(), board.getAllMarketPrices()),
-                                player);
+                        board.subscribe(player);
                         DebugConfig.debug(LOGGER, DebugConfig.NETWORK_PACKETS,
                                 "Sent initial contract sync to player {}", player.getName().getString());
                     } catch (Exception e) {
@@ -13,6 +13,7 @@ import org.slf4j.LoggerFactory;
 import com.quackers29.businesscraft.block.entity.TownInterfaceEntity;
 import com.quackers29.businesscraft.platform.Platform;
 import com.quackers29.businesscraft.town.Town;
+import com.quackers29.businesscraft.town.TownHeader;
 import com.quackers29.businesscraft.town.TownManager;
 import com.quackers29.businesscraft.api.PlatformAccess;
 import com.quackers29.businesscraft.debug.DebugConfig;
@@ -65,9 +66,8 @@ public class OpenDestinationsUIPacket {
 
                     // Add all towns except the current one to the packet
                     int addedTowns = 0;
-                    for (Map.Entry<UUID, Town> entry : townManager.getAllTowns().entrySet()) {
-                        UUID townId = entry.getKey();
-                        Town town = entry.getValue();
+                    for (TownHeader town : townManager.getTownHeaders()) {
+                        UUID townId = town.id();
 
                         // Skip this town
                         if (originTown != null && townId.equals(originTown.getId())) {
@@ -75,7 +75,7 @@ public class OpenDestinationsUIPacket {
                         }
 
                         // Calculate distance and direction to the town
-                        BlockPos townPos = town.getPosition();
+                        BlockPos townPos = town.position();
                         if (townPos != null) {
                             int distance = (int) Math.sqrt(townPos.distSqr(originPos));
 
@@ -92,7 +92,7 @@ public class OpenDestinationsUIPacket {
                             boolean enabled = platform.isDestinationEnabled(townId);
                             responsePacket.addTown(
                                     townId,
-                                    town.getName(),
+                                    town.name(),
                                     enabled,
                                     distance,
                                     direction);
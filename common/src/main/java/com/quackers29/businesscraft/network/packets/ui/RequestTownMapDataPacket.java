@@ -1,14 +1,13 @@
 package com.quackers29.businesscraft.network.packets.ui;
 
-import java.util.UUID;
-import java.util.Map;
+import java.util.List;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.server.level.ServerLevel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import com.quackers29.businesscraft.town.Town;
+import com.quackers29.businesscraft.town.TownHeader;
 import com.quackers29.businesscraft.town.TownManager;
 import com.quackers29.businesscraft.api.PlatformAccess;
 import com.quackers29.businesscraft.debug.DebugConfig;
@@ -45,20 +44,20 @@ public class RequestTownMapDataPacket {
                 DebugConfig.debug(LOGGER, DebugConfig.NETWORK_PACKETS,
                     "Processing town map data request for player: {}", player.getName().getString());
 
-                Map<UUID, Town> allTowns = townManager.getAllTowns();
+                // Headers cover every town without loading any
+                List<TownHeader> allTowns = townManager.getTownHeaders();
                 DebugConfig.debug(LOGGER, DebugConfig.NETWORK_PACKETS,
                     "Server has {} towns to send", allTowns.size());
 
                 // No boundary calculation here - that's done per-town on click
                 TownMapDataResponsePacket responsePacket = new TownMapDataResponsePacket();
-                for (Map.Entry<UUID, Town> entry : allTowns.entrySet()) {
-                    Town town = entry.getValue();
+                for (TownHeader town : allTowns) {
                     responsePacket.addTown(
-                        town.getId(),
-                        town.getName(),
-                        town.getPosition(),
-                        (int) town.getPopulation(),
-                        (int) town.getTouristCount()
+                        town.id(),
+                        town.name(),
+                        town.position(),
+                        (int) town.population(),
+                        (int) town.touristCount()
                     );
                 }
 
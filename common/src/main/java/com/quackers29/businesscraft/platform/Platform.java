@@ -19,6 +19,8 @@ public class Platform {
     private BlockPos startPos;
     private BlockPos endPos;
     private Set<UUID> enabledDestinations = new HashSet<>();
+    // Bumped by every setter (see getVersion)
+    private long version = 0;
 
     /**
      * Create a new platform with a random ID
@@ -136,6 +138,7 @@ public class Platform {
      */
     public void setName(String name) {
         this.name = name;
+        version++;
     }
 
     /**
@@ -150,6 +153,7 @@ public class Platform {
      */
     public void setEnabled(boolean enabled) {
         this.enabled = enabled;
+        version++;
     }
 
     /**
@@ -164,6 +168,7 @@ public class Platform {
      */
     public void setStartPos(BlockPos startPos) {
         this.startPos = startPos;
+        version++;
     }
 
     /**
@@ -178,6 +183,7 @@ public class Platform {
      */
     public void setEndPos(BlockPos endPos) {
         this.endPos = endPos;
+        version++;
     }
 
     /**
@@ -199,6 +205,7 @@ public class Platform {
      */
     public void enableDestination(UUID destinationId) {
         enabledDestinations.add(destinationId);
+        version++;
     }
 
     /**
@@ -206,6 +213,7 @@ public class Platform {
      */
     public void disableDestination(UUID destinationId) {
         enabledDestinations.remove(destinationId);
+        version++;
     }
 
     /**
@@ -227,6 +235,7 @@ public class Platform {
      */
     public void clearEnabledDestinations() {
         enabledDestinations.clear();
+        version++;
     }
 
     /**
@@ -254,6 +263,15 @@ public class Platform {
         } else {
             enabledDestinations.remove(destinationId);
         }
+        version++;
+    }
+
+    /**
+     * @return a counter that changes whenever this platform is modified, so owners can
+     *         tell whether it needs to be sent again
+     */
+    public long getVersion() {
+        return version;
     }
 
     /**
@@ -0,0 +1,73 @@
+package com.quackers29.businesscraft.production;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Global table mapping modifier targets ("pop_cap", "storage_cap_wood", recipe ids, ...)
+ * to dense integer slots, so towns can keep their modifiers in a float array.
+ *
+ * Targets from upgrades.csv are interned when {@link UpgradeRegistry} loads; anything
+ * else (flat modifiers, recipe expression variables) is interned on first use. Slots
+ * are never reused or removed, so callers may cache them for the life of the JVM.
+ */
+public final class ModifierSlots {
+    private static final Map<String, Integer> SLOTS = new ConcurrentHashMap<>();
+    private static final Map<String, Integer> STORAGE_CAP_SLOTS = new ConcurrentHashMap<>(); // resource id -> slot
+    private static volatile String[] names = new String[0];
+
+    private ModifierSlots() {
+    }
+
+    /**
+     * @return the slot for a target, allocating one if it has not been seen before
+     */
+    public static int intern(String target) {
+        Integer slot = SLOTS.get(target);
+        if (slot != null)
+            return slot;
+
+        synchronized (ModifierSlots.class) {
+            slot = SLOTS.get(target);
+            if (slot != null)
+                return slot;
+
+            int next = names.length;
+            String[] grown = Arrays.copyOf(names, next + 1);
+            grown[next] = target;
+            names = grown;
+            SLOTS.put(target, next);
+            return next;
+        }
+    }
+
+    /**
+     * Lookup without allocating. Unknown targets have no value in any town.
+     *
+     * @return the slot, or -1 if the target has never been interned
+     */
+    public static int get(String target) {
+        Integer slot = SLOTS.get(target);
+        return slot != null ? slot : -1;
+    }
+
+    /**
+     * @return the slot for "storage_cap_" + resourceId, without building the key string
+     *         on repeat calls
+     */
+    public static int storageCap(String resourceId) {
+        return STORAGE_CAP_SLOTS.computeIfAbsent(resourceId, id -> intern("storage_cap_" + id));
+    }
+
+    public static String nameOf(int slot) {
+        return names[slot];
+    }
+
+    /**
+     * @return the number of slots allocated so far
+     */
+    public static int size() {
+        return names.length;
+    }
+}
@@ -0,0 +1,279 @@
+package com.quackers29.businesscraft.production;
+
+import com.quackers29.businesscraft.api.PlatformAccess;
+import com.quackers29.businesscraft.data.parsers.DataParser.ResourceAmount;
+import com.quackers29.businesscraft.economy.ResourceRegistry;
+import com.quackers29.businesscraft.economy.ResourceType;
+import net.minecraft.world.item.Item;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable, pre-compiled form of a {@link ProductionRecipe}.
+ *
+ * Each input/output amount expression (e.g. "2*pop*farming_basic") is parsed
+ * once into a {@link Term}: the resource id after the legacy pop* rewrite, the
+ * resolved {@link ResourceType} and (on first use) {@link Item}, and a small opcode list for
+ * the dynamic factors. Evaluating a term is allocation-free and multiplies the
+ * factors in the same order as the original string evaluation, so results are
+ * bit-identical.
+ *
+ * Plans are tied to the {@link ResourceRegistry} version they were compiled
+ * against and are rebuilt by {@link ProductionRecipe#getPlan()} after a reload.
+ */
+public final class ProductionPlan {
+
+    /**
+     * Town values a term may reference. Implemented once per town so evaluation
+     * does not allocate.
+     */
+    public interface Context {
+        long getPopulation();
+
+        float getHappiness();
+
+        long getWorkUnits();
+
+        float getModifier(int slot); // ModifierSlots slot
+    }
+
+    /** What an amount applies to, for the special-cased ids. */
+    public enum Target {
+        POP,
+        WU,
+        TOURIST,
+        RESOURCE // registered resource, or a generic stat when there is no ResourceType
+    }
+
+    private static final byte OP_CONST = 0;
+    private static final byte OP_POP = 1;
+    private static final byte OP_HAPPINESS = 2;
+    private static final byte OP_WU = 3;
+    private static final byte OP_MODIFIER = 4;
+
+    private final ProductionRecipe recipe;
+    private final int unlockSlot;
+    private final List<Term> inputs;
+    private final List<Term> outputs;
+    private final int resourceVersion;
+
+    private ProductionPlan(ProductionRecipe recipe, List<Term> inputs, List<Term> outputs, int resourceVersion) {
+        this.recipe = recipe;
+        this.unlockSlot = ModifierSlots.intern(recipe.getId());
+        this.inputs = inputs;
+        this.outputs = outputs;
+        this.resourceVersion = resourceVersion;
+    }
+
+    public static ProductionPlan compile(ProductionRecipe recipe) {
+        int version = ResourceRegistry.getVersion();
+        return new ProductionPlan(recipe, compileAll(recipe.getInputs()), compileAll(recipe.getOutputs()), version);
+    }
+
+    private static List<Term> compileAll(List<ResourceAmount> amounts) {
+        if (amounts == null || amounts.isEmpty())
+            return List.of();
+
+        List<Term> terms = new ArrayList<>(amounts.size());
+        for (ResourceAmount amount : amounts) {
+            terms.add(Term.compile(amount.resourceId, amount.amountExpression));
+        }
+        return List.copyOf(terms);
+    }
+
+    public ProductionRecipe getRecipe() {
+        return recipe;
+    }
+
+    /**
+     * @return the modifier slot of the recipe id (its unlock flag and speed multiplier)
+     */
+    public int getUnlockSlot() {
+        return unlockSlot;
+    }
+
+    public List<Term> getInputs() {
+        return inputs;
+    }
+
+    public List<Term> getOutputs() {
+        return outputs;
+    }
+
+    /**
+     * @return false once the resource registry has been reloaded since compilation
+     */
+    public boolean isCurrent() {
+        return resourceVersion == ResourceRegistry.getVersion();
+    }
+
+    /**
+     * One compiled input or output amount.
+     */
+    public static final class Term {
+        private final String resourceId;
+        private final String expression;
+        private final Target target;
+        private final ResourceType type;
+        private Item item; // resolved on first use
+        private boolean itemResolved;
+        private final boolean dynamic;
+        private final float initial;
+        private final byte[] ops;
+        private final float[] constants;
+        private final int[] modifierSlots;
+
+        private Term(String resourceId, String expression, Target target, ResourceType type,
+                boolean dynamic, float initial, byte[] ops, float[] constants, int[] modifierSlots) {
+            this.resourceId = resourceId;
+            this.expression = expression;
+            this.target = target;
+            this.type = type;
+            this.dynamic = dynamic;
+            this.initial = initial;
+            this.ops = ops;
+            this.constants = constants;
+            this.modifierSlots = modifierSlots;
+        }
+
+        /**
+         * Compiles a raw recipe id/expression pair. Applies the legacy "pop*id" and
+         * "id*pop" rewrites (moving the pop factor into the expression).
+         */
+        public static Term compile(String rawId, String expression) {
+            String finalId = rawId;
+            String finalExpr = expression;
+
+            // Backward compatibility for pop* prefix in ID
+            if (finalId.startsWith("pop*")) {
+                finalId = finalId.substring(4);
+                finalExpr = finalExpr + "*pop";
+            } else if (finalId.endsWith("*pop")) {
+                finalId = finalId.substring(0, finalId.length() - 4);
+                finalExpr = finalExpr + "*pop";
+            }
+
+            Target target = switch (finalId) {
+                case "pop" -> Target.POP;
+                case "wu" -> Target.WU;
+                case "tourist" -> Target.TOURIST;
+                default -> Target.RESOURCE;
+            };
+
+            ResourceType type = ResourceRegistry.get(finalId);
+
+            boolean dynamic = rawId.contains("*") || (expression != null && expression.contains("*"));
+
+            if (finalExpr == null || finalExpr.isEmpty()) {
+                return new Term(finalId, finalExpr, target, type, dynamic, 0f,
+                        new byte[0], new float[0], new int[0]);
+            }
+
+            // Parse factors in order. Leading constants fold into 'initial' (same running
+            // product as the string evaluation); later constants stay in sequence so the
+            // float multiplication order is unchanged.
+            String[] parts = finalExpr.split("\\*");
+            float initial = 1.0f;
+            boolean leading = true;
+            byte[] ops = new byte[parts.length];
+            float[] constants = new float[parts.length];
+            int[] modifierSlots = new int[parts.length];
+            int count = 0;
+
+            for (String part : parts) {
+                part = part.trim();
+                if (part.isEmpty())
+                    continue;
+
+                byte op;
+                float constant = 0f;
+                int slot = -1;
+                if (part.equalsIgnoreCase("pop")) {
+                    op = OP_POP;
+                } else if (part.equalsIgnoreCase("happiness")) {
+                    op = OP_HAPPINESS;
+                } else {
+                    try {
+                        constant = Float.parseFloat(part);
+                        op = OP_CONST;
+                    } catch (NumberFormatException e) {
+                        if (part.equalsIgnoreCase("wu")) {
+                            op = OP_WU;
+                        } else {
+                            // Upgrade modifier (e.g. storage_cap_all); unknown keys evaluate to 0
+                            op = OP_MODIFIER;
+                            slot = ModifierSlots.intern(part);
+                        }
+                    }
+                }
+
+                if (op == OP_CONST && leading) {
+                    initial *= constant;
+                    continue;
+                }
+                leading = false;
+                ops[count] = op;
+                constants[count] = constant;
+                modifierSlots[count] = slot;
+                count++;
+            }
+
+            return new Term(finalId, finalExpr, target, type, dynamic, initial,
+                    java.util.Arrays.copyOf(ops, count),
+                    java.util.Arrays.copyOf(constants, count),
+                    java.util.Arrays.copyOf(modifierSlots, count));
+        }
+
+        /**
+         * Evaluates the amount for a town. Allocation-free.
+         */
+        public float evaluate(Context context) {
+            float result = initial;
+            for (int i = 0; i < ops.length; i++) {
+                switch (ops[i]) {
+                    case OP_CONST -> result *= constants[i];
+                    case OP_POP -> result *= context.getPopulation();
+                    case OP_HAPPINESS -> result *= context.getHappiness();
+                    case OP_WU -> result *= context.getWorkUnits();
+                    case OP_MODIFIER -> result *= context.getModifier(modifierSlots[i]);
+                    default -> {
+                    }
+                }
+            }
+            return result;
+        }
+
+        public String getResourceId() {
+            return resourceId;
+        }
+
+        /** The expression after the pop* rewrite, for logging. */
+        public String getExpression() {
+            return expression;
+        }
+
+        public Target getTarget() {
+            return target;
+        }
+
+        /** @return the registered resource type, or null for pop/stat ids */
+        public ResourceType getType() {
+            return type;
+        }
+
+        /** @return the item for the resource type (looked up once), or null if unresolved */
+        public Item getItem() {
+            if (!itemResolved && type != null) {
+                item = PlatformAccess.getRegistry().getItem(type.getMcItemId());
+                itemResolved = true;
+            }
+            return item;
+        }
+
+        /** @return true if the raw id or expression had a multiplier (used for debug logging) */
+        public boolean isDynamic() {
+            return dynamic;
+        }
+    }
+}
@@ -11,6 +11,7 @@ public class ProductionRecipe {
     private final List<ResourceAmount> inputs;
     private final List<ResourceAmount> outputs;
     private final List<Condition> conditions;
+    private volatile ProductionPlan plan; // compiled lazily, rebuilt after a resource reload
 
     public ProductionRecipe(String id, String displayName, float baseCycleTimeMinutes,
             List<ResourceAmount> inputs, List<ResourceAmount> outputs,
@@ -46,4 +47,16 @@ public class ProductionRecipe {
     public List<Condition> getConditions() {
         return conditions;
     }
+
+    /**
+     * @return the compiled plan for this recipe, recompiling it if resources were reloaded
+     */
+    public ProductionPlan getPlan() {
+        ProductionPlan current = plan;
+        if (current == null || !current.isCurrent()) {
+            current = ProductionPlan.compile(this);
+            plan = current;
+        }
+        return current;
+    }
 }
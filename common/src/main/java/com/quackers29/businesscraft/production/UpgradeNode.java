@@ -21,6 +21,8 @@ public class UpgradeNode {
 
     private float benefitMultiplier = 1.0f;
 
+    private int[] effectSlots; // ModifierSlots slot per effect target, same order as effects
+
     public UpgradeNode(String id, String category, String displayName, String repeatConfig, List<String> prereqNodes,
             String description, List<Effect> effects) {
         this.id = id;
@@ -121,6 +123,22 @@ public class UpgradeNode {
         return effects;
     }
 
+    /**
+     * @return the {@link ModifierSlots} slot of each effect's target, index-aligned with
+     *         {@link #getEffects()}
+     */
+    public int[] getEffectSlots() {
+        int[] slots = effectSlots;
+        if (slots == null) {
+            slots = new int[effects.size()];
+            for (int i = 0; i < slots.length; i++) {
+                slots[i] = ModifierSlots.intern(effects.get(i).getTarget());
+            }
+            effectSlots = slots;
+        }
+        return slots;
+    }
+
     public float getResearchMinutes() {
         return researchMinutes;
     }
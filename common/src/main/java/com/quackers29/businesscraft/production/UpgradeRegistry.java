@@ -29,6 +29,12 @@ public class UpgradeRegistry {
         File upgradesFile = configDir.resolve("businesscraft").resolve(UPGRADES_FILE).toFile();
 
         loadNodes(upgradesFile);
+
+        // Intern every modifier target up front so towns can index modifiers by slot
+        for (UpgradeNode node : NODES.values()) {
+            ModifierSlots.intern(node.getId());
+            node.getEffectSlots();
+        }
     }
 
     private static void loadNodes(File file) {
@@ -1,6 +1,7 @@
 package com.quackers29.businesscraft.scoreboard;
 
-import com.quackers29.businesscraft.town.Town;
+import com.quackers29.businesscraft.config.ConfigLoader;
+import com.quackers29.businesscraft.town.TownHeader;
 import com.quackers29.businesscraft.town.TownManager;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.scores.Objective;
@@ -36,11 +37,13 @@ public class TownScoreboardManager {
         // Set display slot (sidebar)
         scoreboard.setDisplayObjective(1, finalObjective);
         
-        // Update scores for each town
-        TownManager.get(level).getAllTowns().forEach((id, town) -> {
-            String status = town.canSpawnTourists() ? ":ON" : ":OFF";
-            String displayName = town.getName() + status + " [" + town.getTotalVisitors() + "]";
-            scoreboard.getOrCreatePlayerScore(displayName, finalObjective).setScore((int) town.getPopulation());
-        });
+        // Update scores for each town from the headers, so dormant towns stay unloaded
+        for (TownHeader town : TownManager.get(level).getTownHeaders()) {
+            // Same rule as TownService.canSpawnTourists
+            boolean canSpawn = town.touristSpawningEnabled() && town.population() >= ConfigLoader.minPopForTourists;
+            String status = canSpawn ? ":ON" : ":OFF";
+            String displayName = town.name() + status + " [" + town.totalVisitors() + "]";
+            scoreboard.getOrCreatePlayerScore(displayName, finalObjective).setScore((int) town.population());
+        }
     }
 } 
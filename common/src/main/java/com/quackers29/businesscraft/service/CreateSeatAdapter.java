@@ -0,0 +1,134 @@
+package com.quackers29.businesscraft.service;
+
+import net.minecraft.world.entity.Entity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Direct access to the seats of Create contraptions, for mounting tourists without
+ * going through commands.
+ *
+ * Create is an optional dependency and is not on the compile classpath, so the few
+ * members needed (AbstractContraptionEntity.getContraption / addSittingPassenger and
+ * Contraption.getSeats / getSeatMapping) are looked up once as method handles. When
+ * Create is absent or its classes no longer match, {@link #get()} returns null and
+ * callers keep using the command path.
+ */
+public final class CreateSeatAdapter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CreateSeatAdapter.class);
+    private static final String CONTRAPTION_ENTITY_CLASS =
+            "com.simibubi.create.content.contraptions.AbstractContraptionEntity";
+    private static final String CONTRAPTION_CLASS = "com.simibubi.create.content.contraptions.Contraption";
+
+    private static volatile boolean resolved = false;
+    private static CreateSeatAdapter instance;
+
+    private final Class<?> contraptionEntityClass;
+    private final MethodHandle getContraption;
+    private final MethodHandle getSeats;
+    private final MethodHandle getSeatMapping;
+    private final MethodHandle addSittingPassenger;
+
+    private CreateSeatAdapter(Class<?> contraptionEntityClass, MethodHandle getContraption, MethodHandle getSeats,
+                              MethodHandle getSeatMapping, MethodHandle addSittingPassenger) {
+        this.contraptionEntityClass = contraptionEntityClass;
+        this.getContraption = getContraption;
+        this.getSeats = getSeats;
+        this.getSeatMapping = getSeatMapping;
+        this.addSittingPassenger = addSittingPassenger;
+    }
+
+    /**
+     * @return the adapter, or null if Create is not installed or not compatible
+     */
+    public static CreateSeatAdapter get() {
+        if (!resolved) {
+            synchronized (CreateSeatAdapter.class) {
+                if (!resolved) {
+                    instance = resolve();
+                    resolved = true;
+                }
+            }
+        }
+        return instance;
+    }
+
+    private static CreateSeatAdapter resolve() {
+        try {
+            ClassLoader loader = CreateSeatAdapter.class.getClassLoader();
+            Class<?> entityClass = Class.forName(CONTRAPTION_ENTITY_CLASS, false, loader);
+            Class<?> contraptionClass = Class.forName(CONTRAPTION_CLASS, false, loader);
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            CreateSeatAdapter adapter = new CreateSeatAdapter(
+                    entityClass,
+                    lookup.findVirtual(entityClass, "getContraption", MethodType.methodType(contraptionClass)),
+                    lookup.findVirtual(contraptionClass, "getSeats", MethodType.methodType(List.class)),
+                    lookup.findVirtual(contraptionClass, "getSeatMapping", MethodType.methodType(Map.class)),
+                    lookup.findVirtual(entityClass, "addSittingPassenger",
+                            MethodType.methodType(void.class, Entity.class, int.class)));
+            LOGGER.info("Create detected; mounting tourists through the contraption seat API");
+            return adapter;
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            LOGGER.warn("Create found but its seat API did not match ({}); using commands to mount tourists",
+                    e.toString());
+            return null;
+        }
+    }
+
+    public boolean isContraption(Entity entity) {
+        return contraptionEntityClass.isInstance(entity);
+    }
+
+    /**
+     * @return indexes of the carriage's seats that nobody sits on, in seat order;
+     *         empty if the entity has no contraption
+     */
+    public List<Integer> findFreeSeats(Entity carriage) {
+        List<Integer> free = new ArrayList<>();
+        try {
+            Object contraption = getContraption.invoke(carriage);
+            if (contraption == null) {
+                return free;
+            }
+            int seatCount = ((List<?>) getSeats.invoke(contraption)).size();
+            Collection<?> taken = ((Map<?, ?>) getSeatMapping.invoke(contraption)).values();
+            Set<Object> occupied = new HashSet<>(taken);
+            for (int i = 0; i < seatCount; i++) {
+                if (!occupied.contains(i)) {
+                    free.add(i);
+                }
+            }
+        } catch (Throwable t) {
+            LOGGER.debug("Could not read seats of contraption {}: {}", carriage.getUUID(), t.toString());
+        }
+        return free;
+    }
+
+    /**
+     * Seats {@code passenger} on the given seat, as "create passenger" would.
+     *
+     * @return false if Create rejected the call
+     */
+    public boolean seat(Entity carriage, Entity passenger, int seatIndex) {
+        try {
+            addSittingPassenger.invoke(carriage, passenger, seatIndex);
+            return passenger.isPassenger();
+        } catch (Throwable t) {
+            LOGGER.debug("Could not seat {} on contraption {}: {}", passenger.getUUID(), carriage.getUUID(),
+                    t.toString());
+            return false;
+        }
+    }
+}
@@ -2,7 +2,8 @@ package com.quackers29.businesscraft.service;
 
 import com.quackers29.businesscraft.config.ConfigLoader;
 import com.quackers29.businesscraft.debug.DebugConfig;
-import com.quackers29.businesscraft.api.PlatformAccess;
+import com.quackers29.businesscraft.entity.TouristEntity;
+import com.quackers29.businesscraft.entity.TouristRegistry;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.Entity;
@@ -21,15 +22,15 @@ import java.util.function.Predicate;
  * Manages the mounting of tourists to different vehicle types
  * Extracted from TownBlockEntity to create a more modular and maintainable
  * component
+ *
+ * Holds no state of its own: which vehicles are stopped comes from the level's
+ * {@link VehicleMotionTracker}, so one instance can serve every town.
  */
 public class TouristVehicleManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(TouristVehicleManager.class);
     // Note: Access config values through ConfigLoader static fields directly to support hot-reloading
     // and avoid class load order issues with static constants that cache values
 
-    // Maps to track vehicle positions for movement detection
-    private final Map<UUID, Vec3> lastVehiclePositions = new HashMap<>();
-
     /**
      * Attempts to mount available tourists to nearby vehicles
      *
@@ -51,20 +52,26 @@ public class TouristVehicleManager {
         // Create bounds for entity searching
         AABB searchBounds = createSearchBounds(pathStart, pathEnd, searchRadius);
 
+        if (!(level instanceof ServerLevel serverLevel)) {
+            return 0;
+        }
+        // Asking for the tracker starts sampling this level's vehicles
+        VehicleMotionTracker tracker = VehicleMotionTracker.get(serverLevel);
+
         // Get tourists that can be mounted
-        List<Villager> tourists = findAvailableTourists(level, searchBounds, townId);
+        List<Villager> tourists = findAvailableTourists(serverLevel, searchBounds, townId);
         if (tourists.isEmpty()) {
             return 0;
         }
 
         // Handle mounting to Create mod trains if enabled
-        if (ConfigLoader.enableCreateTrains && level instanceof ServerLevel serverLevel) {
-            mountedCount += mountTouristsToCreateTrains(serverLevel, searchBounds, tourists);
+        if (ConfigLoader.enableCreateTrains) {
+            mountedCount += mountTouristsToCreateTrains(serverLevel, tracker, searchBounds, tourists);
         }
 
         // Handle mounting to vanilla minecarts if enabled
         if (ConfigLoader.enableMinecarts) {
-            mountedCount += mountTouristsToMinecarts(level, searchBounds, tourists);
+            mountedCount += mountTouristsToMinecarts(tracker, searchBounds, tourists);
         }
 
         return mountedCount;
@@ -84,27 +91,37 @@ public class TouristVehicleManager {
     }
 
     /**
-     * Finds tourists that are available for mounting
+     * Finds tourists from this town that are available for mounting
      */
-    private List<Villager> findAvailableTourists(Level level, AABB bounds, UUID townId) {
-        return level.getEntitiesOfClass(Villager.class, bounds,
-                villager -> villager.onGround() &&
-                        !villager.isPassenger() &&
-                        PlatformAccess.getTouristHelper().isTourist(villager) &&
-                        townId.toString().equals(PlatformAccess.getTouristHelper().getOriginTownId(villager)));
+    private List<Villager> findAvailableTourists(ServerLevel level, AABB bounds, UUID townId) {
+        List<Villager> available = new ArrayList<>();
+        for (TouristEntity tourist : TouristRegistry.get(level).findByOrigin(townId, bounds)) {
+            if (tourist.onGround() && !tourist.isPassenger()) {
+                available.add(tourist);
+            }
+        }
+        return available;
     }
 
     /**
      * Mounts tourists to Create mod carriages
      */
-    private int mountTouristsToCreateTrains(ServerLevel level, AABB bounds, List<Villager> tourists) {
+    private int mountTouristsToCreateTrains(ServerLevel level, VehicleMotionTracker tracker, AABB bounds,
+            List<Villager> tourists) {
         int mountedCount = 0;
 
         // Find stopped carriages
-        List<Entity> carriages = level.getEntitiesOfClass(Entity.class, bounds,
-                entity -> isStoppedCreateCarriage(entity, level));
+        List<Entity> carriages = tracker.findStopped(bounds);
+        carriages.removeIf(entity -> !VehicleMotionTracker.isCreateCarriage(entity.getType()));
 
+        CreateSeatAdapter adapter = CreateSeatAdapter.get();
         for (Entity carriage : carriages) {
+            if (adapter != null && adapter.isContraption(carriage)) {
+                mountedCount += mountTouristsToCreateSeats(adapter, carriage, tourists);
+                continue;
+            }
+
+            // Fallback when Create's seat API is not available: go through commands
             try {
                 // Get total seats
                 String seatsCommand = String.format("data get entity %s Contraption.Seats",
@@ -134,27 +151,40 @@ public class TouristVehicleManager {
     }
 
     /**
-     * Checks if an entity is a stopped Create carriage
+     * Fills the free seats of a carriage through Create's seat API: one read of the
+     * seat mapping instead of a command per seat
      */
-    private boolean isStoppedCreateCarriage(Entity entity, ServerLevel level) {
-        String entityId = entity.getType().builtInRegistryHolder().key().toString();
-        boolean isCarriage = entityId.contains("create:carriage_contraption");
-
-        if (!isCarriage)
-            return false;
+    private int mountTouristsToCreateSeats(CreateSeatAdapter adapter, Entity carriage, List<Villager> tourists) {
+        long start = System.nanoTime();
+        List<Integer> freeSeats = adapter.findFreeSeats(carriage);
+        Collections.shuffle(freeSeats);
 
-        // Check if carriage is stopped using position change
-        Vec3 currentPos = entity.position();
-        Vec3 lastPos = lastVehiclePositions.get(entity.getUUID());
-
-        boolean isStopped = false;
-        if (lastPos != null) {
-            double positionChange = currentPos.distanceTo(lastPos);
-            isStopped = positionChange < ConfigLoader.minecartStopThreshold;
+        int mountedCount = 0;
+        Iterator<Villager> waiting = tourists.iterator();
+        for (Integer seatIndex : freeSeats) {
+            Villager tourist = null;
+            while (waiting.hasNext() && tourist == null) {
+                Villager candidate = waiting.next();
+                if (!candidate.isPassenger()) {
+                    tourist = candidate;
+                }
+            }
+            if (tourist == null) {
+                break;
+            }
+            if (adapter.seat(carriage, tourist, seatIndex)) {
+                mountedCount++;
+                DebugConfig.debug(LOGGER, DebugConfig.ENTITY_SYSTEM,
+                        "Mounted tourist {} to create carriage {}, seat {}",
+                        tourist.getStringUUID().substring(0, 8), carriage.getStringUUID().substring(0, 8), seatIndex);
+            }
         }
 
-        lastVehiclePositions.put(entity.getUUID(), currentPos);
-        return isStopped;
+        DebugConfig.debug(LOGGER, DebugConfig.ENTITY_SYSTEM,
+                "Create carriage {}: {} free seats, {} mounted in {} us",
+                carriage.getStringUUID().substring(0, 8), freeSeats.size(), mountedCount,
+                (System.nanoTime() - start) / 1000);
+        return mountedCount;
     }
 
     /**
@@ -212,50 +242,27 @@ public class TouristVehicleManager {
     /**
      * Mounts tourists to vanilla minecarts
      */
-    private int mountTouristsToMinecarts(Level level, AABB bounds, List<Villager> tourists) {
+    private int mountTouristsToMinecarts(VehicleMotionTracker tracker, AABB bounds, List<Villager> tourists) {
         int mountedCount = 0;
-        List<AbstractMinecart> minecarts = level.getEntitiesOfClass(AbstractMinecart.class, bounds);
 
-        for (AbstractMinecart minecart : minecarts) {
+        // Only minecarts that were stopped at the latest sample
+        for (Entity vehicle : tracker.findStopped(bounds)) {
             // Skip if minecart already has a passenger
-            if (minecart.hasPassenger(passenger -> true)) {
+            if (!(vehicle instanceof AbstractMinecart minecart) || minecart.hasPassenger(passenger -> true)) {
                 continue;
             }
 
-            Vec3 currentPos = minecart.position();
-            Vec3 lastPos = lastVehiclePositions.get(minecart.getUUID());
+            Optional<Villager> touristOpt = tourists.stream()
+                    .filter(tourist -> !tourist.isPassenger())
+                    .findFirst();
 
-            // Store current position for next check
-            lastVehiclePositions.put(minecart.getUUID(), currentPos);
-
-            // Skip if this is the first time we've seen this minecart
-            if (lastPos == null) {
-                DebugConfig.debug(LOGGER, DebugConfig.ENTITY_SYSTEM, "First time seeing minecart {}",
+            if (touristOpt.isPresent()) {
+                Villager tourist = touristOpt.get();
+                DebugConfig.debug(LOGGER, DebugConfig.ENTITY_SYSTEM, "Mounting tourist {} to minecart {}",
+                        tourist.getStringUUID().toString().substring(0, 8),
                         minecart.getUUID().toString().substring(0, 8));
-                continue;
-            }
-
-            // Calculate position change
-            double positionChange = currentPos.distanceTo(lastPos);
-            DebugConfig.debug(LOGGER, DebugConfig.ENTITY_SYSTEM, "Minecart {} position change: {} (Threshold: {})",
-                    minecart.getUUID().toString().substring(0, 8),
-                    String.format("%.6f", positionChange),
-                    String.format("%.6f", ConfigLoader.minecartStopThreshold));
-
-            // Only board if position change is LESS than threshold (minecart is stopped)
-            if (positionChange < ConfigLoader.minecartStopThreshold) {
-                Optional<Villager> touristOpt = tourists.stream()
-                        .filter(tourist -> !tourist.isPassenger())
-                        .findFirst();
-
-                if (touristOpt.isPresent()) {
-                    Villager tourist = touristOpt.get();
-                    DebugConfig.debug(LOGGER, DebugConfig.ENTITY_SYSTEM, "Mounting tourist {} to minecart {}",
-                            tourist.getStringUUID().toString().substring(0, 8),
-                            minecart.getUUID().toString().substring(0, 8));
-                    tourist.startRiding(minecart);
-                    mountedCount++;
-                }
+                tourist.startRiding(minecart);
+                mountedCount++;
             }
         }
 
@@ -268,12 +275,4 @@ public class TouristVehicleManager {
     private String formatVec3(Vec3 vec) {
         return String.format("[%.2f, %.2f, %.2f]", vec.x, vec.y, vec.z);
     }
-
-    /**
-     * Clears the tracked vehicle positions
-     * Should be called when a world is unloaded or server stops
-     */
-    public void clearTrackedVehicles() {
-        lastVehiclePositions.clear();
-    }
 }
@@ -0,0 +1,171 @@
+package com.quackers29.businesscraft.service;
+
+import com.quackers29.businesscraft.api.PlatformAccess;
+import com.quackers29.businesscraft.config.ConfigLoader;
+import com.quackers29.businesscraft.debug.DebugConfig;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.vehicle.AbstractMinecart;
+import net.minecraft.world.phys.AABB;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Level-wide motion sampling for the vehicles tourists can board (vanilla minecarts
+ * and Create carriages).
+ *
+ * Once every {@value #SAMPLE_INTERVAL_TICKS} ticks, every vehicle of the level is
+ * looked at once and compared with its previous sample; those that moved less than
+ * {@code vehicles.minecartStopThreshold} are published as the level's stopped
+ * vehicles. Platforms read that snapshot with {@link #findStopped} instead of each
+ * scanning its own area and keeping its own position history.
+ *
+ * Per-vehicle state is dropped as soon as a vehicle is missing from a sample and is
+ * capped at {@value #MAX_TRACKED} entries (least recently seen evicted first), so it
+ * does not grow with carts that come and go. Levels are only sampled once something
+ * asked for their tracker. Server thread only.
+ */
+public class VehicleMotionTracker {
+    private static final Logger LOGGER = LoggerFactory.getLogger(VehicleMotionTracker.class);
+    static final int SAMPLE_INTERVAL_TICKS = 20;
+    static final int MAX_TRACKED = 4096;
+
+    private static final Map<ServerLevel, VehicleMotionTracker> INSTANCES = new HashMap<>();
+    private static long serverTicks = 0;
+
+    private final ServerLevel level;
+    private final Map<UUID, MotionState> states = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, MotionState> eldest) {
+            return size() > MAX_TRACKED;
+        }
+    };
+    private final Map<EntityType<?>, Boolean> vehicleTypes = new HashMap<>();
+    private List<Entity> stopped = Collections.emptyList();
+    private long sampleCount = 0;
+
+    private static final class MotionState {
+        double x;
+        double y;
+        double z;
+        long lastSample;
+    }
+
+    private VehicleMotionTracker(ServerLevel level) {
+        this.level = level;
+    }
+
+    public static void initialize() {
+        PlatformAccess.getEvents().registerServerTickCallback(VehicleMotionTracker::onServerTick);
+        PlatformAccess.getEvents().registerLevelUnloadCallback(level -> {
+            if (level instanceof ServerLevel serverLevel) {
+                remove(serverLevel);
+            }
+        });
+    }
+
+    public static VehicleMotionTracker get(ServerLevel level) {
+        return INSTANCES.computeIfAbsent(level, VehicleMotionTracker::new);
+    }
+
+    /**
+     * Drops the tracker of a level that is being unloaded; other levels keep theirs.
+     */
+    public static void remove(ServerLevel level) {
+        if (INSTANCES.remove(level) != null) {
+            DebugConfig.debug(LOGGER, DebugConfig.ENTITY_SYSTEM, "Dropped VehicleMotionTracker for unloaded level {}",
+                    level.dimension().location());
+        }
+    }
+
+    public static void clearInstances() {
+        DebugConfig.debug(LOGGER, DebugConfig.ENTITY_SYSTEM, "Clearing {} VehicleMotionTracker instances",
+                INSTANCES.size());
+        INSTANCES.clear();
+    }
+
+    private static void onServerTick(MinecraftServer server) {
+        serverTicks++;
+        if (serverTicks % SAMPLE_INTERVAL_TICKS != 0 || INSTANCES.isEmpty()) {
+            return;
+        }
+        for (VehicleMotionTracker tracker : INSTANCES.values()) {
+            tracker.sample();
+        }
+    }
+
+    void sample() {
+        long sample = ++sampleCount;
+        double thresholdSqr = ConfigLoader.minecartStopThreshold * ConfigLoader.minecartStopThreshold;
+        List<Entity> nowStopped = new ArrayList<>();
+
+        for (Entity entity : level.getAllEntities()) {
+            if (!isVehicle(entity)) {
+                continue;
+            }
+            MotionState state = states.get(entity.getUUID());
+            if (state == null) {
+                // First sighting: nothing to compare against until the next sample
+                state = new MotionState();
+                states.put(entity.getUUID(), state);
+            } else if (state.lastSample == sample - 1) {
+                double dx = entity.getX() - state.x;
+                double dy = entity.getY() - state.y;
+                double dz = entity.getZ() - state.z;
+                if (dx * dx + dy * dy + dz * dz < thresholdSqr) {
+                    nowStopped.add(entity);
+                }
+            }
+            state.x = entity.getX();
+            state.y = entity.getY();
+            state.z = entity.getZ();
+            state.lastSample = sample;
+        }
+
+        // Vehicles missing from this sample left the level or were unloaded
+        states.values().removeIf(state -> state.lastSample != sample);
+        stopped = nowStopped;
+
+        DebugConfig.debug(LOGGER, DebugConfig.ENTITY_SYSTEM, "Vehicle sample in {}: {} tracked, {} stopped",
+                level.dimension().location(), states.size(), nowStopped.size());
+    }
+
+    /**
+     * @return vehicles that were stopped at the latest sample and whose bounding box
+     *         intersects {@code bounds}; removed vehicles are skipped
+     */
+    public List<Entity> findStopped(AABB bounds) {
+        List<Entity> result = new ArrayList<>();
+        for (Entity vehicle : stopped) {
+            if (!vehicle.isRemoved() && bounds.intersects(vehicle.getBoundingBox())) {
+                result.add(vehicle);
+            }
+        }
+        return result;
+    }
+
+    public int getTrackedCount() {
+        return states.size();
+    }
+
+    private boolean isVehicle(Entity entity) {
+        if (entity instanceof AbstractMinecart) {
+            return true;
+        }
+        return vehicleTypes.computeIfAbsent(entity.getType(), VehicleMotionTracker::isCreateCarriage);
+    }
+
+    static boolean isCreateCarriage(EntityType<?> type) {
+        return type.builtInRegistryHolder().key().toString().contains("create:carriage_contraption");
+    }
+}
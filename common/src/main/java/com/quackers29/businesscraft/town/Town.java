@@ -16,6 +16,8 @@ import com.quackers29.businesscraft.town.components.TownUpgradeComponent;
 import com.quackers29.businesscraft.town.components.TownContractComponent;
 import com.quackers29.businesscraft.api.ITownDataProvider;
 import com.quackers29.businesscraft.api.PlatformAccess;
+import com.quackers29.businesscraft.production.ModifierSlots;
+import com.quackers29.businesscraft.town.data.ClientSyncSections;
 import com.quackers29.businesscraft.town.data.TownPaymentBoard;
 import net.minecraft.world.item.Item;
 import java.util.ArrayList;
@@ -45,6 +47,26 @@ public class Town implements ITownDataProvider, com.quackers29.businesscraft.tow
     // Work Units (WU) - Special resource
     private long workUnits = 0;
 
+    // Modifier slots read on hot paths (see ModifierSlots)
+    private static final int WU_CAP_SLOT = ModifierSlots.intern("wu_cap");
+    private static final int HAPPINESS_SLOT = ModifierSlots.intern("happiness");
+    private static final int BORDER_SLOT = ModifierSlots.intern("border");
+
+    // Cached from the "border" modifier; refreshed by the upgrades' modifier listener
+    private int boundaryRadius;
+    private long boundaryRadiusSq;
+
+    // Change counter for analytic production (see getStateVersion)
+    private long stateVersion = 0;
+    // Change counters for the town block's client data, by section (see getClientDataVersion)
+    private final long[] clientDataVersions = new long[ClientSyncSections.Section.values().length];
+
+    // Manager holding this town, set by TownManager on register/load (not saved)
+    private TownManager manager;
+
+    // Set by markDirty(), cleared when TownSavedData folds it in (see flushDirtyTowns)
+    private boolean dirtyPending = false;
+
     @Override
     public long getWorkUnits() {
         return workUnits;
@@ -78,7 +100,7 @@ public class Town implements ITownDataProvider, com.quackers29.businesscraft.tow
     @Override
     public long getWorkUnitCap() {
         // Cap determined by upgrades
-        return (long) upgrades.getModifier("wu_cap");
+        return (long) upgrades.getModifier(WU_CAP_SLOT);
     }
 
     // Cumulative tourism stats
@@ -118,6 +140,13 @@ public class Town implements ITownDataProvider, com.quackers29.businesscraft.tow
         this.upgrades = new TownUpgradeComponent(this);
         this.contracts = new TownContractComponent(this);
 
+        refreshBoundaryRadius();
+        this.upgrades.addModifierListener((slot, oldValue, newValue) -> {
+            if (slot == BORDER_SLOT) {
+                onBorderModifierChanged();
+            }
+        });
+
         // Initialize with default starting population
         economy.setPopulation(ConfigLoader.defaultStartingPopulation);
     }
@@ -131,16 +160,19 @@ public class Town implements ITownDataProvider, com.quackers29.businesscraft.tow
     }
 
     public float getHappiness() {
-        float modifier = upgrades.getModifier("happiness");
+        float modifier = upgrades.getModifier(HAPPINESS_SLOT);
         return Math.max(0.0f, Math.min(100.0f, this.happiness + modifier));
     }
 
     public void setHappiness(float happiness) {
+        if (this.happiness != happiness)
+            stateVersion++;
         this.happiness = happiness;
     }
 
     public void adjustHappiness(float delta) {
         this.happiness = Math.max(0.0f, Math.min(100.0f, this.happiness + delta));
+        stateVersion++;
     }
 
     public TownContractComponent getContracts() {
@@ -151,24 +183,71 @@ public class Town implements ITownDataProvider, com.quackers29.businesscraft.tow
     private int wantCalculationCooldown = 0;
 
     public void tick() {
-        economy.tick();
+        tick(1);
+    }
+
+    /**
+     * Advances the town by several server ticks at once (catch-up after being
+     * skipped by the TownTickScheduler). Production and research accrue exactly
+     * as if {@link #tick()} had been called elapsedTicks times.
+     *
+     * The span is split at every research completion, AI research check and wants
+     * check, each falling on the last tick of its part. Within a part nothing changes
+     * the modifiers or the research state, so each component can run the whole part
+     * in turn; the event then sees the stock and modifiers it would have seen when
+     * ticking every tick.
+     *
+     * @param elapsedTicks Number of server ticks since this town last ticked
+     */
+    public void tick(int elapsedTicks) {
+        int remaining = elapsedTicks;
+        while (remaining > 0) {
+            int span = remaining;
+            if (ConfigLoader.researchEnabled) {
+                span = upgrades.ticksUntilNextEvent(span);
+            }
+            span = (int) Math.min(span, Math.max(wantCalculationCooldown, 0) + 1L);
+            tickSpan(span);
+            remaining -= span;
+        }
+    }
+
+    // Runs up to and including the next event; see tick(int)
+    private void tickSpan(int elapsedTicks) {
+        // Research scoring done by the AI and the want system in this pass is shared
+        upgrades.getResearchScoreCache().advanceWindow();
+
+        economy.tick(elapsedTicks);
         if (ConfigLoader.tradingEnabled) {
-            trading.tick();
+            trading.tick(elapsedTicks);
         }
         if (ConfigLoader.productionEnabled) {
-            production.tick();
+            production.tick(elapsedTicks);
         }
+        // Contracts run on wall-clock time, so one pass covers any number of skipped ticks
         if (ConfigLoader.contractsEnabled) contracts.tick(); // Phase 11 global toggle
-        if (ConfigLoader.researchEnabled) upgrades.tick(); // Phase 11 global toggle
+        if (ConfigLoader.researchEnabled) upgrades.tick(elapsedTicks); // Phase 11 global toggle
 
-        if (wantCalculationCooldown-- <= 0) {
+        // Wants are checked every 21 ticks (~1 second): the tick the cooldown runs out, then
+        // the cooldown restarts at 20. Spans end on a check at the latest.
+        if (elapsedTicks > wantCalculationCooldown) {
             wantCalculationCooldown = 20; // Check every 1 second
             calculateWants();
+        } else {
+            wantCalculationCooldown -= elapsedTicks;
         }
     }
 
     public void calculateWants() {
+        Map<Item, Long> previous = wantedResources.isEmpty() ? Collections.emptyMap() : new HashMap<>(wantedResources);
         wantedResources.clear();
+        computeWants();
+        if (!wantedResources.equals(previous)) {
+            markClientDataChanged(ClientSyncSections.Section.WANTS);
+        }
+    }
+
+    private void computeWants() {
         String bestNodeId = com.quackers29.businesscraft.town.ai.TownResearchAI.getBestUpgradeTarget(this);
 
         // If we are already researching the best target, we don't "want" resources for
@@ -213,6 +292,7 @@ public class Town implements ITownDataProvider, com.quackers29.businesscraft.tow
     @Override
     public void addResource(Item item, long count) {
         economy.addResource(item, count);
+        stateVersion++;
     }
 
     @Override
@@ -251,6 +331,7 @@ public class Town implements ITownDataProvider, com.quackers29.businesscraft.tow
                 escrowedResources.put(item, newAmount);
             }
         }
+        markClientDataChanged(ClientSyncSections.Section.ESCROW);
         markDirty();
     }
 
@@ -279,34 +360,48 @@ public class Town implements ITownDataProvider, com.quackers29.businesscraft.tow
     // ================================
 
     /**
-     * Gets the boundary radius for this town based on population (1:1 ratio)
+     * Gets the boundary radius for this town from its "border" modifier. Cached; only
+     * recomputed when that modifier changes.
      * 
      * @return The boundary radius in blocks
      */
     public int getBoundaryRadius() {
+        return boundaryRadius;
+    }
+
+    /**
+     * @return the boundary radius squared, for distSqr comparisons
+     */
+    public long getBoundaryRadiusSq() {
+        return boundaryRadiusSq;
+    }
+
+    private void refreshBoundaryRadius() {
         // Use "border" modifier from upgrades/starting stats
-        float borderMod = upgrades.getModifier("border");
+        float borderMod = upgrades.getModifier(BORDER_SLOT);
 
-        // Fallback for legacy towns that might not have the modifier yet
+        // Fallback for legacy towns that don't have the modifier yet: the starting
+        // "border:50"
         if (borderMod <= 0) {
-            // Fallback to population-based (legacy behavior) or a safe default
-            // The user requested removing the tie, but for safety in existing worlds
-            // without migration logic,
-            // we might want to default to 50 if population is small, or keep population as
-            // fallback?
-            // Since we are decoupling, let's just make sure it's at least 50.
-            // But if we return 50, old towns (pop 5) which expect 5 will suddenly jump to
-            // 50.
-            // That's acceptable as per "starting 'border:50'".
             borderMod = 50;
         }
 
-        int radius = (int) borderMod;
+        this.boundaryRadius = (int) borderMod;
+        this.boundaryRadiusSq = (long) boundaryRadius * boundaryRadius;
+    }
 
-        // Debugging rarely needed here unless issues arise
-        // DebugConfig.debug(LOGGER, DebugConfig.TOWN_DATA_SYSTEMS, "Town {} boundary
-        // radius: {}", name, radius);
-        return radius;
+    private void onBorderModifierChanged() {
+        int oldRadius = boundaryRadius;
+        refreshBoundaryRadius();
+        if (boundaryRadius == oldRadius) {
+            return;
+        }
+        stateVersion++;
+        DebugConfig.debug(LOGGER, DebugConfig.TOWN_DATA_SYSTEMS,
+                "Town {} boundary radius changed: {} -> {}", name, oldRadius, boundaryRadius);
+        if (manager != null) {
+            manager.onBoundaryChanged(this);
+        }
     }
 
     @Override
@@ -329,25 +424,8 @@ public class Town implements ITownDataProvider, com.quackers29.businesscraft.tow
         if (pos == null)
             return false;
 
-        // Simple distance check (cylindrical or spherical? typically cylindrical for
-        // towns)
-        // Using cylindrical distance (ignoring Y) for now as it's more standard for
-        // town claims,
-        // but spherical (distSqr) is easier and matches `wouldOverlapWith`.
-        // Let's match `wouldOverlapWith` logic which uses 3D distance by default
-        // distSqr on BlockPos.
-
-        // Actually, for player detection, 2D (horizontal) radius is often better so
-        // players
-        // strictly above/below are still included, but let's stick to simple 3D
-        // distance
-        // first as it's safe.
-        // WAIT: `wouldOverlapWith` uses `this.position.distSqr(otherTown.position)`.
-
-        double distanceSqr = this.position.distSqr(pos);
-        int radius = getBoundaryRadius();
-
-        return distanceSqr <= (radius * radius);
+        // 3D distance, matching `wouldOverlapWith`
+        return this.position.distSqr(pos) <= boundaryRadiusSq;
     }
 
     /**
@@ -867,6 +945,7 @@ public class Town implements ITownDataProvider, com.quackers29.businesscraft.tow
      */
     public void setName(String newName) {
         this.name = newName;
+        markClientDataChanged(ClientSyncSections.Section.INFO);
     }
 
     public long getPopulation() {
@@ -875,6 +954,7 @@ public class Town implements ITownDataProvider, com.quackers29.businesscraft.tow
 
     public void setPopulation(int population) {
         economy.setPopulation(population);
+        stateVersion++;
     }
 
     public UUID getId() {
@@ -887,10 +967,12 @@ public class Town implements ITownDataProvider, com.quackers29.businesscraft.tow
 
     public void setTouristSpawningEnabled(boolean enabled) {
         this.touristSpawningEnabled = enabled;
+        stateVersion++;
     }
 
     public void addVisitor(UUID fromTownId) {
         visitors.merge(fromTownId, 1L, Long::sum);
+        stateVersion++;
     }
 
     public int getPendingTouristSpawns() {
@@ -945,6 +1027,7 @@ public class Town implements ITownDataProvider, com.quackers29.businesscraft.tow
 
     public void setSearchRadius(int searchRadius) {
         this.searchRadius = searchRadius;
+        markClientDataChanged(ClientSyncSections.Section.INFO);
     }
 
     public String getBiome() {
@@ -970,27 +1053,79 @@ public class Town implements ITownDataProvider, com.quackers29.businesscraft.tow
         return id;
     }
 
+    /**
+     * Counter bumped whenever something production depends on may have changed
+     * (resources, population, happiness, work units, tourists, upgrades). Analytic
+     * production re-plans when it moves. Every markDirty() also bumps it.
+     */
+    public long getStateVersion() {
+        return stateVersion;
+    }
+
+    /**
+     * Counter for one section of the town block's client data that moves whenever that
+     * data changes, so the block only re-sends sections whose counter moved. Resources
+     * also follow the resource and payment-buffer storages, which count their own changes.
+     */
+    public long getClientDataVersion(ClientSyncSections.Section section) {
+        long version = clientDataVersions[section.ordinal()];
+        if (section == ClientSyncSections.Section.RESOURCES) {
+            version += economy.getResources().getVersion() + paymentBoard.getBufferStorageSlots().getVersion();
+        }
+        return version;
+    }
+
+    private void markClientDataChanged(ClientSyncSections.Section section) {
+        clientDataVersions[section.ordinal()]++;
+    }
+
+    /**
+     * @return the manager (and through it the level) this town belongs to, or null if
+     *         it is not registered with one
+     */
+    public TownManager getManager() {
+        return manager;
+    }
+
+    void setManager(TownManager manager) {
+        this.manager = manager;
+        if (manager != null && dirtyPending) {
+            manager.getSavedData().queueDirty(this);
+        }
+    }
+
+    /**
+     * Flags the town as changed. Only the first call since the last fold queues the
+     * town with its TownSavedData; the saved data itself is marked dirty once per tick
+     * by {@link TownManager#tick()}.
+     */
     @Override
     public void markDirty() {
-        // Find the TownManager for all loaded levels and mark the town data as dirty
-        // Platform-agnostic: iterate through all TownManager instances
-        boolean foundInAnyLevel = false;
-        for (TownManager manager : TownManager.getAllInstances()) {
-            if (manager.getTown(id) == this) {
-                manager.markDirty();
-                foundInAnyLevel = true;
-                DebugConfig.debug(LOGGER, DebugConfig.TOWN_DATA_SYSTEMS,
-                        "Successfully marked town '{}' (id: {}) as dirty",
-                        this.name, this.id);
-            }
+        stateVersion++;
+        if (dirtyPending) {
+            return;
         }
-
-        if (!foundInAnyLevel) {
-            LOGGER.warn("Failed to mark town '{}' (id: {}) as dirty - not found in any loaded level",
+        dirtyPending = true;
+        if (manager != null) {
+            manager.getSavedData().queueDirty(this);
+        } else {
+            DebugConfig.debug(LOGGER, DebugConfig.TOWN_DATA_SYSTEMS,
+                    "Town '{}' (id: {}) marked dirty before being registered with a level",
                     this.name, this.id);
         }
     }
 
+    /**
+     * @return true if the town changed since its saved data last folded it in
+     */
+    public boolean isDirtyPending() {
+        return dirtyPending;
+    }
+
+    public void clearDirtyPending() {
+        dirtyPending = false;
+    }
+
     @Override
     public String getTownName() {
         return getName();
@@ -1020,6 +1155,7 @@ public class Town implements ITownDataProvider, com.quackers29.businesscraft.tow
             this.totalTouristDistance += distance * count; // Weighted by visitor count
         }
 
+        markClientDataChanged(ClientSyncSections.Section.HISTORY);
         // Mark as dirty to ensure it's saved
         markDirty();
     }
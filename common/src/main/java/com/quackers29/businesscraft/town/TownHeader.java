@@ -0,0 +1,91 @@
+package com.quackers29.businesscraft.town;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.item.Items;
+
+import java.util.UUID;
+
+/**
+ * Compact summary of a town that stays in memory even while the full {@link Town} is
+ * not loaded. Enough for boundary checks, town placement, the town map, the
+ * leaderboard, the scoreboard and destination picking; anything else needs
+ * {@link TownManager#getTown(UUID)}.
+ *
+ * @param stateVersion the {@link Town#getStateVersion()} the header was taken at, or -1
+ *                     when it was read from disk
+ */
+public record TownHeader(
+    UUID id,
+    String name,
+    BlockPos position,
+    int boundaryRadius,
+    long population,
+    long emeralds,
+    float happiness,
+    long touristCount,
+    long touristsArrived,
+    boolean touristSpawningEnabled,
+    long totalVisitors,
+    long stateVersion
+) {
+    public static TownHeader of(Town town) {
+        return new TownHeader(
+            town.getId(),
+            town.getName(),
+            town.getPosition(),
+            town.getBoundaryRadius(),
+            town.getPopulation(),
+            town.getResourceCount(Items.EMERALD),
+            town.getHappiness(),
+            town.getTouristCount(),
+            town.getTotalTouristsArrived(),
+            town.isTouristSpawningEnabled(),
+            town.getTotalVisitors(),
+            town.getStateVersion()
+        );
+    }
+
+    /**
+     * @return true if {@code pos} is within this town's boundary
+     */
+    public boolean contains(BlockPos pos) {
+        return pos.distSqr(position) <= (double) boundaryRadius * boundaryRadius;
+    }
+
+    public CompoundTag save() {
+        CompoundTag tag = new CompoundTag();
+        tag.putUUID("id", id);
+        tag.putString("name", name);
+        tag.putInt("posX", position.getX());
+        tag.putInt("posY", position.getY());
+        tag.putInt("posZ", position.getZ());
+        tag.putInt("radius", boundaryRadius);
+        tag.putLong("population", population);
+        tag.putLong("emeralds", emeralds);
+        tag.putFloat("happiness", happiness);
+        tag.putLong("touristCount", touristCount);
+        tag.putLong("touristsArrived", touristsArrived);
+        tag.putBoolean("touristSpawningEnabled", touristSpawningEnabled);
+        tag.putLong("totalVisitors", totalVisitors);
+        return tag;
+    }
+
+    public static TownHeader load(CompoundTag tag) {
+        return new TownHeader(
+            tag.getUUID("id"),
+            tag.getString("name"),
+            new BlockPos(tag.getInt("posX"), tag.getInt("posY"), tag.getInt("posZ")),
+            tag.getInt("radius"),
+            tag.getLong("population"),
+            tag.getLong("emeralds"),
+            tag.getFloat("happiness"),
+            tag.getLong("touristCount"),
+            tag.getLong("touristsArrived"),
+            // Headers saved before the flag existed: spawning defaults to on in Town
+            !tag.contains("touristSpawningEnabled") || tag.getBoolean("touristSpawningEnabled"),
+            tag.getLong("totalVisitors"),
+            -1
+        );
+    }
+}
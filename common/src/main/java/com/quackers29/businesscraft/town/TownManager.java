@@ -6,7 +6,10 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import net.minecraft.nbt.CompoundTag;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import com.quackers29.businesscraft.data.TownRecordStore;
 import com.quackers29.businesscraft.data.TownSavedData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,7 +30,12 @@ public class TownManager {
     private static final Logger LOGGER = LoggerFactory.getLogger("BusinessCraft/TownManager");
     private final TownSavedData savedData;
     private final TownBoundaryService boundaryService;
+    private final TownTickScheduler tickScheduler = new TownTickScheduler();
     private final ServerLevel level;
+    // Game time each loaded town was last looked up, for idle unloading
+    private final Map<UUID, Long> lastAccess = new HashMap<>();
+    private int idleCheckCountdown = IDLE_CHECK_INTERVAL;
+    private static final int IDLE_CHECK_INTERVAL = 100; // ticks
 
     // Static reference to the current level for context
     private static final Map<ServerLevel, TownManager> INSTANCES = new HashMap<>();
@@ -40,17 +48,32 @@ public class TownManager {
         return this.level;
     }
 
+    public TownTickScheduler getTickScheduler() {
+        return this.tickScheduler;
+    }
+
     private TownManager(ServerLevel level) {
         this.level = level;
         this.savedData = level.getDataStorage().computeIfAbsent(
                 TownSavedData::load,
                 TownSavedData::create,
                 TownSavedData.NAME);
+        savedData.attachStore(new TownRecordStore(getRecordDirectory(level)), ConfigLoader.perTownStorage,
+                ConfigLoader.lazyTownLoading);
+        savedData.getTowns().values().forEach(town -> town.setManager(this));
         this.boundaryService = new TownBoundaryService();
         DebugConfig.debug(LOGGER, DebugConfig.TOWN_MANAGER, "TownManager initialized for level: {}",
                 level.dimension().location());
     }
 
+    // Next to the level's other saved data: <dimension>/data/businesscraft_towns/
+    private static java.nio.file.Path getRecordDirectory(ServerLevel level) {
+        java.nio.file.Path worldRoot = level.getServer()
+                .getWorldPath(net.minecraft.world.level.storage.LevelResource.ROOT);
+        return net.minecraft.world.level.dimension.DimensionType.getStorageFolder(level.dimension(), worldRoot)
+                .resolve("data").resolve(TownSavedData.NAME);
+    }
+
     public static TownManager get(ServerLevel level) {
         // Ensure Global Market persistence is properly initialized from Overworld data
         // independently of which dimension we are currently accessing
@@ -95,7 +118,8 @@ public class TownManager {
         DebugConfig.debug(LOGGER, DebugConfig.TOWN_MANAGER, "Registering new town. ID: {}, Name: {}, Position: {}",
                 townId, name, pos);
         Town town = new Town(townId, pos, name);
-        savedData.getTowns().put(townId, town);
+        town.setManager(this);
+        savedData.addTown(town);
 
         if (level != null) {
             String biomeIdString = level.getBiome(pos).unwrapKey().map(k -> k.location().toString())
@@ -211,7 +235,7 @@ public class TownManager {
      */
     public boolean canPlaceTownAt(BlockPos pos) {
         com.quackers29.businesscraft.util.Result<Void, com.quackers29.businesscraft.util.BCError.TownError> result = boundaryService
-                .checkTownPlacement(pos, savedData.getTowns().values());
+                .checkPlacementAgainstIndex(pos, savedData.getBoundaryIndex());
 
         if (result.isFailure()) {
             DebugConfig.debug(LOGGER, DebugConfig.TOWN_MANAGER, "Town placement failed: {}",
@@ -231,13 +255,83 @@ public class TownManager {
      */
     public String getTownPlacementError(BlockPos pos) {
         com.quackers29.businesscraft.util.Result<Void, com.quackers29.businesscraft.util.BCError.TownError> result = boundaryService
-                .checkTownPlacement(pos, savedData.getTowns().values());
+                .checkPlacementAgainstIndex(pos, savedData.getBoundaryIndex());
 
         return result.isFailure() ? result.getError().getMessage() : null;
     }
 
+    /**
+     * Gets a town, loading it first if lazy loading left it unloaded.
+     */
     public Town getTown(UUID id) {
-        return savedData.getTowns().get(id);
+        Town town = savedData.getTowns().get(id);
+        if (town == null) {
+            town = savedData.hydrate(id);
+            if (town == null) {
+                return null;
+            }
+            town.setManager(this);
+            DebugConfig.debug(LOGGER, DebugConfig.TOWN_MANAGER, "Loaded town {} ({}) on first access",
+                    town.getName(), id);
+        }
+        if (ConfigLoader.townIdleUnloadSeconds > 0) {
+            lastAccess.put(id, level.getGameTime());
+        }
+        return town;
+    }
+
+    /**
+     * @return the header of a town, loaded or not, or null if there is no such town
+     */
+    public TownHeader getTownHeader(UUID id) {
+        return savedData.getHeader(id);
+    }
+
+    /**
+     * Headers of every town of this level. Does not load any town, so prefer this
+     * over {@link #getAllTowns()} when names, positions, boundaries or populations
+     * are enough.
+     */
+    public List<TownHeader> getTownHeaders() {
+        return savedData.getHeaders();
+    }
+
+    /**
+     * @return the town whose boundary contains {@code pos}, or null; loads nothing
+     */
+    public TownHeader findTownAt(BlockPos pos) {
+        TownHeader found = savedData.getBoundaryIndex().findAt(pos);
+        return found != null ? savedData.getHeader(found.id()) : null;
+    }
+
+    /**
+     * Batch form of {@link #findTownAt} for many positions at once (e.g. every player
+     * of this level).
+     */
+    public <K> Map<K, TownHeader> findTownsAt(Map<K, BlockPos> positions) {
+        Map<K, TownHeader> found = savedData.getBoundaryIndex().findAll(positions);
+        found.replaceAll((key, header) -> header != null ? savedData.getHeader(header.id()) : null);
+        return found;
+    }
+
+    /**
+     * Called by a town when its boundary radius changed. Re-indexes the town right away
+     * and pushes the new radius to clients near it, so open boundary visualizations
+     * update without asking.
+     */
+    void onBoundaryChanged(Town town) {
+        if (!savedData.isLoaded(town.getId())) {
+            return; // Still being created or loaded; indexed when added
+        }
+        savedData.refreshHeader(town);
+        com.quackers29.businesscraft.api.PlatformAccess.getNetworkMessages().sendToAllTrackingChunk(
+                new com.quackers29.businesscraft.network.packets.ui.BoundarySyncResponsePacket(
+                        town.getPosition(), town.getBoundaryRadius()),
+                level, town.getPosition());
+    }
+
+    public int getTownCount() {
+        return savedData.getTownCount();
     }
 
     /**
@@ -248,16 +342,16 @@ public class TownManager {
      * @param count  The amount to add
      */
     public void addResource(UUID townId, Item item, int count) {
-        Town town = savedData.getTowns().get(townId);
+        Town town = getTown(townId);
         if (town != null) {
             town.addResource(item, count);
-            savedData.setDirty();
+            town.markDirty();
         }
     }
 
     public void saveAllTowns(CompoundTag worldData) {
         CompoundTag townsTag = new CompoundTag();
-        savedData.getTowns().forEach((id, town) -> {
+        getAllTowns().forEach((id, town) -> {
             CompoundTag townTag = new CompoundTag();
             town.save(townTag);
             townsTag.put(id.toString(), townTag);
@@ -268,60 +362,125 @@ public class TownManager {
     }
 
     public void loadAllTowns(CompoundTag worldData) {
-        savedData.getTowns().clear();
+        forgetAllTowns();
         if (worldData.contains("towns")) {
             CompoundTag townsTag = worldData.getCompound("towns");
             townsTag.getAllKeys().forEach(key -> {
                 UUID id = UUID.fromString(key);
                 Town town = Town.load(townsTag.getCompound(key));
-                savedData.getTowns().put(id, town);
+                town.setManager(this);
+                savedData.addTown(town);
             });
         }
+        savedData.markAllTownsChanged();
     }
 
+    /**
+     * All towns of this level. Loads every town that lazy loading left unloaded, so
+     * use {@link #getTownHeaders()} where a header is enough.
+     */
     public Map<UUID, Town> getAllTowns() {
+        if (!savedData.getDormantIds().isEmpty()) {
+            for (UUID id : new ArrayList<>(savedData.getDormantIds())) {
+                getTown(id);
+            }
+        }
         return Collections.unmodifiableMap(savedData.getTowns());
     }
 
     public void clearGhostTowns() {
-        savedData.getTowns().entrySet().removeIf(entry -> {
-            Town town = entry.getValue();
+        for (TownHeader header : savedData.getHeaders()) {
             // Define your logic to determine if a town is a "ghost town"
-            return town.getPopulation() == 0; // Example: remove towns with zero population
-        });
+            if (header.population() == 0) { // Example: remove towns with zero population
+                removeTown(header.id());
+            }
+        }
         savedData.setDirty();
     }
 
     public int clearAllTowns() {
-        int count = savedData.getTowns().size();
-        savedData.getTowns().clear();
-        savedData.setDirty();
+        int count = savedData.getTownCount();
+        forgetAllTowns();
         return count;
     }
 
+    private void forgetAllTowns() {
+        savedData.getTowns().values().forEach(town -> town.setManager(null));
+        savedData.getDormantIds().forEach(tickScheduler::forget);
+        lastAccess.clear();
+        savedData.clearTowns();
+    }
+
     public void onServerStopping() {
         if (savedData != null) {
-            DebugConfig.debug(LOGGER, DebugConfig.TOWN_MANAGER, "Server stopping, marking {} towns as dirty",
-                    savedData.getTowns().size());
+            // Apply any ticks still owed to towns skipped by the scheduler before the final save
+            tickScheduler.flush(savedData.getTowns());
+            savedData.flushDirtyTowns();
+            DebugConfig.debug(LOGGER, DebugConfig.TOWN_MANAGER,
+                    "Server stopping, marking {} towns as dirty ({} loaded this session, {} unloaded)",
+                    savedData.getTownCount(), savedData.getHydratedCount(), savedData.getDehydratedCount());
             savedData.setDirty();
         }
     }
 
     public void removeTown(UUID id) {
-        if (savedData.getTowns().remove(id) != null) {
-            savedData.setDirty();
+        Town removed = savedData.removeTown(id);
+        if (removed != null) {
+            removed.setManager(null);
         }
+        tickScheduler.forget(id);
+        lastAccess.remove(id);
     }
 
+    /**
+     * Marks every town of this level as changed. Prefer {@link Town#markDirty()} when
+     * the changed town is known, so per-town storage only rewrites that one.
+     */
     public void markDirty() {
         if (savedData != null) {
-            savedData.setDirty();
+            savedData.markAllTownsChanged();
         }
     }
 
     public void tick() {
+        tickScheduler.tick(savedData.getTowns());
+        // Fold this tick's Town.markDirty() calls into one setDirty()
+        savedData.flushDirtyTowns();
+
+        if (ConfigLoader.townIdleUnloadSeconds > 0 && savedData.isPerTownStorage()
+                && --idleCheckCountdown <= 0) {
+            idleCheckCountdown = IDLE_CHECK_INTERVAL;
+            unloadIdleTowns();
+        }
+    }
+
+    /**
+     * Unloads towns nobody looked up for townIdleUnloadSeconds whose town block is in an
+     * unloaded chunk (so no block entity or open menu still holds the Town). Their
+     * headers stay and they load again on the next getTown().
+     */
+    private void unloadIdleTowns() {
+        long now = level.getGameTime();
+        long idleTicks = ConfigLoader.townIdleUnloadSeconds * 20L;
+        List<UUID> idle = new ArrayList<>();
         for (Town town : savedData.getTowns().values()) {
-            town.tick();
+            // Towns loaded before anything looked them up start their idle time now
+            Long last = lastAccess.putIfAbsent(town.getId(), now);
+            if (last != null && now - last >= idleTicks && !level.isLoaded(town.getPosition())) {
+                idle.add(town.getId());
+            }
+        }
+        for (UUID id : idle) {
+            Town town = savedData.dehydrate(id);
+            if (town != null) {
+                town.setManager(null);
+                tickScheduler.suspend(id);
+                lastAccess.remove(id);
+            }
+        }
+        if (!idle.isEmpty()) {
+            DebugConfig.debug(LOGGER, DebugConfig.TOWN_MANAGER, "Unloaded {} idle towns, {} of {} still loaded",
+                    idle.size(), savedData.getTowns().size(), savedData.getTownCount());
         }
     }
 }
@@ -0,0 +1,182 @@
+package com.quackers29.businesscraft.town;
+
+import com.quackers29.businesscraft.config.ConfigLoader;
+import com.quackers29.businesscraft.debug.DebugConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Spreads town ticking across server ticks instead of ticking every town every tick.
+ *
+ * Towns are kept in a round-robin queue. Each server tick processes about
+ * 1/{@link ConfigLoader#townTickBuckets} of them, stopping early once
+ * {@link ConfigLoader#townTickBudgetMs} has been spent (at least one town always
+ * ticks so the queue keeps moving). A town that was skipped is handed its missed
+ * ticks in one {@link Town#tick(int)} catch-up pass, so production and research end
+ * up exactly where per-tick ticking would have put them.
+ *
+ * A town unloaded by lazy loading is {@link #suspend suspended}: it stops ticking but
+ * keeps its place in time, and catches up once it is loaded again. One turn hands over
+ * at most {@link #MAX_CATCH_UP_TICKS}; a town further behind than that catches up over
+ * its next turns, so a long absence is spread across the budget instead of landing on
+ * a single server tick.
+ */
+public class TownTickScheduler {
+    private static final Logger LOGGER = LoggerFactory.getLogger("BusinessCraft/TownTickScheduler");
+
+    // One minute of game time per turn
+    static final int MAX_CATCH_UP_TICKS = 1200;
+
+    private final ArrayDeque<UUID> queue = new ArrayDeque<>();
+    private final Map<UUID, Long> lastTicked = new HashMap<>(); // town -> scheduler tick it last caught up to
+    private final Map<UUID, Long> suspended = new HashMap<>(); // unloaded town -> tick it last caught up to
+    private long currentTick = 0;
+
+    // Metrics for the most recent server tick
+    private int lastTownsTicked = 0;
+    private int lastTownsDeferred = 0;
+    private long lastTickNanos = 0;
+
+    /**
+     * Runs one server tick worth of town updates.
+     *
+     * @param towns The live town map of the owning level
+     */
+    public void tick(Map<UUID, Town> towns) {
+        currentTick++;
+        syncWith(towns);
+
+        int buckets = Math.max(1, ConfigLoader.townTickBuckets);
+        int quota = (queue.size() + buckets - 1) / buckets;
+        long budgetNanos = (long) (ConfigLoader.townTickBudgetMs * 1_000_000L);
+        long start = System.nanoTime();
+
+        int ticked = 0;
+        while (ticked < quota && !queue.isEmpty()) {
+            // Always tick at least one town, then respect the budget (<= 0 means unlimited)
+            if (ticked > 0 && budgetNanos > 0 && System.nanoTime() - start >= budgetNanos) {
+                break;
+            }
+
+            UUID id = queue.pollFirst();
+            Town town = towns.get(id);
+            if (town == null) {
+                // Removed since the last sync
+                lastTicked.remove(id);
+                continue;
+            }
+            queue.addLast(id);
+            catchUp(id, town);
+            ticked++;
+        }
+
+        lastTownsTicked = ticked;
+        lastTownsDeferred = Math.max(0, quota - ticked);
+        lastTickNanos = System.nanoTime() - start;
+
+        if (lastTownsDeferred > 0) {
+            DebugConfig.debug(LOGGER, DebugConfig.TOWN_MANAGER,
+                    "Town tick budget exhausted: ticked {} of {} due towns in {} ms",
+                    ticked, quota, lastTickNanos / 1_000_000.0);
+        }
+    }
+
+    /**
+     * Brings every town fully up to date. Call before saving on server stop so no
+     * skipped ticks are lost.
+     *
+     * @param towns The live town map of the owning level
+     */
+    public void flush(Map<UUID, Town> towns) {
+        syncWith(towns);
+        for (UUID id : queue) {
+            Town town = towns.get(id);
+            if (town != null) {
+                while (catchUp(id, town)) {
+                    // Hand over the rest in turn-sized steps
+                }
+            }
+        }
+    }
+
+    /**
+     * Hands a town up to {@link #MAX_CATCH_UP_TICKS} of the ticks it is owed.
+     *
+     * @return true if the town is still behind afterwards
+     */
+    private boolean catchUp(UUID id, Town town) {
+        long last = lastTicked.getOrDefault(id, currentTick - 1);
+        long elapsed = currentTick - last;
+        if (elapsed <= 0) {
+            return false;
+        }
+        int step = (int) Math.min(MAX_CATCH_UP_TICKS, elapsed);
+        lastTicked.put(id, last + step);
+        town.tick(step);
+        return step < elapsed;
+    }
+
+    // Adds newly registered/loaded towns and drops removed ones. Only does work when the
+    // tracked set and the live map disagree in size; same-size swaps are resolved lazily
+    // when the removed id reaches the head of the queue.
+    private void syncWith(Map<UUID, Town> towns) {
+        if (lastTicked.size() == towns.size()) {
+            return;
+        }
+
+        lastTicked.keySet().removeIf(id -> !towns.containsKey(id));
+        queue.removeIf(id -> !towns.containsKey(id));
+
+        for (UUID id : towns.keySet()) {
+            if (!lastTicked.containsKey(id)) {
+                // New towns are up to date as of the previous tick; reloaded ones resume
+                Long resumedAt = suspended.remove(id);
+                lastTicked.put(id, resumedAt != null ? resumedAt : currentTick - 1);
+                queue.addLast(id);
+            }
+        }
+    }
+
+    /**
+     * Stops ticking a town that is being unloaded. Its missed ticks are handed over
+     * once it is back in the live town map.
+     */
+    public void suspend(UUID id) {
+        Long last = lastTicked.remove(id);
+        if (last != null) {
+            queue.remove(id);
+            suspended.put(id, last);
+        }
+    }
+
+    /**
+     * Drops all state for a town that was removed.
+     */
+    public void forget(UUID id) {
+        suspended.remove(id);
+        if (lastTicked.remove(id) != null) {
+            queue.remove(id);
+        }
+    }
+
+    public int getTrackedTownCount() {
+        return queue.size();
+    }
+
+    public int getLastTownsTicked() {
+        return lastTownsTicked;
+    }
+
+    public int getLastTownsDeferred() {
+        return lastTownsDeferred;
+    }
+
+    public double getLastTickMillis() {
+        return lastTickNanos / 1_000_000.0;
+    }
+}
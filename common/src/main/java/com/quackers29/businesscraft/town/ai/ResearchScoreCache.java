@@ -0,0 +1,265 @@
+package com.quackers29.businesscraft.town.ai;
+
+import com.quackers29.businesscraft.economy.ResourceRegistry;
+import com.quackers29.businesscraft.production.UpgradeNode;
+import com.quackers29.businesscraft.production.UpgradeRegistry;
+import com.quackers29.businesscraft.town.Town;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-town memo of {@link TownResearchAI} scores.
+ *
+ * While a node is scored, every town value it reads (stocks, caps, rates, levels,
+ * other nodes' scores) is recorded. On the next request the recorded inputs are
+ * re-read; the score is only recomputed if one of them moved by more than
+ * {@link #TOLERANCE} (levels and unlock flags must match exactly). The "research"
+ * node depends on the other nodes' scores rather than on their raw inputs, so it is
+ * re-validated in linear rather than quadratic time.
+ *
+ * The full priority map is additionally shared between callers within the same
+ * tick window (see {@link #advanceWindow()}) as long as the town has not changed.
+ */
+public class ResearchScoreCache {
+    // Relative drift an input may have before dependent scores are recomputed
+    static final float TOLERANCE = 0.01f;
+
+    private static final byte STOCK = 0;
+    private static final byte CAP = 1;
+    private static final byte PRODUCTION = 2;
+    private static final byte CONSUMPTION = 3;
+    private static final byte BORDER = 4;
+    private static final byte LEVEL = 5;
+    private static final byte UNLOCKED = 6;
+    private static final byte WORK_UNITS = 7;
+    private static final byte WORK_UNIT_CAP = 8;
+    private static final byte SCORE = 9;
+
+    // One memoized score and the inputs it was computed from
+    private static final class Entry {
+        private final UpgradeNode node;
+        private final int resourceVersion;
+        private double score;
+        private byte[] kinds = new byte[8];
+        private String[] keys = new String[8];
+        private float[] values = new float[8];
+        private int size;
+
+        private Entry(UpgradeNode node) {
+            this.node = node;
+            this.resourceVersion = ResourceRegistry.getVersion();
+        }
+
+        private void record(byte kind, String key, float value) {
+            if (size == kinds.length) {
+                kinds = Arrays.copyOf(kinds, size * 2);
+                keys = Arrays.copyOf(keys, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            kinds[size] = kind;
+            keys[size] = key;
+            values[size] = value;
+            size++;
+        }
+    }
+
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    private long window = 0;
+    private long evaluatedWindow = -1;
+    private long evaluatedVersion = -1;
+    private Map<String, Float> lastPriorities = null;
+    private int lastRecomputed = 0;
+
+    /**
+     * Starts a new tick window. Called once per town tick pass.
+     */
+    public void advanceWindow() {
+        window++;
+    }
+
+    /**
+     * @return the priorities computed earlier in this tick window, or null if they
+     *         must be recomputed (new window, or the town changed since)
+     */
+    Map<String, Float> getSharedPriorities(Town town) {
+        if (lastPriorities != null && evaluatedWindow == window && evaluatedVersion == town.getStateVersion()) {
+            return new HashMap<>(lastPriorities);
+        }
+        lastRecomputed = 0;
+        return null;
+    }
+
+    void storePriorities(Town town, Map<String, Float> priorities) {
+        lastPriorities = new HashMap<>(priorities);
+        evaluatedWindow = window;
+        evaluatedVersion = town.getStateVersion();
+    }
+
+    /**
+     * @return the node's score, reusing the memoized value if none of its inputs moved
+     */
+    double score(Town town, UpgradeNode node) {
+        Entry entry = entries.get(node.getId());
+        if (entry != null && isValid(town, entry)) {
+            return entry.score;
+        }
+
+        entry = new Entry(node);
+        entry.score = TownResearchAI.calculateScore(new Recorder(town, entry), node);
+        entries.put(node.getId(), entry);
+        lastRecomputed++;
+        return entry.score;
+    }
+
+    /**
+     * @return how many node scores the most recent evaluation had to recompute
+     */
+    public int getLastRecomputed() {
+        return lastRecomputed;
+    }
+
+    public void invalidate() {
+        entries.clear();
+        lastPriorities = null;
+    }
+
+    private boolean isValid(Town town, Entry entry) {
+        if (entry.node != UpgradeRegistry.get(entry.node.getId()) || entry.resourceVersion != ResourceRegistry.getVersion())
+            return false; // Registries reloaded
+
+        for (int i = 0; i < entry.size; i++) {
+            String key = entry.keys[i];
+            float then = entry.values[i];
+            switch (entry.kinds[i]) {
+                case LEVEL -> {
+                    if (town.getUpgradeLevel(key) != then)
+                        return false;
+                }
+                case UNLOCKED -> {
+                    if ((town.isUnlocked(key) ? 1f : 0f) != then)
+                        return false;
+                }
+                case SCORE -> {
+                    UpgradeNode other = UpgradeRegistry.get(key);
+                    if (other == null || !withinTolerance((float) score(town, other), then))
+                        return false;
+                }
+                default -> {
+                    if (!withinTolerance(read(town, entry.kinds[i], key), then))
+                        return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static float read(ITownState town, byte kind, String key) {
+        return switch (kind) {
+            case STOCK -> town.getStock(key);
+            case CAP -> town.getStorageCap(key);
+            case PRODUCTION -> town.getProductionRate(key);
+            case CONSUMPTION -> town.getConsumptionRate(key);
+            case BORDER -> town.getBoundaryRadius();
+            case WORK_UNITS -> town.getWorkUnits();
+            case WORK_UNIT_CAP -> town.getWorkUnitCap();
+            default -> throw new IllegalArgumentException("Not a raw input kind: " + kind);
+        };
+    }
+
+    private static boolean withinTolerance(float now, float then) {
+        if (now == then)
+            return true;
+        return Math.abs(now - then) <= TOLERANCE * Math.max(1f, Math.abs(then));
+    }
+
+    /**
+     * Town view handed to {@link TownResearchAI#calculateScore} that records every
+     * value read into the entry being computed.
+     */
+    final class Recorder implements ITownState {
+        private final Town town;
+        private final Entry entry;
+
+        private Recorder(Town town, Entry entry) {
+            this.town = town;
+            this.entry = entry;
+        }
+
+        Town getTown() {
+            return town;
+        }
+
+        /**
+         * Score of another node, memoized and recorded as a dependency.
+         */
+        double scoreOf(UpgradeNode node) {
+            double value = score(town, node);
+            entry.record(SCORE, node.getId(), (float) value);
+            return value;
+        }
+
+        private float recordRead(byte kind, String key) {
+            float value = read(town, kind, key);
+            entry.record(kind, key, value);
+            return value;
+        }
+
+        @Override
+        public float getStock(String resourceId) {
+            return recordRead(STOCK, resourceId);
+        }
+
+        @Override
+        public float getStorageCap(String resourceId) {
+            return recordRead(CAP, resourceId);
+        }
+
+        @Override
+        public float getProductionRate(String resourceId) {
+            return recordRead(PRODUCTION, resourceId);
+        }
+
+        @Override
+        public float getConsumptionRate(String resourceId) {
+            return recordRead(CONSUMPTION, resourceId);
+        }
+
+        @Override
+        public int getBoundaryRadius() {
+            int value = town.getBoundaryRadius();
+            entry.record(BORDER, null, value);
+            return value;
+        }
+
+        @Override
+        public boolean isUnlocked(String nodeId) {
+            boolean unlocked = town.isUnlocked(nodeId);
+            entry.record(UNLOCKED, nodeId, unlocked ? 1f : 0f);
+            return unlocked;
+        }
+
+        @Override
+        public int getUpgradeLevel(String nodeId) {
+            int level = town.getUpgradeLevel(nodeId);
+            entry.record(LEVEL, nodeId, level);
+            return level;
+        }
+
+        @Override
+        public long getWorkUnits() {
+            long value = town.getWorkUnits();
+            entry.record(WORK_UNITS, null, value);
+            return value;
+        }
+
+        @Override
+        public long getWorkUnitCap() {
+            long value = town.getWorkUnitCap();
+            entry.record(WORK_UNIT_CAP, null, value);
+            return value;
+        }
+    }
+}
@@ -20,8 +20,15 @@ public class TownResearchAI {
      * Calculates priorities for all relevant upgrades.
      * Returns a map of NodeID -> Score.
      * Includes all upgrades that are not maxed out.
+     * Scores come from the town's ResearchScoreCache and are only recomputed when
+     * their inputs moved.
      */
     public static Map<String, Float> calculatePriorities(Town town) {
+        ResearchScoreCache cache = town.getUpgrades().getResearchScoreCache();
+        Map<String, Float> shared = cache.getSharedPriorities(town);
+        if (shared != null)
+            return shared;
+
         Map<String, Float> scores = new HashMap<>();
         Set<String> unlocked = town.getUpgrades().getUnlockedNodes();
 
@@ -55,11 +62,12 @@ public class TownResearchAI {
                 // Let's only score nodes where prereqs are met (Available to research or
                 // available soon).
                 if (prereqsMet) {
-                    double score = calculateScore(town, node);
+                    double score = cache.score(town, node);
                     scores.put(node.getId(), (float) score);
                 }
             }
         }
+        cache.storePriorities(town, scores);
         return scores;
     }
 
@@ -235,8 +243,10 @@ public class TownResearchAI {
                     if (!prereqsMet)
                         continue;
 
-                    // 3. Calculate Priority for this upgrade
-                    double pScore = calculateScore(town, potential);
+                    // 3. Calculate Priority for this upgrade (memoized when scoring through the cache)
+                    double pScore = (town instanceof ResearchScoreCache.Recorder recorder)
+                            ? recorder.scoreOf(potential)
+                            : calculateScore(town, potential);
 
                     // 4. Calculate Time for NEXT level
                     float baseMins = potential.getResearchMinutes();
@@ -352,7 +362,9 @@ public class TownResearchAI {
         // Border Expansion:
         // Logic based on Density vs Baseline Density
         double priority = 0.0;
-        if (townState instanceof com.quackers29.businesscraft.town.Town t) {
+        ITownState source = (townState instanceof ResearchScoreCache.Recorder recorder) ? recorder.getTown()
+                : townState;
+        if (source instanceof com.quackers29.businesscraft.town.Town t) {
             String biomeId = t.getBiome();
             String variant = t.getBiomeVariant();
             var kit = com.quackers29.businesscraft.world.BiomeRegistry.getSpecificKit(biomeId, variant);
@@ -4,6 +4,21 @@ import net.minecraft.nbt.CompoundTag;
 
 public interface TownComponent {
     void tick();
+
+    /**
+     * Advance this component by several server ticks in one call.
+     * Used by the town tick scheduler when a town was skipped for a few ticks.
+     * Components with per-tick accrual override this to catch up cheaply; the
+     * default simply replays {@link #tick()} so results match ticking every tick.
+     *
+     * @param elapsedTicks Number of server ticks to advance (at least 1)
+     */
+    default void tick(int elapsedTicks) {
+        for (int i = 0; i < elapsedTicks; i++) {
+            tick();
+        }
+    }
+
     void save(CompoundTag tag);
     void load(CompoundTag tag);
-} 
+}
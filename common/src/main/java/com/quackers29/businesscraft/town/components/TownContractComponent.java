@@ -2,6 +2,7 @@ package com.quackers29.businesscraft.town.components;
 
 import com.quackers29.businesscraft.contract.Contract;
 import com.quackers29.businesscraft.contract.ContractBoard;
+import com.quackers29.businesscraft.contract.ContractIndex;
 import com.quackers29.businesscraft.contract.SellContract;
 import com.quackers29.businesscraft.debug.DebugConfig;
 import com.quackers29.businesscraft.town.Town;
@@ -11,7 +12,6 @@ import net.minecraft.world.item.Items;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.List;
 import java.util.UUID;
 
 public class TownContractComponent implements TownComponent {
@@ -24,20 +24,36 @@ public class TownContractComponent implements TownComponent {
 
     // Helper to check if we are currently selling a resource (Active Sell Contract)
     private boolean isSellingResource(String resourceId, ContractBoard board) {
-        return board.getContracts().stream()
-                .anyMatch(c -> c instanceof SellContract sc &&
-                        sc.getIssuerTownId().equals(town.getId()) &&
-                        resourceId.equals(sc.getResourceId()) &&
-                        !sc.isExpired() && !sc.isCompleted());
+        for (Contract c : board.getContractsByIssuer(town.getId())) {
+            if (c instanceof SellContract sc &&
+                    resourceId.equals(sc.getResourceId()) &&
+                    !sc.isExpired() && !sc.isCompleted()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     // Helper to check if we are currently buying a resource (Highest Bidder)
     private boolean isBuyingResource(String resourceId, ContractBoard board) {
-        return board.getContracts().stream()
-                .anyMatch(c -> c instanceof SellContract sc &&
-                        town.getId().equals(sc.getHighestBidder()) &&
-                        resourceId.equals(sc.getResourceId()) &&
-                        !sc.isExpired() && !sc.isCompleted());
+        for (Contract c : board.getContractsByHighestBidder(town.getId())) {
+            if (c instanceof SellContract sc &&
+                    resourceId.equals(sc.getResourceId()) &&
+                    !sc.isExpired() && !sc.isCompleted()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long countActiveSellContracts(ContractBoard board) {
+        long count = 0;
+        for (Contract c : board.getContractsByIssuer(town.getId())) {
+            if (c instanceof SellContract sc && !sc.isExpired() && !sc.isCompleted()) {
+                count++;
+            }
+        }
+        return count;
     }
 
     public TownContractComponent(Town town) {
@@ -70,15 +86,7 @@ public class TownContractComponent implements TownComponent {
         if (pendingBids.isEmpty())
             return;
 
-        // Get the server level
-        net.minecraft.server.level.ServerLevel level = null;
-        for (com.quackers29.businesscraft.town.TownManager manager : com.quackers29.businesscraft.town.TownManager
-                .getAllInstances()) {
-            if (manager.getTown(town.getId()) != null) {
-                level = manager.getLevel();
-                break;
-            }
-        }
+        net.minecraft.server.level.ServerLevel level = getLevel();
 
         if (level == null)
             return;
@@ -199,22 +207,15 @@ public class TownContractComponent implements TownComponent {
     }
 
     private void scanForBids(long currentTime) {
-        // Get the server level
-        net.minecraft.server.level.ServerLevel level = null;
-        for (com.quackers29.businesscraft.town.TownManager manager : com.quackers29.businesscraft.town.TownManager
-                .getAllInstances()) {
-            if (manager.getTown(town.getId()) != null) {
-                level = manager.getLevel();
-                break;
-            }
-        }
+        net.minecraft.server.level.ServerLevel level = getLevel();
 
         if (level == null) {
             return;
         }
 
         ContractBoard board = ContractBoard.get(level);
-        List<Contract> contracts = board.getContracts();
+        // Only auctions still taking bids
+        java.util.Collection<Contract> contracts = board.getContractsInState(ContractIndex.State.OPEN);
 
         for (Contract contract : contracts) {
             if (contract instanceof SellContract sc) {
@@ -344,17 +345,7 @@ public class TownContractComponent implements TownComponent {
     }
 
     private void tryCreateContract() {
-        // Get the server level from any of the active TownManager instances
-        // Since this town exists, we know its manager is loaded
-        net.minecraft.server.level.ServerLevel level = null;
-        for (com.quackers29.businesscraft.town.TownManager manager : com.quackers29.businesscraft.town.TownManager
-                .getAllInstances()) {
-            if (manager.getTown(town.getId()) != null) {
-                // Found our manager, get its level
-                level = getServerLevelFromManager(manager);
-                break;
-            }
-        }
+        net.minecraft.server.level.ServerLevel level = getLevel();
 
         if (level == null) {
             LOGGER.warn("Could not find ServerLevel for town {}", town.getName());
@@ -362,11 +353,7 @@ public class TownContractComponent implements TownComponent {
         }
 
         ContractBoard board = ContractBoard.get(level);
-        long activeCount = board.getContracts().stream()
-                .filter(c -> c instanceof SellContract sc &&
-                        sc.getIssuerTownId().equals(town.getId()) &&
-                        !sc.isExpired() && !sc.isCompleted())
-                .count();
+        long activeCount = countActiveSellContracts(board);
 
         if (activeCount >= MAX_ACTIVE_CONTRACTS) {
             return;
@@ -395,19 +382,18 @@ public class TownContractComponent implements TownComponent {
         }
     }
 
-    private net.minecraft.server.level.ServerLevel getServerLevelFromManager(
-            com.quackers29.businesscraft.town.TownManager manager) {
-        return manager.getLevel();
+    /**
+     * @return the level this town lives in, or null if it is not registered with a manager
+     */
+    private net.minecraft.server.level.ServerLevel getLevel() {
+        com.quackers29.businesscraft.town.TownManager manager = town.getManager();
+        return manager != null ? manager.getLevel() : null;
     }
 
     private void checkAndCreateContract(ContractBoard board, net.minecraft.server.level.ServerLevel level,
             String resourceId, Item item) {
         // Check if already at max contracts
-        long activeCount = board.getContracts().stream()
-                .filter(c -> c instanceof SellContract sc &&
-                        sc.getIssuerTownId().equals(town.getId()) &&
-                        !sc.isExpired() && !sc.isCompleted())
-                .count();
+        long activeCount = countActiveSellContracts(board);
 
         if (activeCount >= MAX_ACTIVE_CONTRACTS) {
             return;
@@ -527,15 +513,7 @@ public class TownContractComponent implements TownComponent {
     }
 
     public long getInTransitResourceCount(String resourceId) {
-        // Need to find the server level to get the board
-        net.minecraft.server.level.ServerLevel level = null;
-        for (com.quackers29.businesscraft.town.TownManager manager : com.quackers29.businesscraft.town.TownManager
-                .getAllInstances()) {
-            if (manager.getTown(town.getId()) != null) {
-                level = manager.getLevel();
-                break;
-            }
-        }
+        net.minecraft.server.level.ServerLevel level = getLevel();
 
         if (level == null) {
             return 0;
@@ -552,13 +530,15 @@ public class TownContractComponent implements TownComponent {
         // - Courier Assigned (or not yet)
         // - Delivered = false (Not fully delivered)
 
-        return board.getContracts().stream()
-                .filter(c -> c instanceof SellContract sc &&
-                        town.getId().equals(sc.getWinningTownId()) &&
-                        resourceId.equals(sc.getResourceId()) &&
-                        !sc.isExpired() &&
-                        !sc.isDelivered()) // isDelivered check covers "fully delivered"
-                .mapToLong(c -> ((SellContract) c).getQuantity() - ((SellContract) c).getDeliveredAmount())
-                .sum();
+        long total = 0;
+        for (Contract c : board.getContractsByReceiver(town.getId())) {
+            if (c instanceof SellContract sc &&
+                    resourceId.equals(sc.getResourceId()) &&
+                    !sc.isExpired() &&
+                    !sc.isDelivered()) { // isDelivered check covers "fully delivered"
+                total += sc.getQuantity() - sc.getDeliveredAmount();
+            }
+        }
+        return total;
     }
 }
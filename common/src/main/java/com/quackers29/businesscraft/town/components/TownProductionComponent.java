@@ -2,8 +2,9 @@ package com.quackers29.businesscraft.town.components;
 
 import com.quackers29.businesscraft.config.ConfigLoader;
 import com.quackers29.businesscraft.data.parsers.Condition;
-import com.quackers29.businesscraft.data.parsers.DataParser.ResourceAmount;
 import com.quackers29.businesscraft.debug.DebugConfig;
+import com.quackers29.businesscraft.production.ModifierSlots;
+import com.quackers29.businesscraft.production.ProductionPlan;
 import com.quackers29.businesscraft.production.ProductionRecipe;
 import com.quackers29.businesscraft.production.ProductionRegistry;
 import com.quackers29.businesscraft.town.Town;
@@ -13,7 +14,9 @@ import net.minecraft.nbt.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class TownProductionComponent implements TownComponent {
@@ -22,6 +25,30 @@ public class TownProductionComponent implements TownComponent {
     private final Town town;
     private final Map<String, Float> recipeProgress = new HashMap<>(); // recipeId -> days accumulated
 
+    // Town values for compiled recipe terms (single instance so evaluation never allocates)
+    private final ProductionPlan.Context planContext = new ProductionPlan.Context() {
+        @Override
+        public long getPopulation() {
+            return town.getPopulation();
+        }
+
+        @Override
+        public float getHappiness() {
+            return town.getHappiness();
+        }
+
+        @Override
+        public long getWorkUnits() {
+            return town.getWorkUnits();
+        }
+
+        @Override
+        public float getModifier(int slot) {
+            // Unknown modifiers return 0, so an unknown variable zeroes the amount
+            return town.getUpgrades().getModifier(slot);
+        }
+    };
+
     public TownProductionComponent(Town town) {
         this.town = town;
     }
@@ -29,65 +56,188 @@ public class TownProductionComponent implements TownComponent {
     private record ResolvedResource(String id, float amount) {
     }
 
+    // One-off resolution of a raw id/expression pair. The tick path uses the recipe's
+    // pre-compiled ProductionPlan instead.
     private ResolvedResource resolveDynamicAmount(String rawId, String expression) {
-        String finalId = rawId;
-        String finalExpr = expression;
-
-        // Backward compatibility for pop* prefix in ID
-        if (finalId.startsWith("pop*")) {
-            finalId = finalId.substring(4);
-            finalExpr = finalExpr + "*pop";
-        } else if (finalId.endsWith("*pop")) {
-            finalId = finalId.substring(0, finalId.length() - 4);
-            finalExpr = finalExpr + "*pop";
-        }
-
-        float value = evaluateExpression(finalExpr);
-        return new ResolvedResource(finalId, value);
+        ProductionPlan.Term term = ProductionPlan.Term.compile(rawId, expression);
+        return new ResolvedResource(term.getResourceId(), term.evaluate(planContext));
     }
 
     private float evaluateExpression(String expr) {
         if (expr == null || expr.isEmpty())
             return 0f;
 
-        float result = 1.0f;
-        String[] parts = expr.split("\\*");
+        return ProductionPlan.Term.compile("", expr).evaluate(planContext);
+    }
 
-        for (String part : parts) {
-            part = part.trim();
-            if (part.isEmpty())
-                continue;
+    private int tickCounter = 0;
 
-            if (part.equalsIgnoreCase("pop")) {
-                result *= town.getPopulation();
-            } else if (part.equalsIgnoreCase("happiness")) {
-                result *= town.getHappiness();
-            } else {
-                try {
-                    result *= Float.parseFloat(part);
-                } catch (NumberFormatException e) {
-                    if (part.equalsIgnoreCase("wu")) {
-                        result *= town.getWorkUnits();
-                    } else {
-                        // Try as upgrade modifier (e.g. storage_cap_all)
-                        float mod = town.getUpgrades().getModifier(part);
-                        // If modifier not found, getModifier returns 0.
-                        // This is acceptable behavior for unknown variables (multiplier becomes 0).
-                        result *= mod;
+    // How a recipe behaves on a tick, decided before any progress is accrued
+    private enum RecipeState {
+        RESET, // conditions or inputs missing - progress drops to 0
+        STALL, // output full - progress held
+        ADVANCE, // progress accrues normally
+        STARVE // population_maintenance without food - progress accrues, penalty on completion
+    }
+
+    private static final float TICK_INCREMENT = 1.0f / 1200.0f;
+
+    private static final int TOURIST_CAP_SLOT = ModifierSlots.intern("tourist_cap");
+    private static final int WU_CAP_SLOT = ModifierSlots.intern("wu_cap");
+
+    // Analytic mode: furthest ahead a plan looks before re-planning (one Minecraft day)
+    private static final int MAX_PLAN_TICKS = 24000;
+
+    // Analytic mode state. Between events every unlocked recipe keeps the state it was
+    // planned with, so ticks are only counted and applied in bulk when something happens.
+    private final List<ProductionRecipe> plannedRecipes = new ArrayList<>();
+    private final List<RecipeState> plannedStates = new ArrayList<>();
+    private long plannedVersion = -1; // town state version the plan was made against (-1 = none)
+    private long happinessVersion = -1; // town state version when happiness was last recomputed
+    private int ticksUntilEvent = 0; // the n-th tick from the plan point is the next event tick
+    private int pendingTicks = 0; // ticks counted but not yet applied
+
+    @Override
+    public void tick() {
+        tick(1);
+    }
+
+    /**
+     * Catch-up tick used by the town tick scheduler. Ticks on which nothing can
+     * complete (no recipe reaches its cycle time and no happiness update is due)
+     * are accrued in bulk from a single evaluation; every other tick runs the
+     * full per-tick logic, so outputs and recipeProgress match ticking every tick.
+     */
+    @Override
+    public void tick(int elapsedTicks) {
+        if ("analytic".equalsIgnoreCase(ConfigLoader.productionMode)) {
+            tickAnalytic(elapsedTicks);
+            return;
+        }
+        if (plannedVersion != -1) {
+            // Switched back from analytic mode - apply what it was holding
+            settlePending();
+            plannedVersion = -1;
+        }
+        runTicks(elapsedTicks);
+    }
+
+    private void runTicks(int elapsedTicks) {
+        int remaining = elapsedTicks;
+        while (remaining > 0) {
+            if (remaining > 1) {
+                int advanced = advanceQuietTicks(remaining);
+                remaining -= advanced;
+                if (remaining <= 0)
+                    break;
+            }
+            tickOnce();
+            remaining--;
+        }
+    }
+
+    /**
+     * Analytic production. Each unlocked recipe's state is evaluated once and the
+     * tick of the next event is computed: the first recipe completion, or the next
+     * happiness update if the town changed since happiness was last computed. Until
+     * that tick, or until the town's state version moves, ticks are only counted.
+     * They are then applied with the same float additions as tick mode, so outputs
+     * and recipeProgress are identical.
+     *
+     * Changes are detected through {@link Town#getStateVersion()}, so anything that
+     * bypasses Town mutators (e.g. in-transit contract amounts) is picked up at the
+     * next event.
+     */
+    private void tickAnalytic(int elapsedTicks) {
+        if (town.getStateVersion() != plannedVersion) {
+            // Ticks counted before this call ran under the planned states
+            settlePending();
+            runTicks(elapsedTicks);
+            planEvents();
+            return;
+        }
+
+        pendingTicks += elapsedTicks;
+        if (pendingTicks < ticksUntilEvent)
+            return; // Idle - nothing can happen yet
+
+        int quiet = ticksUntilEvent - 1;
+        int rest = pendingTicks - quiet;
+        applyPlannedTicks(quiet);
+        pendingTicks = 0;
+        runTicks(rest);
+        planEvents();
+    }
+
+    /**
+     * Applies counted-but-unapplied analytic ticks so recipeProgress is current.
+     */
+    private void settlePending() {
+        if (pendingTicks <= 0)
+            return;
+        applyPlannedTicks(pendingTicks);
+        ticksUntilEvent -= pendingTicks;
+        pendingTicks = 0;
+    }
+
+    // Applies ticks that fall strictly before the next planned event
+    private void applyPlannedTicks(int ticks) {
+        if (ticks <= 0)
+            return;
+
+        for (int r = 0; r < plannedRecipes.size(); r++) {
+            String id = plannedRecipes.get(r).getId();
+            float progress = recipeProgress.getOrDefault(id, 0f);
+            switch (plannedStates.get(r)) {
+                case RESET -> progress = 0f;
+                case STALL -> {
+                }
+                case ADVANCE, STARVE -> {
+                    for (int i = 0; i < ticks; i++) {
+                        progress += TICK_INCREMENT;
                     }
                 }
             }
+            recipeProgress.put(id, progress);
         }
-        return result;
+        tickCounter += ticks;
     }
 
-    private int tickCounter = 0;
+    private void planEvents() {
+        plannedRecipes.clear();
+        plannedStates.clear();
+        plannedVersion = town.getStateVersion();
 
-    @Override
-    public void tick() {
-        // Iterate all registered recipes
-        // ... comments ...
+        int horizon = MAX_PLAN_TICKS;
+        if (happinessVersion != plannedVersion) {
+            // Happiness inputs changed; the next update (counter % 20 == 0) may move it
+            horizon = 20 - Math.floorMod(tickCounter, 20);
+        }
 
+        for (ProductionRecipe recipe : ProductionRegistry.getAll()) {
+            if (town.getUpgrades().getModifier(recipe.getPlan().getUnlockSlot()) <= 0)
+                continue; // Locked
+
+            RecipeState state = evaluateRecipe(recipe, false);
+            if (state == RecipeState.ADVANCE || state == RecipeState.STARVE) {
+                float effectiveTime = getEffectiveCycleTime(recipe);
+                float progress = recipeProgress.getOrDefault(recipe.getId(), 0f);
+                for (int i = 1; i < horizon; i++) {
+                    progress += TICK_INCREMENT;
+                    if (progress >= effectiveTime) {
+                        horizon = i;
+                        break;
+                    }
+                }
+            }
+            plannedRecipes.add(recipe);
+            plannedStates.add(state);
+        }
+
+        ticksUntilEvent = horizon;
+    }
+
+    private void tickOnce() {
         tickCounter++;
         boolean shouldLog = (tickCounter % 100 == 0);
 
@@ -98,21 +248,22 @@ public class TownProductionComponent implements TownComponent {
 
         if (tickCounter % 20 == 0) {
             updateHappiness();
+            happinessVersion = town.getStateVersion();
         }
 
         for (ProductionRecipe recipe : ProductionRegistry.getAll()) {
             if (recipe.getId().equals("population_maintenance") && shouldLog) {
                 DebugConfig.debug(LOGGER, DebugConfig.TOWN_DATA_SYSTEMS,
                         "DEBUG: population_maintenance check - Modifier: {}, Unlocked: {}",
-                        town.getUpgrades().getModifier(recipe.getId()),
-                        town.getUpgrades().getModifier(recipe.getId()) > 0);
+                        town.getUpgrades().getModifier(recipe.getPlan().getUnlockSlot()),
+                        town.getUpgrades().getModifier(recipe.getPlan().getUnlockSlot()) > 0);
             }
 
             // Check unlock status
-            if (town.getUpgrades().getModifier(recipe.getId()) <= 0) {
+            if (town.getUpgrades().getModifier(recipe.getPlan().getUnlockSlot()) <= 0) {
                 if (shouldLog)
                     DebugConfig.debug(LOGGER, DebugConfig.TOWN_DATA_SYSTEMS, "Recipe {} is locked (Modifier: {})",
-                            recipe.getId(), town.getUpgrades().getModifier(recipe.getId()));
+                            recipe.getId(), town.getUpgrades().getModifier(recipe.getPlan().getUnlockSlot()));
                 continue; // Locked
             }
 
@@ -120,33 +271,87 @@ public class TownProductionComponent implements TownComponent {
         }
     }
 
-    private void processRecipe(ProductionRecipe recipe) {
-        boolean shouldLog = (tickCounter % 100 == 0);
+    /**
+     * Accrues up to maxTicks ticks on which no recipe completes and no happiness
+     * update fires. Recipe state cannot change on such ticks, so each recipe is
+     * evaluated once and its progress receives the same per-tick float additions.
+     *
+     * @return the number of ticks accrued (0 if the very next tick has an event)
+     */
+    private int advanceQuietTicks(int maxTicks) {
+        // Ticks until the next happiness update (it runs on the tick where counter % 20 == 0)
+        int quiet = Math.min(maxTicks, 19 - Math.floorMod(tickCounter, 20));
+        if (quiet <= 0)
+            return 0;
+
+        List<ProductionRecipe> recipes = new ArrayList<>();
+        List<RecipeState> states = new ArrayList<>();
+        for (ProductionRecipe recipe : ProductionRegistry.getAll()) {
+            if (town.getUpgrades().getModifier(recipe.getPlan().getUnlockSlot()) <= 0)
+                continue; // Locked
 
+            RecipeState state = evaluateRecipe(recipe, false);
+            if (state == RecipeState.ADVANCE || state == RecipeState.STARVE) {
+                // Find the tick on which this recipe would complete; stop one short of it
+                float effectiveTime = getEffectiveCycleTime(recipe);
+                float progress = recipeProgress.getOrDefault(recipe.getId(), 0f);
+                for (int i = 1; i <= quiet; i++) {
+                    progress += TICK_INCREMENT;
+                    if (progress >= effectiveTime) {
+                        quiet = i - 1;
+                        break;
+                    }
+                }
+                if (quiet <= 0)
+                    return 0;
+            }
+            recipes.add(recipe);
+            states.add(state);
+        }
+
+        for (int r = 0; r < recipes.size(); r++) {
+            String id = recipes.get(r).getId();
+            float progress = recipeProgress.getOrDefault(id, 0f);
+            switch (states.get(r)) {
+                case RESET -> progress = 0f;
+                case STALL -> {
+                }
+                case ADVANCE, STARVE -> {
+                    for (int i = 0; i < quiet; i++) {
+                        progress += TICK_INCREMENT;
+                    }
+                }
+            }
+            recipeProgress.put(id, progress);
+        }
+
+        tickCounter += quiet;
+        return quiet;
+    }
+
+    /**
+     * Decides what a recipe does this tick from conditions, input stock and output space.
+     * Has no side effects.
+     */
+    private RecipeState evaluateRecipe(ProductionRecipe recipe, boolean shouldLog) {
         // Check conditions
         if (!checkConditions(recipe)) {
-            // LOGGER.debug("Recipe {} conditions not met", recipe.getId());
-            recipeProgress.put(recipe.getId(), 0f);
-            return;
+            return RecipeState.RESET;
         }
 
-        // Calculate Cycle Time
-        float effectiveTime = getEffectiveCycleTime(recipe);
-
-        // Calculate Inputs Required
         // Input logic? Plan: "prod_id-input (% on resource inputs)"
         // Assuming strict "no scaling" for now to keep it simple, or just check stocks.
 
         // Check Stocks for Inputs
+        ProductionPlan plan = recipe.getPlan();
         boolean hasInputs = true;
-        for (ResourceAmount input : recipe.getInputs()) {
-            ResolvedResource resolved = resolveDynamicAmount(input.resourceId, input.amountExpression);
-            String resourceId = resolved.id();
-            float required = resolved.amount();
+        for (ProductionPlan.Term input : plan.getInputs()) {
+            String resourceId = input.getResourceId();
+            float required = input.evaluate(planContext);
 
-            if (resourceId.equals("pop")) {
+            if (input.getTarget() == ProductionPlan.Target.POP) {
                 // Population check? assumed fine or handled by conditions
-            } else if (resourceId.equals("wu")) {
+            } else if (input.getTarget() == ProductionPlan.Target.WU) {
                 if (town.getWorkUnits() < required) {
                     if (shouldLog)
                         DebugConfig.debug(LOGGER, DebugConfig.TOWN_DATA_SYSTEMS,
@@ -156,18 +361,15 @@ public class TownProductionComponent implements TownComponent {
                     break;
                 }
             } else {
-                // Resolve resourceId to Item
-                com.quackers29.businesscraft.economy.ResourceType type = com.quackers29.businesscraft.economy.ResourceRegistry
-                        .get(resourceId);
-                if (type == null) {
+                // Item was resolved when the plan was compiled
+                if (input.getType() == null) {
                     if (shouldLog)
                         LOGGER.warn("Recipe {} input resource type not found: {}", recipe.getId(), resourceId);
                     hasInputs = false;
                     break;
                 }
 
-                net.minecraft.world.item.Item item = com.quackers29.businesscraft.api.PlatformAccess.getRegistry()
-                        .getItem(type.getMcItemId());
+                net.minecraft.world.item.Item item = input.getItem();
                 if (item == null) {
                     if (shouldLog)
                         LOGGER.warn("Recipe {} input item not found for type: {}", recipe.getId(), resourceId);
@@ -187,83 +389,23 @@ public class TownProductionComponent implements TownComponent {
         }
 
         if (!hasInputs) {
-            if (recipe.getId().equals("population_maintenance")) {
-                // Starvation Logic: Advance progress anyway
-                float currentProgress = recipeProgress.getOrDefault(recipe.getId(), 0f);
-                float tickIncrement = 1.0f / 1200.0f;
-                currentProgress += tickIncrement;
-
-                if (currentProgress >= effectiveTime) {
-                    DebugConfig.debug(LOGGER, DebugConfig.TOWN_DATA_SYSTEMS,
-                            "STARVATION: Town {} missed {} cycle. No food available.", town.getName(),
-                            recipe.getId());
-
-                    // Apply Population Penalty
-                    if (town.getPopulation() > 0) {
-                        town.setPopulation((int) (town.getPopulation() - 1L));
-
-                        // Notification
-                        net.minecraft.server.level.ServerLevel level = com.quackers29.businesscraft.town.utils.TownNotificationUtils
-                                .getLevelForTown(town);
-                        if (level != null) {
-                            net.minecraft.network.chat.Component message = net.minecraft.network.chat.Component
-                                    .literal("WARNING: A villager has died of starvation!")
-                                    .withStyle(net.minecraft.ChatFormatting.RED, net.minecraft.ChatFormatting.BOLD);
-
-                            com.quackers29.businesscraft.town.utils.TownNotificationUtils.broadcastToTown(level, town,
-                                    message);
-                        }
-                    }
-
-                    // Partial Consumption Logic
-                    for (ResourceAmount input : recipe.getInputs()) {
-                        ResolvedResource resolved = resolveDynamicAmount(input.resourceId, input.amountExpression);
-                        String resourceId = resolved.id();
-                        com.quackers29.businesscraft.economy.ResourceType type = com.quackers29.businesscraft.economy.ResourceRegistry
-                                .get(resourceId);
-                        if (type != null) {
-                            net.minecraft.world.item.Item item = com.quackers29.businesscraft.api.PlatformAccess
-                                    .getRegistry().getItem(type.getMcItemId());
-                            if (item != null) {
-                                long available = town.getResourceCount(item);
-                                if (available > 0) {
-                                    town.addResource(item, -available); // Consume all
-                                    DebugConfig.debug(LOGGER, DebugConfig.TOWN_DATA_SYSTEMS,
-                                            "STARVATION: Consumed remaining partial stack of {} {}", available,
-                                            resourceId);
-                                }
-                            }
-                        }
-                    }
-
-                    currentProgress = 0f;
-                    town.markDirty();
-                }
-                recipeProgress.put(recipe.getId(), currentProgress);
-            } else {
-                // Can't run, report 0 progress
-                recipeProgress.put(recipe.getId(), 0f);
-            }
-            return;
+            // Starvation Logic: population_maintenance advances anyway, others can't run
+            return recipe.getId().equals("population_maintenance") ? RecipeState.STARVE : RecipeState.RESET;
         }
 
         // Check Space for Outputs (Stalling logic)
-        for (ResourceAmount output : recipe.getOutputs()) {
-            ResolvedResource resolved = resolveDynamicAmount(output.resourceId, output.amountExpression);
-            String resId = resolved.id();
-            float amount = resolved.amount();
+        for (ProductionPlan.Term output : plan.getOutputs()) {
+            String resId = output.getResourceId();
+            float amount = output.evaluate(planContext);
 
-            if (resId.equals("pop"))
+            if (output.getTarget() == ProductionPlan.Target.POP)
                 continue;
 
-            // Resolve resourceId to Item for cap check (or use trading cap by ID string)
+            // Use the pre-resolved Item for cap check (or use trading cap by ID string)
             // Use trading logic for cap as it has the logic "storage_cap_ID"
             float current = 0f;
-            com.quackers29.businesscraft.economy.ResourceType type = com.quackers29.businesscraft.economy.ResourceRegistry
-                    .get(resId);
-            if (type != null) {
-                net.minecraft.world.item.Item item = com.quackers29.businesscraft.api.PlatformAccess.getRegistry()
-                        .getItem(type.getMcItemId());
+            if (output.getType() != null) {
+                net.minecraft.world.item.Item item = output.getItem();
                 if (item != null) {
                     // Current = Hand + Escrow + InTransit (Incoming)
                     current = town.getTotalResourceCount(item) + town.getInTransitResourceCount(item);
@@ -279,24 +421,20 @@ public class TownProductionComponent implements TownComponent {
 
             // Special handling for tourist cap
             float cap;
-            if (resId.equals("tourist")) {
+            if (output.getTarget() == ProductionPlan.Target.TOURIST) {
                 // If spawning is disabled, treat as full
                 if (!town.isTouristSpawningEnabled()) {
                     if (shouldLog)
                         DebugConfig.debug(LOGGER, DebugConfig.TOWN_DATA_SYSTEMS,
                                 "Recipe {} tourist production stalled: Spawning Disabled", recipe.getId());
-                    // Stall
-                    float currentProgress = recipeProgress.getOrDefault(recipe.getId(), 0f);
-                    recipeProgress.put(recipe.getId(), currentProgress);
-                    return;
+                    return RecipeState.STALL;
                 }
 
                 current = town.getTouristCount() + town.getPendingTouristSpawns();
-                current = town.getTouristCount() + town.getPendingTouristSpawns();
-                cap = town.getUpgrades().getModifier("tourist_cap");
-            } else if (resId.equals("wu")) {
+                cap = town.getUpgrades().getModifier(TOURIST_CAP_SLOT);
+            } else if (output.getTarget() == ProductionPlan.Target.WU) {
                 current = town.getWorkUnits();
-                cap = town.getUpgrades().getModifier("wu_cap");
+                cap = town.getUpgrades().getModifier(WU_CAP_SLOT);
             } else {
                 cap = town.getTrading().getStorageCap(resId);
             }
@@ -305,18 +443,86 @@ public class TownProductionComponent implements TownComponent {
                 if (shouldLog)
                     DebugConfig.debug(LOGGER, DebugConfig.TOWN_DATA_SYSTEMS,
                             "Recipe {} output full: {} (Need space for {})", recipe.getId(), resId, amount);
-                // Stall - ensure progress is tracked
-                float currentProgress = recipeProgress.getOrDefault(recipe.getId(), 0f);
-                recipeProgress.put(recipe.getId(), currentProgress);
-                return; // Stall
+                return RecipeState.STALL;
             }
         }
 
+        return RecipeState.ADVANCE;
+    }
+
+    private void processRecipe(ProductionRecipe recipe) {
+        boolean shouldLog = (tickCounter % 100 == 0);
+
+        RecipeState state = evaluateRecipe(recipe, shouldLog);
+        if (state == RecipeState.RESET) {
+            // Can't run, report 0 progress
+            recipeProgress.put(recipe.getId(), 0f);
+            return;
+        }
+        if (state == RecipeState.STALL) {
+            // Stall - ensure progress is tracked
+            float currentProgress = recipeProgress.getOrDefault(recipe.getId(), 0f);
+            recipeProgress.put(recipe.getId(), currentProgress);
+            return;
+        }
+
+        // Calculate Cycle Time
+        float effectiveTime = getEffectiveCycleTime(recipe);
+
+        if (state == RecipeState.STARVE) {
+            // Starvation Logic: Advance progress anyway
+            float currentProgress = recipeProgress.getOrDefault(recipe.getId(), 0f);
+            currentProgress += TICK_INCREMENT;
+
+            if (currentProgress >= effectiveTime) {
+                DebugConfig.debug(LOGGER, DebugConfig.TOWN_DATA_SYSTEMS,
+                        "STARVATION: Town {} missed {} cycle. No food available.", town.getName(),
+                        recipe.getId());
+
+                // Apply Population Penalty
+                if (town.getPopulation() > 0) {
+                    town.setPopulation((int) (town.getPopulation() - 1L));
+
+                    // Notification
+                    net.minecraft.server.level.ServerLevel level = com.quackers29.businesscraft.town.utils.TownNotificationUtils
+                            .getLevelForTown(town);
+                    if (level != null) {
+                        net.minecraft.network.chat.Component message = net.minecraft.network.chat.Component
+                                .literal("WARNING: A villager has died of starvation!")
+                                .withStyle(net.minecraft.ChatFormatting.RED, net.minecraft.ChatFormatting.BOLD);
+
+                        com.quackers29.businesscraft.town.utils.TownNotificationUtils.broadcastToTown(level, town,
+                                message);
+                    }
+                }
+
+                // Partial Consumption Logic
+                for (ProductionPlan.Term input : recipe.getPlan().getInputs()) {
+                    String resourceId = input.getResourceId();
+                    if (input.getType() != null) {
+                        net.minecraft.world.item.Item item = input.getItem();
+                        if (item != null) {
+                            long available = town.getResourceCount(item);
+                            if (available > 0) {
+                                town.addResource(item, -available); // Consume all
+                                DebugConfig.debug(LOGGER, DebugConfig.TOWN_DATA_SYSTEMS,
+                                        "STARVATION: Consumed remaining partial stack of {} {}", available,
+                                        resourceId);
+                            }
+                        }
+                    }
+                }
+
+                currentProgress = 0f;
+                town.markDirty();
+            }
+            recipeProgress.put(recipe.getId(), currentProgress);
+            return;
+        }
+
         // Advance Progress
         float currentProgress = recipeProgress.getOrDefault(recipe.getId(), 0f);
-        float tickIncrement = 1.0f / 1200.0f;
-
-        currentProgress += tickIncrement;
+        currentProgress += TICK_INCREMENT;
 
         if (shouldLog)
             DebugConfig.debug(LOGGER, DebugConfig.TOWN_DATA_SYSTEMS, "Recipe {} progress: {}/{}", recipe.getId(),
@@ -334,32 +540,29 @@ public class TownProductionComponent implements TownComponent {
     }
 
     private void consumeAndProduce(ProductionRecipe recipe) {
+        ProductionPlan plan = recipe.getPlan();
+
         // Consume Inputs
-        for (ResourceAmount input : recipe.getInputs()) {
-            ResolvedResource resolved = resolveDynamicAmount(input.resourceId, input.amountExpression);
-            String resourceId = resolved.id();
-            float amount = resolved.amount();
+        for (ProductionPlan.Term input : plan.getInputs()) {
+            String resourceId = input.getResourceId();
+            float amount = input.evaluate(planContext);
 
-            if (input.resourceId.contains("*") || input.amountExpression.contains("*")) { // Log only dynamic
-                                                                                          // consumption
+            if (input.isDynamic()) { // Log only dynamic consumption
                 DebugConfig.debug(LOGGER, DebugConfig.TOWN_DATA_SYSTEMS,
                         "DEBUG: Consuming {} for {}: Pop={}, Expr={}, Calc={}",
-                        resourceId, recipe.getId(), town.getPopulation(), input.amountExpression, amount);
+                        resourceId, recipe.getId(), town.getPopulation(), input.getExpression(), amount);
             }
 
-            if (resourceId.equals("pop")) {
+            if (input.getTarget() == ProductionPlan.Target.POP) {
                 // consuming pop?
                 continue;
-            } else if (resourceId.equals("wu")) {
+            } else if (input.getTarget() == ProductionPlan.Target.WU) {
                 town.addWorkUnits(-(int) amount);
                 continue;
             }
 
-            com.quackers29.businesscraft.economy.ResourceType type = com.quackers29.businesscraft.economy.ResourceRegistry
-                    .get(resourceId);
-            if (type != null) {
-                net.minecraft.world.item.Item item = com.quackers29.businesscraft.api.PlatformAccess.getRegistry()
-                        .getItem(type.getMcItemId());
+            if (input.getType() != null) {
+                net.minecraft.world.item.Item item = input.getItem();
                 if (item != null) {
                     town.addResource(item, -(int) amount);
                 }
@@ -367,23 +570,19 @@ public class TownProductionComponent implements TownComponent {
         }
 
         // Produce Outputs
-        for (ResourceAmount output : recipe.getOutputs()) {
-            ResolvedResource resolved = resolveDynamicAmount(output.resourceId, output.amountExpression);
-            String resId = resolved.id();
-            float amount = resolved.amount();
+        for (ProductionPlan.Term output : plan.getOutputs()) {
+            String resId = output.getResourceId();
+            float amount = output.evaluate(planContext);
 
-            if (resId.equals("pop")) {
+            if (output.getTarget() == ProductionPlan.Target.POP) {
                 town.setPopulation((int) (town.getPopulation() + (long) amount));
-            } else if (resId.equals("tourist")) {
+            } else if (output.getTarget() == ProductionPlan.Target.TOURIST) {
                 town.addPendingTouristSpawns((int) amount);
-            } else if (resId.equals("wu")) {
+            } else if (output.getTarget() == ProductionPlan.Target.WU) {
                 town.addWorkUnits((int) amount);
             } else {
-                com.quackers29.businesscraft.economy.ResourceType type = com.quackers29.businesscraft.economy.ResourceRegistry
-                        .get(resId);
-                if (type != null) {
-                    net.minecraft.world.item.Item item = com.quackers29.businesscraft.api.PlatformAccess.getRegistry()
-                            .getItem(type.getMcItemId());
+                if (output.getType() != null) {
+                    net.minecraft.world.item.Item item = output.getItem();
                     if (item != null) {
                         town.addResource(item, (int) amount);
                     }
@@ -524,6 +723,7 @@ public class TownProductionComponent implements TownComponent {
 
     @Override
     public void save(CompoundTag tag) {
+        settlePending();
         CompoundTag progressTag = new CompoundTag();
         recipeProgress.forEach(progressTag::putFloat);
         tag.put("recipeProgress", progressTag);
@@ -532,6 +732,9 @@ public class TownProductionComponent implements TownComponent {
     @Override
     public void load(CompoundTag tag) {
         recipeProgress.clear();
+        pendingTicks = 0;
+        plannedVersion = -1;
+        happinessVersion = -1;
         if (tag.contains("recipeProgress")) {
             CompoundTag progressTag = tag.getCompound("recipeProgress");
             progressTag.getAllKeys().forEach(key -> recipeProgress.put(key, progressTag.getFloat(key)));
@@ -542,17 +745,15 @@ public class TownProductionComponent implements TownComponent {
         float totalPerDay = 0f;
         for (ProductionRecipe recipe : ProductionRegistry.getAll()) {
             // Check if unlocked
-            if (town.getUpgrades().getModifier(recipe.getId()) <= 0)
+            if (town.getUpgrades().getModifier(recipe.getPlan().getUnlockSlot()) <= 0)
                 continue;
 
             // Check outputs for resource
-            for (ResourceAmount output : recipe.getOutputs()) {
-                ResolvedResource resolvedIndex = resolveDynamicAmount(output.resourceId, "0"); // Only ID matters here
-                if (resolvedIndex.id().equals(resourceId)) {
+            for (ProductionPlan.Term output : recipe.getPlan().getOutputs()) {
+                if (output.getResourceId().equals(resourceId)) {
                     float cycleTime = getEffectiveCycleTime(recipe);
                     if (cycleTime > 0) {
-                        ResolvedResource resolvedAmt = resolveDynamicAmount(output.resourceId, output.amountExpression);
-                        totalPerDay += (resolvedAmt.amount() / cycleTime);
+                        totalPerDay += (output.evaluate(planContext) / cycleTime);
                     }
                 }
             }
@@ -564,18 +765,16 @@ public class TownProductionComponent implements TownComponent {
         float totalPerDay = 0f;
         for (ProductionRecipe recipe : ProductionRegistry.getAll()) {
             // Check if unlocked
-            if (town.getUpgrades().getModifier(recipe.getId()) <= 0)
+            if (town.getUpgrades().getModifier(recipe.getPlan().getUnlockSlot()) <= 0)
                 continue;
 
             // Check inputs for resource
-            for (ResourceAmount input : recipe.getInputs()) {
+            for (ProductionPlan.Term input : recipe.getPlan().getInputs()) {
                 float amount = 0f;
-                // Resolve dynamic input
-                ResolvedResource resolved = resolveDynamicAmount(input.resourceId, input.amountExpression);
 
                 // Check direct match
-                if (resolved.id().equals(resourceId)) {
-                    amount = resolved.amount();
+                if (input.getResourceId().equals(resourceId)) {
+                    amount = input.evaluate(planContext);
                 }
 
                 if (amount > 0) {
@@ -590,6 +789,7 @@ public class TownProductionComponent implements TownComponent {
     }
 
     public Map<String, Float> getActiveRecipes() {
+        settlePending();
         Map<String, Float> percentages = new HashMap<>();
         for (Map.Entry<String, Float> entry : recipeProgress.entrySet()) {
             String id = entry.getKey();
@@ -642,7 +842,7 @@ public class TownProductionComponent implements TownComponent {
 
     private float getEffectiveCycleTime(ProductionRecipe recipe) {
         float baseTime = recipe.getBaseCycleTimeMinutes();
-        float modifier = town.getUpgrades().getModifier(recipe.getId());
+        float modifier = town.getUpgrades().getModifier(recipe.getPlan().getUnlockSlot());
 
         // Modifier acts as speed multiplier.
         // 1.0 = Base Speed
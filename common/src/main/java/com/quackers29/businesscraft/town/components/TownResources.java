@@ -21,6 +21,8 @@ import com.quackers29.businesscraft.debug.DebugConfig;
 public class TownResources {
     private static final Logger LOGGER = LoggerFactory.getLogger(TownResources.class);
     private final Map<Item, Long> resources = new HashMap<>();
+    // Bumped on every change to the resources (see getVersion)
+    private long version = 0;
     private final String instanceId = java.util.UUID.randomUUID().toString().substring(0, 8);
 
     public TownResources() {
@@ -47,6 +49,7 @@ public class TownResources {
                 // Overflow - cap at max
                 resources.put(item, Long.MAX_VALUE);
             }
+            version++;
             DebugConfig.debug(LOGGER, DebugConfig.TOWN_DATA_SYSTEMS, "Added {} of resource {}", count,
                     PlatformAccess.getRegistry().getItemKey(item));
         } else if (count < 0) {
@@ -69,6 +72,7 @@ public class TownResources {
 
                 // Store the updated amount
                 resources.put(item, newAmount);
+                version++;
             } else {
                 if (isEmerald) {
                     LOGGER.warn("Failed emerald reduction: Attempted to remove {} emeralds, but current amount is 0",
@@ -104,6 +108,7 @@ public class TownResources {
             return false;
 
         resources.put(item, currentCount - count);
+        version++;
         return true;
     }
 
@@ -116,6 +121,13 @@ public class TownResources {
         return Collections.unmodifiableMap(resources);
     }
 
+    /**
+     * @return a counter that changes whenever a resource amount changes
+     */
+    public long getVersion() {
+        return version;
+    }
+
     /**
      * Save resources to NBT
      *
@@ -143,6 +155,7 @@ public class TownResources {
      */
     public void load(CompoundTag tag) {
         resources.clear();
+        version++;
 
         if (tag.contains("resources")) {
             CompoundTag resourcesTag = tag.getCompound("resources");
@@ -3,6 +3,7 @@ package com.quackers29.businesscraft.town.components;
 import com.quackers29.businesscraft.config.ConfigLoader;
 import com.quackers29.businesscraft.economy.ResourceRegistry;
 import com.quackers29.businesscraft.economy.ResourceType;
+import com.quackers29.businesscraft.production.ModifierSlots;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
@@ -17,6 +18,10 @@ import java.util.Map;
 public class TownTradingComponent implements TownComponent {
     private static final Logger LOGGER = LoggerFactory.getLogger(TownTradingComponent.class);
 
+    private static final int POP_CAP_SLOT = ModifierSlots.intern("pop_cap");
+    private static final int TOURIST_CAP_SLOT = ModifierSlots.intern("tourist_cap");
+    private static final int STORAGE_CAP_ALL_SLOT = ModifierSlots.intern("storage_cap_all");
+
     private final com.quackers29.businesscraft.town.Town town;
     private final Map<String, TradingStock> stocks = new HashMap<>();
 
@@ -142,11 +147,11 @@ public class TownTradingComponent implements TownComponent {
 
         // Population Cap
         if ("pop".equals(resourceId)) {
-            return town.getUpgrades().getModifier("pop_cap");
+            return town.getUpgrades().getModifier(POP_CAP_SLOT);
         }
         // Tourist Cap
         if ("tourist".equals(resourceId)) {
-            return town.getUpgrades().getModifier("tourist_cap");
+            return town.getUpgrades().getModifier(TOURIST_CAP_SLOT);
         }
 
         // Historical stats have no cap
@@ -158,7 +163,7 @@ public class TownTradingComponent implements TownComponent {
 
         com.quackers29.businesscraft.town.components.TownUpgradeComponent upgrades = town.getUpgrades();
         if (upgrades != null) {
-            float globalMod = upgrades.getModifier("storage_cap_all");
+            float globalMod = upgrades.getModifier(STORAGE_CAP_ALL_SLOT);
 
             // Resolve alias if possible (e.g. minecraft:bread -> "food")
             String capKey = resourceId;
@@ -180,7 +185,7 @@ public class TownTradingComponent implements TownComponent {
                 }
             }
 
-            float specificMod = upgrades.getModifier("storage_cap_" + capKey);
+            float specificMod = upgrades.getModifier(ModifierSlots.storageCap(capKey));
             return baseGlobal + globalMod + specificMod;
         }
         return baseGlobal;
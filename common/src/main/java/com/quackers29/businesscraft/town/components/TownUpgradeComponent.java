@@ -2,6 +2,7 @@ package com.quackers29.businesscraft.town.components;
 
 import com.quackers29.businesscraft.data.parsers.DataParser.ResourceAmount;
 import com.quackers29.businesscraft.data.parsers.Effect;
+import com.quackers29.businesscraft.production.ModifierSlots;
 import com.quackers29.businesscraft.production.UpgradeNode;
 import com.quackers29.businesscraft.production.UpgradeRegistry;
 import com.quackers29.businesscraft.town.Town;
@@ -20,8 +21,18 @@ public class TownUpgradeComponent implements TownComponent {
     private final Town town;
     private final Set<String> unlockedNodes = new HashSet<>();
     private final Map<String, Integer> upgradeLevels = new HashMap<>(); // node -> level
-    private final Map<String, Float> activeModifiers = new HashMap<>(); // target -> value
+    // Active modifiers indexed by ModifierSlots slot; 'present' marks targets that have a value
+    private float[] modifierValues = new float[0];
+    private final BitSet modifierPresent = new BitSet();
+    private final BitSet dirtyTargets = new BitSet();
+    private final Map<String, Float> activeModifiers = new ModifierView(); // target -> value (view of the slots)
+    private final List<ModifierListener> modifierListeners = new ArrayList<>();
     private final Map<String, Float> aiScores = new HashMap<>();
+    private final com.quackers29.businesscraft.town.ai.ResearchScoreCache researchScoreCache = new com.quackers29.businesscraft.town.ai.ResearchScoreCache();
+
+    public com.quackers29.businesscraft.town.ai.ResearchScoreCache getResearchScoreCache() {
+        return researchScoreCache;
+    }
 
     public Map<String, Float> getAiScores() {
         return Collections.unmodifiableMap(aiScores);
@@ -43,50 +54,147 @@ public class TownUpgradeComponent implements TownComponent {
         this.town = town;
     }
 
+    /**
+     * Notified when the value of a modifier slot actually changes, from within the call
+     * that changed it (research completion, flat modifiers, load). Slots whose value
+     * comes out the same after a recalculation are not reported.
+     */
+    @FunctionalInterface
+    public interface ModifierListener {
+        void onModifierChanged(int slot, float oldValue, float newValue);
+    }
+
+    public void addModifierListener(ModifierListener listener) {
+        modifierListeners.add(listener);
+    }
+
+    public void removeModifierListener(ModifierListener listener) {
+        modifierListeners.remove(listener);
+    }
+
     private int aiCheckCooldown = 0;
     private long idleTicks = 0;
 
     @Override
     public void tick() {
-        if (currentResearchNode != null) {
-            UpgradeNode node = UpgradeRegistry.get(currentResearchNode);
-            if (node == null) {
-                currentResearchNode = null;
-                return;
+        tick(1);
+    }
+
+    /**
+     * Catch-up tick. Research accrues one increment per elapsed tick (same float
+     * additions as ticking every tick) and completes on the exact tick it would
+     * have; the remaining ticks then continue on the idle/AI path, which steps from
+     * AI check to AI check.
+     */
+    @Override
+    public void tick(int elapsedTicks) {
+        int remaining = elapsedTicks;
+        while (remaining > 0) {
+            if (currentResearchNode != null) {
+                remaining = advanceResearch(remaining);
+            } else {
+                remaining = advanceIdle(remaining);
             }
+        }
+    }
 
-            // Research progress logic
-            // Research progress logic
-            float speedModifier = 1.0f + getModifier("research");
-            if (speedModifier < 0.1f)
-                speedModifier = 0.1f; // min speed 10%
+    /**
+     * Ticks until the next research completion or AI check, which happens on the last
+     * of them; {@code maxTicks} if none falls within that many. Lets the town split a
+     * catch-up at the points where research changes its modifiers or stock.
+     */
+    public int ticksUntilNextEvent(int maxTicks) {
+        if (currentResearchNode == null) {
+            return (int) Math.min(maxTicks, Math.max(aiCheckCooldown, 0) + 1L);
+        }
+        if (UpgradeRegistry.get(currentResearchNode) == null) {
+            return Math.min(maxTicks, 1); // Dropped on the next tick
+        }
 
-            researchProgress += speedModifier / 1200.0f; // 1200 ticks per minute
+        // Same accrual as advanceResearch, on a copy of the progress
+        float speedModifier = 1.0f + getModifier("research");
+        if (speedModifier < 0.1f)
+            speedModifier = 0.1f;
+        float increment = speedModifier / 1200.0f;
+        float target = getScaledResearchMinutes(currentResearchNode);
+
+        float progress = researchProgress;
+        for (int i = 1; i <= maxTicks; i++) {
+            progress += increment;
+            if (progress >= target) {
+                return i;
+            }
+        }
+        return maxTicks;
+    }
 
-            if (researchProgress >= getScaledResearchMinutes(currentResearchNode)) {
+    private int advanceResearch(int ticks) {
+        UpgradeNode node = UpgradeRegistry.get(currentResearchNode);
+        if (node == null) {
+            currentResearchNode = null;
+            return ticks - 1;
+        }
+
+        // Research progress logic
+        float speedModifier = 1.0f + getModifier("research");
+        if (speedModifier < 0.1f)
+            speedModifier = 0.1f; // min speed 10%
+
+        float increment = speedModifier / 1200.0f; // 1200 ticks per minute
+        float target = getScaledResearchMinutes(currentResearchNode);
+
+        // One float add per tick: a single multiplied add rounds differently
+        int remaining = ticks;
+        while (remaining > 0) {
+            remaining--;
+            researchProgress += increment;
+            if (researchProgress >= target) {
                 completeResearch();
+                break;
             }
-        } else {
-            // Idle - AI check
-            idleTicks++;
-            if (aiCheckCooldown-- <= 0) {
-                aiCheckCooldown = 200; // Check every ~10 seconds
+        }
+        return remaining;
+    }
 
+    /**
+     * Idle ticks while no research runs. The AI checks every 201 ticks (the tick the
+     * cooldown runs out, then it restarts at 200). The town does not change while it
+     * catches up, so the priorities are calculated once per idle span and only the
+     * selection, whose patience threshold depends on the idle time, runs at each check.
+     */
+    private int advanceIdle(int ticks) {
+        Map<String, Float> scores = null;
+        int remaining = ticks;
+        while (remaining > 0) {
+            long untilCheck = Math.max(aiCheckCooldown, 0) + 1L;
+            if (remaining < untilCheck) {
+                idleTicks += remaining;
+                aiCheckCooldown -= remaining;
+                return 0;
+            }
+            idleTicks += untilCheck;
+            remaining -= (int) untilCheck;
+            aiCheckCooldown = 200; // Check every ~10 seconds
+
+            if (scores == null) {
                 // Update scores
-                Map<String, Float> scores = com.quackers29.businesscraft.town.ai.TownResearchAI
-                        .calculatePriorities(town);
+                scores = com.quackers29.businesscraft.town.ai.TownResearchAI.calculatePriorities(town);
                 this.aiScores.clear();
                 this.aiScores.putAll(scores);
+            }
 
-                // Pick best
-                String nextNode = com.quackers29.businesscraft.town.ai.TownResearchAI.selectBestResearch(town, scores,
-                        idleTicks);
+            // Pick best
+            String nextNode = com.quackers29.businesscraft.town.ai.TownResearchAI.selectBestResearch(town, scores,
+                    idleTicks);
 
-                if (nextNode != null) {
-                    startResearch(nextNode);
+            if (nextNode != null) {
+                startResearch(nextNode);
+                if (currentResearchNode != null) {
+                    return remaining;
                 }
             }
         }
+        return 0;
     }
 
     public int getUpgradeLevel(String nodeId) {
@@ -289,7 +397,12 @@ public class TownUpgradeComponent implements TownComponent {
             }
         }
 
-        recalculateModifiers();
+        if (node != null) {
+            for (int slot : node.getEffectSlots()) {
+                dirtyTargets.set(slot);
+            }
+            recalculateTargets();
+        }
         town.markDirty();
     }
 
@@ -297,43 +410,199 @@ public class TownUpgradeComponent implements TownComponent {
 
     public void addFlatModifier(String key, float value) {
         flatModifiers.put(key, value);
-        recalculateModifiers();
+        dirtyTargets.set(ModifierSlots.intern(key));
+        recalculateTargets();
         town.markDirty();
     }
 
     public void accumulateFlatModifier(String key, float delta) {
         float current = flatModifiers.getOrDefault(key, 0f);
         flatModifiers.put(key, current + delta);
-        recalculateModifiers();
+        dirtyTargets.set(ModifierSlots.intern(key));
+        recalculateTargets();
         town.markDirty();
     }
 
     // Recalculates all active modifiers based on unlocked nodes and flat modifiers
     private void recalculateModifiers() {
-        activeModifiers.clear();
+        float[] before = snapshotForListeners();
+        Arrays.fill(modifierValues, 0f);
+        modifierPresent.clear();
 
         // Add flat modifiers first
-        activeModifiers.putAll(flatModifiers);
+        for (Map.Entry<String, Float> entry : flatModifiers.entrySet()) {
+            setModifierSlot(ModifierSlots.intern(entry.getKey()), entry.getValue());
+        }
 
         for (Map.Entry<String, Integer> entry : upgradeLevels.entrySet()) {
-            String nodeId = entry.getKey();
-            int level = entry.getValue();
+            UpgradeNode node = UpgradeRegistry.get(entry.getKey());
+            if (node == null)
+                continue;
 
-            UpgradeNode node = UpgradeRegistry.get(nodeId);
+            List<Effect> effects = node.getEffects();
+            int[] slots = node.getEffectSlots();
+            for (int i = 0; i < slots.length; i++) {
+                addToModifierSlot(slots[i], node.calculateEffectValue(effects.get(i), entry.getValue()));
+            }
+        }
+
+        if (before != null) {
+            BitSet all = new BitSet();
+            all.set(0, Math.max(before.length, modifierValues.length));
+            fireModifierChanges(before, all);
+        }
+    }
+
+    // Recomputes only the targets flagged in dirtyTargets. Same summation order as a full
+    // recalculation, so values match it exactly.
+    private void recalculateTargets() {
+        float[] before = snapshotForListeners();
+        for (int slot = dirtyTargets.nextSetBit(0); slot >= 0; slot = dirtyTargets.nextSetBit(slot + 1)) {
+            ensureModifierCapacity(slot);
+            modifierValues[slot] = 0f;
+            modifierPresent.clear(slot);
+            Float flat = flatModifiers.get(ModifierSlots.nameOf(slot));
+            if (flat != null)
+                setModifierSlot(slot, flat);
+        }
+
+        for (Map.Entry<String, Integer> entry : upgradeLevels.entrySet()) {
+            UpgradeNode node = UpgradeRegistry.get(entry.getKey());
             if (node == null)
                 continue;
 
-            for (Effect effect : node.getEffects()) {
-                float value = node.calculateEffectValue(effect, level);
-                activeModifiers.merge(effect.getTarget(), value, Float::sum);
+            List<Effect> effects = node.getEffects();
+            int[] slots = node.getEffectSlots();
+            for (int i = 0; i < slots.length; i++) {
+                if (dirtyTargets.get(slots[i]))
+                    addToModifierSlot(slots[i], node.calculateEffectValue(effects.get(i), entry.getValue()));
+            }
+        }
+
+        fireModifierChanges(before, dirtyTargets);
+        dirtyTargets.clear();
+    }
+
+    // Slot values before a change, or null when nobody listens
+    private float[] snapshotForListeners() {
+        return modifierListeners.isEmpty() ? null : Arrays.copyOf(modifierValues, modifierValues.length);
+    }
+
+    private void fireModifierChanges(float[] before, BitSet slots) {
+        if (before == null)
+            return;
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            float oldValue = slot < before.length ? before[slot] : 0f;
+            float newValue = getModifier(slot);
+            if (Float.compare(oldValue, newValue) != 0) {
+                for (ModifierListener listener : List.copyOf(modifierListeners)) {
+                    listener.onModifierChanged(slot, oldValue, newValue);
+                }
             }
         }
     }
 
+    private void ensureModifierCapacity(int slot) {
+        if (slot >= modifierValues.length) {
+            modifierValues = Arrays.copyOf(modifierValues, Math.max(slot + 1, ModifierSlots.size()));
+        }
+    }
+
+    private void setModifierSlot(int slot, float value) {
+        ensureModifierCapacity(slot);
+        modifierValues[slot] = value;
+        modifierPresent.set(slot);
+    }
+
+    private void addToModifierSlot(int slot, float value) {
+        if (modifierPresent.get(slot)) {
+            modifierValues[slot] += value;
+        } else {
+            setModifierSlot(slot, value);
+        }
+    }
+
     // ... getters ...
 
     public float getModifier(String target) {
-        return activeModifiers.getOrDefault(target, 0f);
+        return getModifier(ModifierSlots.get(target));
+    }
+
+    /**
+     * Slot-based lookup for hot paths; see {@link ModifierSlots}.
+     *
+     * @return the modifier value, or 0 if the town has none for this slot
+     */
+    public float getModifier(int slot) {
+        return slot >= 0 && slot < modifierValues.length ? modifierValues[slot] : 0f;
+    }
+
+    /**
+     * String-keyed Map over the slot array, for code that still treats modifiers as a map.
+     */
+    private class ModifierView extends AbstractMap<String, Float> {
+        @Override
+        public Float get(Object key) {
+            if (!(key instanceof String target))
+                return null;
+            int slot = ModifierSlots.get(target);
+            return slot >= 0 && modifierPresent.get(slot) ? modifierValues[slot] : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public Float put(String key, Float value) {
+            Float previous = get(key);
+            int slot = ModifierSlots.intern(key);
+            float[] before = snapshotForListeners();
+            setModifierSlot(slot, value);
+            BitSet changed = new BitSet();
+            changed.set(slot);
+            fireModifierChanges(before, changed);
+            return previous;
+        }
+
+        @Override
+        public Float remove(Object key) {
+            Float previous = get(key);
+            if (previous != null) {
+                int slot = ModifierSlots.get((String) key);
+                float[] before = snapshotForListeners();
+                modifierValues[slot] = 0f;
+                modifierPresent.clear(slot);
+                BitSet changed = new BitSet();
+                changed.set(slot);
+                fireModifierChanges(before, changed);
+            }
+            return previous;
+        }
+
+        @Override
+        public void clear() {
+            float[] before = snapshotForListeners();
+            BitSet changed = (BitSet) modifierPresent.clone();
+            Arrays.fill(modifierValues, 0f);
+            modifierPresent.clear();
+            fireModifierChanges(before, changed);
+        }
+
+        @Override
+        public int size() {
+            return modifierPresent.cardinality();
+        }
+
+        @Override
+        public Set<Entry<String, Float>> entrySet() {
+            Set<Entry<String, Float>> entries = new LinkedHashSet<>();
+            for (int slot = modifierPresent.nextSetBit(0); slot >= 0; slot = modifierPresent.nextSetBit(slot + 1)) {
+                entries.add(new SimpleImmutableEntry<>(ModifierSlots.nameOf(slot), modifierValues[slot]));
+            }
+            return Collections.unmodifiableSet(entries);
+        }
     }
 
     public boolean isUnlocked(String nodeId) {
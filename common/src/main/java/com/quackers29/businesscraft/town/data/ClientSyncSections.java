@@ -0,0 +1,80 @@
+package com.quackers29.businesscraft.town.data;
+
+/**
+ * Tracks which parts of a town block's client sync data changed since they were last
+ * sent, so block-entity updates can carry only those parts.
+ *
+ * Each section has a change counter that its owners bump where the data is modified
+ * (the town for name, wants, escrow and visits, its resource and payment-buffer storages,
+ * the platform manager). {@link #takeChanged} compares the counters with the ones last
+ * sent and reports the sections that moved as a bit mask; only those sections are then
+ * written. Each section is always sent whole, so applying it is idempotent and clients
+ * that received a full tag in between stay consistent.
+ */
+public class ClientSyncSections {
+
+    /** Groups of sync tag keys that are sent and applied together. */
+    public enum Section {
+        /** TownId, name, searchRadius */
+        INFO,
+        /** clientResources, clientCommunalStorage */
+        RESOURCES,
+        /** clientWantedResources */
+        WANTS,
+        /** clientEscrowedResources */
+        ESCROW,
+        /** visitHistory */
+        HISTORY,
+        /** platforms */
+        PLATFORMS;
+
+        public static final int ALL = (1 << values().length) - 1;
+
+        public int bit() {
+            return 1 << ordinal();
+        }
+
+        public boolean isIn(int mask) {
+            return (mask & bit()) != 0;
+        }
+    }
+
+    // Counters at the last send, by section ordinal
+    private final long[] lastSent = new long[Section.values().length];
+    // What the counters were read from; counters of another source are not comparable
+    private Object lastSource;
+    private boolean sentAny = false;
+
+    /**
+     * Records {@code versions} as sent and reports the sections whose counter differs
+     * from the previous call. Everything is reported on the first call, after
+     * {@link #reset()} and when {@code source} is not the object the previous counters
+     * came from (e.g. the town was unloaded and loaded again).
+     *
+     * @param source   the owner of the counters, compared by identity
+     * @param versions change counter of each section, indexed by {@link Section#ordinal()}
+     * @return bit mask of the changed sections ({@link Section#bit()}), 0 if none
+     */
+    public int takeChanged(Object source, long[] versions) {
+        boolean all = !sentAny || source != lastSource;
+        int mask = 0;
+        for (Section section : Section.values()) {
+            int i = section.ordinal();
+            if (all || versions[i] != lastSent[i]) {
+                lastSent[i] = versions[i];
+                mask |= section.bit();
+            }
+        }
+        lastSource = source;
+        sentAny = true;
+        return mask;
+    }
+
+    /**
+     * Forgets what was sent, so the next {@link #takeChanged} reports every section.
+     */
+    public void reset() {
+        sentAny = false;
+        lastSource = null;
+    }
+}
@@ -34,6 +34,10 @@ public class PlatformManager {
     // Callback for notifying when changes occur
     private Runnable changeCallback;
 
+    // Changes to the platform list; changes to the platforms themselves are counted by
+    // each Platform (see getVersion)
+    private long version = 0;
+
     /**
      * Sets the callback to be invoked when platform data changes
      * 
@@ -78,6 +82,7 @@ public class PlatformManager {
         Platform platform = new Platform();
         platform.setName("Platform " + (platforms.size() + 1));
         platforms.add(platform);
+        version++;
         notifyChanged();
         return true;
     }
@@ -89,11 +94,17 @@ public class PlatformManager {
      * @return true if removed, false if not found
      */
     public boolean removePlatform(UUID platformId) {
-        boolean removed = platforms.removeIf(p -> p.getId().equals(platformId));
-        if (removed) {
-            notifyChanged();
+        Iterator<Platform> it = platforms.iterator();
+        while (it.hasNext()) {
+            Platform platform = it.next();
+            if (platform.getId().equals(platformId)) {
+                it.remove();
+                retire(platform);
+                notifyChanged();
+                return true;
+            }
         }
-        return removed;
+        return false;
     }
 
     /**
@@ -236,7 +247,7 @@ public class PlatformManager {
      * @param tag The compound tag to load from
      */
     public void loadFromNBT(CompoundTag tag) {
-        platforms.clear();
+        retireAll();
         if (tag.contains("platforms")) {
             ListTag platformsTag = tag.getList("platforms", Tag.TAG_COMPOUND);
             for (int i = 0; i < platformsTag.size(); i++) {
@@ -276,6 +287,7 @@ public class PlatformManager {
         if (platforms.isEmpty() && pathStart != null && pathEnd != null) {
             Platform legacyPlatform = new Platform("Main Platform", true, pathStart, pathEnd);
             platforms.add(legacyPlatform);
+            version++;
             notifyChanged();
             LOGGER.info("Created legacy platform from old path data: {} to {}", pathStart, pathEnd);
         }
@@ -296,9 +308,34 @@ public class PlatformManager {
      * Clears all platform data (useful for cleanup)
      */
     public void clear() {
-        platforms.clear();
+        retireAll();
         clientPlatforms.clear();
         isInPlatformCreationMode = false;
         platformBeingEdited = null;
     }
+
+    /**
+     * @return a counter that changes whenever a platform is added, removed, loaded or
+     *         modified; used to tell when the platforms need to be sent to clients again
+     */
+    public long getVersion() {
+        long total = version;
+        for (Platform platform : platforms) {
+            total += platform.getVersion();
+        }
+        return total;
+    }
+
+    // Folds a dropped platform's changes into our own counter so getVersion never goes back
+    private void retire(Platform platform) {
+        version += platform.getVersion() + 1;
+    }
+
+    private void retireAll() {
+        for (Platform platform : platforms) {
+            retire(platform);
+        }
+        platforms.clear();
+        version++;
+    }
 }
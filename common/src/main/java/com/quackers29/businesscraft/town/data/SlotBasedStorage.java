@@ -25,6 +25,8 @@ public class SlotBasedStorage implements SlotBasedStorageAccess {
 
     private final ItemStack[] slots;
     private final int slotCount;
+    // Bumped on every change to the slots (see getVersion)
+    private long version = 0;
     
     /**
      * Create a new slot-based storage with the specified number of slots
@@ -68,6 +70,7 @@ public class SlotBasedStorage implements SlotBasedStorageAccess {
     public void setSlot(int index, ItemStack stack) {
         if (index >= 0 && index < slotCount) {
             this.slots[index] = stack.isEmpty() ? ItemStack.EMPTY : stack.copy();
+            version++;
         }
     }
     
@@ -160,7 +163,11 @@ public class SlotBasedStorage implements SlotBasedStorageAccess {
         }
         
         // Return true if we placed at least some items
-        return remaining.getCount() < stack.getCount();
+        if (remaining.getCount() < stack.getCount()) {
+            version++;
+            return true;
+        }
+        return false;
     }
     
     /**
@@ -198,6 +205,9 @@ public class SlotBasedStorage implements SlotBasedStorageAccess {
             }
         }
         
+        if (totalRemoved > 0) {
+            version++;
+        }
         return result;
     }
     
@@ -237,6 +247,7 @@ public class SlotBasedStorage implements SlotBasedStorageAccess {
         for (int i = 0; i < slotCount; i++) {
             slots[i] = ItemStack.EMPTY;
         }
+        version++;
     }
     
     /**
@@ -254,6 +265,13 @@ public class SlotBasedStorage implements SlotBasedStorageAccess {
         // This is called by the platform-specific wrapper when contents change
     }
     
+    /**
+     * @return a counter that changes whenever the slot contents change
+     */
+    public long getVersion() {
+        return version;
+    }
+    
     /**
      * Serialize storage to NBT for save/load
      * @return CompoundTag containing all slot data
@@ -306,6 +324,7 @@ public class SlotBasedStorage implements SlotBasedStorageAccess {
                 }
             }
         }
+        version++;
     }
     
     /**
@@ -322,6 +341,7 @@ public class SlotBasedStorage implements SlotBasedStorageAccess {
         for (int i = copyCount; i < this.slotCount; i++) {
             this.slots[i] = ItemStack.EMPTY;
         }
+        version++;
     }
     
     /**
@@ -2,14 +2,15 @@ package com.quackers29.businesscraft.town.data;
 
 import com.quackers29.businesscraft.config.ConfigLoader;
 import com.quackers29.businesscraft.entity.TouristEntity;
+import com.quackers29.businesscraft.entity.TouristRegistry;
 import com.quackers29.businesscraft.platform.Platform;
 import com.quackers29.businesscraft.api.PlatformAccess;
 import com.quackers29.businesscraft.town.Town;
+import com.quackers29.businesscraft.town.TownHeader;
 import com.quackers29.businesscraft.town.TownManager;
 import com.quackers29.businesscraft.town.utils.TouristAllocationTracker;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.entity.npc.Villager;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.AABB;
@@ -69,7 +70,9 @@ public class TouristSpawningHelper {
                 startPos.getY() + 2,
                 Math.max(startPos.getZ(), endPos.getZ()) + 1);
 
-        List<Villager> existingTourists = level.getEntitiesOfClass(Villager.class, pathBounds);
+        if (!(level instanceof ServerLevel serverLevel))
+            return false;
+        List<TouristEntity> existingTourists = TouristRegistry.get(serverLevel).findInBox(pathBounds);
 
         // Use configurable max tourists per platform
         if (existingTourists.size() < ConfigLoader.maxTouristsPerTown) {
@@ -102,11 +105,9 @@ public class TouristSpawningHelper {
                 if (!isOccupied) {
                     // Get destination town name for the tourist tag
                     String destinationName = "Destination N/A";
-                    if (level instanceof ServerLevel serverLevel) {
-                        Town destTown = TownManager.get(serverLevel).getTown(destinationTownId);
-                        if (destTown != null) {
-                            destinationName = destTown.getName();
-                        }
+                    Town destTown = TownManager.get(serverLevel).getTown(destinationTownId);
+                    if (destTown != null) {
+                        destinationName = destTown.getName();
                     }
 
                     // Spawn the tourist
@@ -171,27 +172,22 @@ public class TouristSpawningHelper {
      */
     public UUID selectFairTownByPopulation(ServerLevel serverLevel, List<UUID> allowedTowns, UUID originTownId) {
         TownManager townManager = TownManager.get(serverLevel);
-        Map<UUID, Town> allTowns = townManager.getAllTowns();
-
-        // Remove current town from options
-        Map<UUID, Town> possibleTowns = new HashMap<>(allTowns);
-        possibleTowns.remove(originTownId);
 
-        // Filter to only allowed towns if specified
-        if (allowedTowns != null) {
-            possibleTowns.keySet().retainAll(allowedTowns);
+        // Map of town ID to population for the tracker, from headers so no town is loaded
+        Map<UUID, Integer> populationMap = new HashMap<>();
+        for (TownHeader header : townManager.getTownHeaders()) {
+            // Skip the current town and, if specified, towns that are not allowed
+            if (header.id().equals(originTownId)
+                    || (allowedTowns != null && !allowedTowns.contains(header.id()))) {
+                continue;
+            }
+            populationMap.put(header.id(), (int) header.population());
         }
 
-        if (possibleTowns.isEmpty()) {
+        if (populationMap.isEmpty()) {
             return null;
         }
 
-        // Create a map of town ID to population for the tracker
-        Map<UUID, Integer> populationMap = new HashMap<>();
-        for (Map.Entry<UUID, Town> entry : possibleTowns.entrySet()) {
-            populationMap.put(entry.getKey(), (int) entry.getValue().getPopulation());
-        }
-
         // Use our allocation tracker to select a fair destination
         return TouristAllocationTracker.selectFairDestination(originTownId, populationMap);
     }
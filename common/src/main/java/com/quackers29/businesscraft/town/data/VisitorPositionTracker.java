@@ -0,0 +1,131 @@
+package com.quackers29.businesscraft.town.data;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Last known positions of the visitors around a town's platforms, used to tell
+ * tourists that have come to a stop from ones still riding in.
+ *
+ * Positions are packed three doubles per visitor into one array, indexed by UUID, and
+ * each visitor remembers the scan it was last seen in. Visitors not seen for
+ * {@code evictAfterScans} scans are dropped by {@link #endScan()} and their slot is
+ * reused by the next arrival, so memory follows the visitors currently around rather
+ * than everyone who ever passed through. Checking a visitor that is already tracked
+ * allocates nothing.
+ *
+ * Usage per scan: {@link #beginScan()}, {@link #update} for every visitor found,
+ * then {@link #endScan()}. Not thread-safe.
+ */
+public class VisitorPositionTracker {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final double stationaryDistanceSq;
+    private final int evictAfterScans;
+
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private double[] positions = new double[INITIAL_CAPACITY * 3];
+    private long[] lastSeen = new long[INITIAL_CAPACITY];
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int freeCount = 0;
+    private int usedSlots = 0;
+    private long scan = 0;
+
+    /**
+     * @param stationaryDistance most a visitor may move between two scans and still count
+     *                           as stationary
+     * @param evictAfterScans    scans a visitor may be missing before it is forgotten; 1
+     *                           drops visitors as soon as one scan misses them
+     */
+    public VisitorPositionTracker(double stationaryDistance, int evictAfterScans) {
+        if (evictAfterScans < 1) {
+            throw new IllegalArgumentException("evictAfterScans must be at least 1: " + evictAfterScans);
+        }
+        this.stationaryDistanceSq = stationaryDistance * stationaryDistance;
+        this.evictAfterScans = evictAfterScans;
+    }
+
+    public void beginScan() {
+        scan++;
+    }
+
+    /**
+     * Records where a visitor is in the current scan.
+     *
+     * @return true if the visitor was already tracked and has moved no more than the
+     *         stationary distance since it was last recorded; false on first sighting
+     */
+    public boolean update(UUID visitorId, double x, double y, double z) {
+        Integer slot = slots.get(visitorId);
+        if (slot == null) {
+            int newSlot = allocateSlot();
+            slots.put(visitorId, newSlot);
+            store(newSlot, x, y, z);
+            return false;
+        }
+
+        int base = slot * 3;
+        double dx = x - positions[base];
+        double dy = y - positions[base + 1];
+        double dz = z - positions[base + 2];
+        store(slot, x, y, z);
+        return dx * dx + dy * dy + dz * dz <= stationaryDistanceSq;
+    }
+
+    /**
+     * Forgets visitors that have not been seen for {@code evictAfterScans} scans.
+     *
+     * @return the number of visitors forgotten
+     */
+    public int endScan() {
+        int removed = 0;
+        Iterator<Integer> iterator = slots.values().iterator();
+        while (iterator.hasNext()) {
+            int slot = iterator.next();
+            if (scan - lastSeen[slot] >= evictAfterScans) {
+                iterator.remove();
+                releaseSlot(slot);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    public void clear() {
+        slots.clear();
+        freeCount = 0;
+        usedSlots = 0;
+    }
+
+    private void store(int slot, double x, double y, double z) {
+        int base = slot * 3;
+        positions[base] = x;
+        positions[base + 1] = y;
+        positions[base + 2] = z;
+        lastSeen[slot] = scan;
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (usedSlots == lastSeen.length) {
+            int capacity = lastSeen.length * 2;
+            positions = Arrays.copyOf(positions, capacity * 3);
+            lastSeen = Arrays.copyOf(lastSeen, capacity);
+            freeSlots = Arrays.copyOf(freeSlots, capacity);
+        }
+        return usedSlots++;
+    }
+
+    private void releaseSlot(int slot) {
+        freeSlots[freeCount++] = slot;
+    }
+}
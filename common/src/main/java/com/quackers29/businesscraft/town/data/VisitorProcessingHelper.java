@@ -5,6 +5,7 @@ import com.quackers29.businesscraft.api.ITouristHelper;
 import com.quackers29.businesscraft.api.PlatformAccess;
 import com.quackers29.businesscraft.config.ConfigLoader;
 import com.quackers29.businesscraft.entity.TouristEntity;
+import com.quackers29.businesscraft.entity.TouristRegistry;
 import com.quackers29.businesscraft.platform.Platform;
 import com.quackers29.businesscraft.town.Town;
 import com.quackers29.businesscraft.town.TownManager;
@@ -18,13 +19,11 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.AABB;
-import net.minecraft.world.phys.Vec3;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.quackers29.businesscraft.debug.DebugConfig;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Helper class for visitor processing and tourist management.
@@ -39,10 +38,12 @@ public class VisitorProcessingHelper {
 
     // Constants
     private static final double VISITOR_POSITION_CHANGE_THRESHOLD = 0.001;
+    private static final int VISITOR_EVICT_AFTER_SCANS = 3;
     private static final UUID ANY_TOWN_DESTINATION = new UUID(0, 0);
 
     // Position tracking for visitor movement detection
-    private final Map<UUID, Vec3> lastVisitorPositions = new HashMap<>();
+    private final VisitorPositionTracker visitorPositions =
+            new VisitorPositionTracker(VISITOR_POSITION_CHANGE_THRESHOLD, VISITOR_EVICT_AFTER_SCANS);
 
     /**
      * Processes visitors for a town across all enabled platforms
@@ -76,8 +77,10 @@ public class VisitorProcessingHelper {
         if (platformManager.getPlatformCount() == 0)
             return;
 
-        // Create a list to collect all nearby villagers across all platforms
-        List<Villager> allNearbyVillagers = new ArrayList<>();
+        // Collect the tourists visiting this town across all platforms; a tourist near
+        // two overlapping platforms is only processed once
+        TouristRegistry registry = TouristRegistry.get(serverLevel);
+        Set<Villager> visitorSet = new LinkedHashSet<>();
 
         // Check each platform for visitors
         for (Platform platform : platformManager.getEnabledPlatforms()) {
@@ -93,15 +96,12 @@ public class VisitorProcessingHelper {
                     Math.max(startPos.getY(), endPos.getY()) + 4,
                     Math.max(startPos.getZ(), endPos.getZ()) + searchRadius);
 
-            List<Villager> platformVillagers = level.getEntitiesOfClass(Villager.class, platformBounds);
-            allNearbyVillagers.addAll(platformVillagers);
+            visitorSet.addAll(registry.findArriving(townId, platformBounds));
         }
 
-        // Clean up positions of villagers that are no longer present
-        cleanupVisitorPositions(allNearbyVillagers);
-
         // Process visitors that are stationary
-        for (Villager villager : allNearbyVillagers) {
+        visitorPositions.beginScan();
+        for (Villager villager : visitorSet) {
             if (processIndividualVisitor(villager, townBlockPos, townId, visitBuffer, serverLevel)) {
                 if (changeCallback != null) {
                     changeCallback.run();
@@ -109,6 +109,13 @@ public class VisitorProcessingHelper {
             }
         }
 
+        // Forget visitors that have not been around for a few scans
+        int evicted = visitorPositions.endScan();
+        if (evicted > 0) {
+            DebugConfig.debug(LOGGER, DebugConfig.VISITOR_PROCESSING, "Evicted {} stale visitor positions",
+                    evicted);
+        }
+
         // Process the visit buffer if it's ready
         if (visitBuffer.shouldProcess()) {
             processVisitBuffer(visitBuffer, provider, thisTown, serverLevel, townBlockPos, townName, changeCallback);
@@ -128,43 +135,24 @@ public class VisitorProcessingHelper {
     private boolean processIndividualVisitor(Villager villager, BlockPos townBlockPos, UUID townId,
             VisitBuffer visitBuffer, ServerLevel serverLevel) {
 
-        Vec3 currentPos = villager.position();
-        Vec3 lastPos = lastVisitorPositions.get(villager.getUUID());
-
-        // Store current position for next check
-        lastVisitorPositions.put(villager.getUUID(), currentPos);
-
-        // Skip if this is the first time we've seen this villager
-        if (lastPos == null)
-            return false;
-
-        // Calculate position change
-        double positionChange = currentPos.distanceTo(lastPos);
-
-        // Skip if villager has moved too much (likely on transport)
-        if (positionChange > VISITOR_POSITION_CHANGE_THRESHOLD) {
+        // Skip villagers seen for the first time or that moved too much (likely on transport)
+        if (!visitorPositions.update(villager.getUUID(), villager.getX(), villager.getY(), villager.getZ())) {
             return false;
         }
 
-        if (PlatformAccess.getTouristHelper().isTourist(villager)) {
-            ITouristHelper.TouristInfo touristInfo = PlatformAccess.getTouristHelper().extractTouristInfo(villager);
+        // Cached on TouristEntity; null for villagers that are not tourists
+        ITouristHelper.TouristInfo touristInfo = PlatformAccess.getTouristHelper().extractTouristInfo(villager);
+        if (touristInfo != null) {
+            UUID originTownUuid = touristInfo.originTownId();
+            UUID destinationTownUuid = touristInfo.destinationTownId();
 
             // Process tourists if:
             // 1. This is their specific destination town, OR
             // 2. They have the ANY_TOWN_DESTINATION and this isn't their origin town
-            if (touristInfo != null &&
-                    !touristInfo.originTownId.equals(townId.toString()) &&
-                    (
-                    // Specific destination that matches this town
-                    (touristInfo.destinationTownId != null &&
-                            touristInfo.destinationTownId.equals(townId.toString()))
-                            ||
-                            // "Any town" destination (UUID 0-0)
-                            (touristInfo.destinationTownId != null &&
-                                    touristInfo.destinationTownId.equals(ANY_TOWN_DESTINATION.toString())))) {
+            if (!originTownUuid.equals(townId) &&
+                    (townId.equals(destinationTownUuid) || ANY_TOWN_DESTINATION.equals(destinationTownUuid))) {
 
                 // Look up the origin town to get its actual current position
-                UUID originTownUuid = UUID.fromString(touristInfo.originTownId);
                 Town lookupOriginTown = TownManager.get(serverLevel).getTown(originTownUuid);
                 BlockPos originPos;
 
@@ -173,7 +161,7 @@ public class VisitorProcessingHelper {
                     originPos = lookupOriginTown.getPosition();
                 } else {
                     // Fallback to stored coordinates if town is not found
-                    originPos = new BlockPos(touristInfo.originX, touristInfo.originY, touristInfo.originZ);
+                    originPos = new BlockPos(touristInfo.originX(), touristInfo.originY(), touristInfo.originZ());
                     LOGGER.warn("Origin town {} not found, using stored coordinates: {}", originTownUuid, originPos);
                 }
 
@@ -197,30 +185,30 @@ public class VisitorProcessingHelper {
                 // Add detailed distance logging
                 DebugConfig.debug(LOGGER, DebugConfig.VISITOR_PROCESSING,
                         "TOURIST DISTANCE - Town: {}, From: {}, Origin town pos: {}, Destination town pos: {}, Final distance used: {}",
-                        townId, touristInfo.originTownName,
+                        townId, touristInfo.originTownName(),
                         originPos, townBlockPos, String.format("%.1f", distance));
 
                 // Store the distance in the visitor info for later payment calculation
-                visitBuffer.updateVisitorDistance(UUID.fromString(touristInfo.originTownId), distance);
+                visitBuffer.updateVisitorDistance(originTownUuid, distance);
 
                 // Verify the distance was stored
-                double storedDistance = visitBuffer.getAverageDistance(UUID.fromString(touristInfo.originTownId));
+                double storedDistance = visitBuffer.getAverageDistance(originTownUuid);
                 DebugConfig.debug(LOGGER, DebugConfig.VISITOR_PROCESSING,
                         "TOURIST DISTANCE - After storing: townId: {}, storedDistance: {}",
-                        touristInfo.originTownId, storedDistance);
+                        originTownUuid, storedDistance);
 
                 // Find the origin town and decrement its tourist count
-                Town originTown = TownManager.get(serverLevel).getTown(UUID.fromString(touristInfo.originTownId));
+                Town originTown = TownManager.get(serverLevel).getTown(originTownUuid);
                 if (originTown != null) {
                     originTown.removeTourist();
 
                     // Record tourist removal in the allocation tracker
-                    UUID destId = touristInfo.destinationTownId.equals(ANY_TOWN_DESTINATION.toString())
+                    UUID destId = ANY_TOWN_DESTINATION.equals(destinationTownUuid)
                             ? townId // Use actual town ID for stats when ANY_TOWN
-                            : UUID.fromString(touristInfo.destinationTownId);
+                            : destinationTownUuid;
 
                     TouristAllocationTracker.recordTouristRemoval(
-                            UUID.fromString(touristInfo.originTownId),
+                            originTownUuid,
                             destId);
 
                     DebugConfig.debug(LOGGER, DebugConfig.TOWN_DATA_SYSTEMS,
@@ -296,7 +284,7 @@ public class VisitorProcessingHelper {
         }
 
         // Ensure data is saved
-        TownManager.get(serverLevel).markDirty();
+        thisTown.markDirty();
     }
 
     /**
@@ -449,46 +437,11 @@ public class VisitorProcessingHelper {
         return "Unknown Town";
     }
 
-    /**
-     * Cleans up the lastVisitorPositions map by removing entries for villagers
-     * that no longer exist in the current list of nearby villagers.
-     * This prevents memory leaks from accumulating over time.
-     */
-    private void cleanupVisitorPositions(List<Villager> currentVillagers) {
-        // Skip if empty to avoid unnecessary work
-        if (lastVisitorPositions.isEmpty())
-            return;
-
-        // Create a set of current villager UUIDs for efficient lookups
-        Set<UUID> currentVillagerIds = currentVillagers.stream()
-                .map(Entity::getUUID)
-                .collect(Collectors.toSet());
-
-        // Keep track of how many entries we're removing for logging
-        int removedCount = 0;
-
-        // Remove entries that don't correspond to current villagers
-        Iterator<UUID> iterator = lastVisitorPositions.keySet().iterator();
-        while (iterator.hasNext()) {
-            UUID id = iterator.next();
-            if (!currentVillagerIds.contains(id)) {
-                iterator.remove();
-                removedCount++;
-            }
-        }
-
-        // Log only if we actually removed something and at debug level only
-        if (removedCount > 0 && LOGGER.isDebugEnabled()) {
-            DebugConfig.debug(LOGGER, DebugConfig.TOWN_DATA_SYSTEMS, "Cleaned up {} stale visitor position entries",
-                    removedCount);
-        }
-    }
-
     /**
      * Clears all visitor tracking state (useful for cleanup)
      */
     public void clearAll() {
-        lastVisitorPositions.clear();
+        visitorPositions.clear();
     }
 
     /**
@@ -497,6 +450,6 @@ public class VisitorProcessingHelper {
      * @return The count of tracked visitors
      */
     public int getTrackedVisitorCount() {
-        return lastVisitorPositions.size();
+        return visitorPositions.size();
     }
 }
@@ -0,0 +1,163 @@
+package com.quackers29.businesscraft.town.service;
+
+import com.quackers29.businesscraft.town.TownHeader;
+import net.minecraft.core.BlockPos;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.LongConsumer;
+
+/**
+ * Uniform grid over town boundaries for one level.
+ *
+ * The XZ plane is cut into square cells of {@value #CELL_SIZE} blocks and every town is
+ * listed in each cell its boundary's bounding square touches. A point query only looks
+ * at the towns of one cell and an overlap query only at the cells around the point, so
+ * neither scans every town. Candidates are then checked exactly with the same 3D
+ * distance the boundary checks have always used.
+ *
+ * Kept current by {@link #update} whenever a town's header changes (registration,
+ * position or "border" modifier changes) and {@link #remove} when a town is removed.
+ * Not thread-safe; used from the server thread.
+ */
+public class TownBoundaryIndex {
+    static final int CELL_SHIFT = 6;
+    static final int CELL_SIZE = 1 << CELL_SHIFT;
+
+    private final Map<UUID, TownHeader> entries = new HashMap<>();
+    private final Map<Long, List<TownHeader>> cells = new HashMap<>();
+
+    /**
+     * Adds a town or replaces its previous entry.
+     */
+    public void update(TownHeader header) {
+        TownHeader old = entries.put(header.id(), header);
+        if (old != null) {
+            if (old.position().equals(header.position()) && old.boundaryRadius() == header.boundaryRadius()) {
+                // Same cells; swap the entry so names and stats stay current
+                forEachCell(old, key -> cells.get(key).replaceAll(h -> h.id().equals(header.id()) ? header : h));
+                return;
+            }
+            unlink(old);
+        }
+        forEachCell(header, key -> cells.computeIfAbsent(key, k -> new ArrayList<>()).add(header));
+    }
+
+    public void remove(UUID townId) {
+        TownHeader old = entries.remove(townId);
+        if (old != null) {
+            unlink(old);
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+        cells.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the town whose boundary contains {@code pos}, or null. Where boundaries
+     *         overlap, the town with the nearest center wins.
+     */
+    public TownHeader findAt(BlockPos pos) {
+        List<TownHeader> candidates = cells.get(cellKey(pos.getX() >> CELL_SHIFT, pos.getZ() >> CELL_SHIFT));
+        return candidates != null ? nearestContaining(candidates, pos) : null;
+    }
+
+    /**
+     * Looks up many positions at once (e.g. every online player), reusing the candidate
+     * list of a cell for all positions that fall into it.
+     *
+     * @return the town at each position; positions outside every town map to null
+     */
+    public <K> Map<K, TownHeader> findAll(Map<K, BlockPos> positions) {
+        Map<K, TownHeader> result = new LinkedHashMap<>();
+        Map<Long, List<TownHeader>> cellCache = new HashMap<>();
+        for (Map.Entry<K, BlockPos> entry : positions.entrySet()) {
+            BlockPos pos = entry.getValue();
+            long key = cellKey(pos.getX() >> CELL_SHIFT, pos.getZ() >> CELL_SHIFT);
+            List<TownHeader> candidates = cellCache.computeIfAbsent(key, k -> cells.getOrDefault(k, List.of()));
+            result.put(entry.getKey(), nearestContaining(candidates, pos));
+        }
+        return result;
+    }
+
+    /**
+     * @return towns whose boundary would overlap a boundary of {@code radius} around
+     *         {@code pos}, i.e. whose center is closer than {@code radius} plus their
+     *         own radius
+     */
+    public List<TownHeader> findOverlapping(BlockPos pos, int radius) {
+        List<TownHeader> result = new ArrayList<>();
+        Set<UUID> seen = new HashSet<>();
+        int minX = (pos.getX() - radius) >> CELL_SHIFT;
+        int maxX = (pos.getX() + radius) >> CELL_SHIFT;
+        int minZ = (pos.getZ() - radius) >> CELL_SHIFT;
+        int maxZ = (pos.getZ() + radius) >> CELL_SHIFT;
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cz = minZ; cz <= maxZ; cz++) {
+                List<TownHeader> list = cells.get(cellKey(cx, cz));
+                if (list == null) {
+                    continue;
+                }
+                for (TownHeader town : list) {
+                    double required = radius + town.boundaryRadius();
+                    if (pos.distSqr(town.position()) < required * required && seen.add(town.id())) {
+                        result.add(town);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static TownHeader nearestContaining(List<TownHeader> candidates, BlockPos pos) {
+        TownHeader best = null;
+        double bestDistSqr = Double.MAX_VALUE;
+        for (TownHeader town : candidates) {
+            double distSqr = pos.distSqr(town.position());
+            if (distSqr <= (double) town.boundaryRadius() * town.boundaryRadius() && distSqr < bestDistSqr) {
+                best = town;
+                bestDistSqr = distSqr;
+            }
+        }
+        return best;
+    }
+
+    private void unlink(TownHeader header) {
+        forEachCell(header, key -> {
+            List<TownHeader> list = cells.get(key);
+            if (list != null) {
+                list.removeIf(h -> h.id().equals(header.id()));
+                if (list.isEmpty()) {
+                    cells.remove(key);
+                }
+            }
+        });
+    }
+
+    // Every cell the town's bounding square touches
+    private static void forEachCell(TownHeader header, LongConsumer action) {
+        int r = Math.max(0, header.boundaryRadius());
+        BlockPos c = header.position();
+        for (int cx = (c.getX() - r) >> CELL_SHIFT; cx <= (c.getX() + r) >> CELL_SHIFT; cx++) {
+            for (int cz = (c.getZ() - r) >> CELL_SHIFT; cz <= (c.getZ() + r) >> CELL_SHIFT; cz++) {
+                action.accept(cellKey(cx, cz));
+            }
+        }
+    }
+
+    private static long cellKey(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+}
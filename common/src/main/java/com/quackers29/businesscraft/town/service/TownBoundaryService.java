@@ -1,6 +1,7 @@
 package com.quackers29.businesscraft.town.service;
 
 import com.quackers29.businesscraft.town.Town;
+import com.quackers29.businesscraft.town.TownHeader;
 import com.quackers29.businesscraft.config.ConfigLoader;
 import com.quackers29.businesscraft.util.Result;
 import com.quackers29.businesscraft.util.BCError;
@@ -10,6 +11,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Service for town boundary calculations and validation.
@@ -46,6 +48,35 @@ public class TownBoundaryService {
      * @return Result indicating success or failure with detailed error information
      */
     public Result<Void, BCError.TownError> checkTownPlacement(BlockPos newTownPos, Collection<Town> existingTowns) {
+        List<TownHeader> headers = existingTowns == null ? null
+            : existingTowns.stream().map(TownHeader::of).toList();
+        return checkPlacementAgainst(newTownPos, headers);
+    }
+
+    /**
+     * Same as {@link #checkTownPlacement} but only against the towns the level's
+     * boundary index reports as overlapping, instead of every town.
+     *
+     * @param newTownPos Position where new town would be placed
+     * @param index Boundary index of the level
+     * @return Result indicating success or failure with detailed error information
+     */
+    public Result<Void, BCError.TownError> checkPlacementAgainstIndex(BlockPos newTownPos, TownBoundaryIndex index) {
+        if (newTownPos == null) {
+            return Result.failure(new BCError.TownError("INVALID_POSITION", "Town position cannot be null"));
+        }
+        return checkPlacementAgainst(newTownPos, index.findOverlapping(newTownPos, ConfigLoader.defaultStartingPopulation));
+    }
+
+    /**
+     * Same as {@link #checkTownPlacement} but against town headers, so towns that are
+     * not loaded do not need to be.
+     *
+     * @param newTownPos Position where new town would be placed
+     * @param existingTowns Headers of the existing towns to check against
+     * @return Result indicating success or failure with detailed error information
+     */
+    public Result<Void, BCError.TownError> checkPlacementAgainst(BlockPos newTownPos, Collection<TownHeader> existingTowns) {
         if (newTownPos == null) {
             return Result.failure(new BCError.TownError("INVALID_POSITION", "Town position cannot be null"));
         }
@@ -59,14 +90,14 @@ public class TownBoundaryService {
         // New towns start with default population boundary
         int newTownBoundary = ConfigLoader.defaultStartingPopulation;
         
-        for (Town existingTown : existingTowns) {
-            double distance = Math.sqrt(newTownPos.distSqr(existingTown.getPosition()));
-            double requiredDistance = newTownBoundary + existingTown.getBoundaryRadius();
+        for (TownHeader existingTown : existingTowns) {
+            double distance = Math.sqrt(newTownPos.distSqr(existingTown.position()));
+            double requiredDistance = newTownBoundary + existingTown.boundaryRadius();
             
             if (distance < requiredDistance) {
                 String errorMessage = String.format(
                     "Town too close to existing town '%s' - distance: %.1f, required: %.1f (your boundary: %d + their boundary: %d)",
-                    existingTown.getName(), distance, requiredDistance, newTownBoundary, existingTown.getBoundaryRadius()
+                    existingTown.name(), distance, requiredDistance, newTownBoundary, existingTown.boundaryRadius()
                 );
                 
                 DebugConfig.debug(LOGGER, DebugConfig.TOWN_DATA_SYSTEMS, 
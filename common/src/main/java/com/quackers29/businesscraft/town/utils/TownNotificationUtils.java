@@ -334,13 +334,8 @@ public class TownNotificationUtils {
      * Helper to find the ServerLevel for a given Town
      */
     public static ServerLevel getLevelForTown(Town town) {
-        if (town == null)
-            return null;
-        for (TownManager manager : TownManager.getAllInstances()) {
-            if (manager.getTown(town.getId()) == town) {
-                return manager.getLevel();
-            }
-        }
-        return null; // Town not loaded in any current level manager
+        if (town == null || town.getManager() == null)
+            return null; // Town not registered with a loaded level manager
+        return town.getManager().getLevel();
     }
 }
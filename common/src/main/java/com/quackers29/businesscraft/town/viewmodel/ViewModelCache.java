@@ -1,18 +1,54 @@
 package com.quackers29.businesscraft.town.viewmodel;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+
+import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
+/**
+ * Latest view model of each type for one town, plus which of them still need sending.
+ *
+ * View models are rebuilt on a timer whether or not the town changed, so
+ * {@link #update} compares each {@link IViewModel} by its wire encoding against the
+ * previous one and only marks it dirty when the bytes differ. Per-type counters record
+ * how many updates were sent versus suppressed as unchanged.
+ */
 public class ViewModelCache {
     private final Map<Class<?>, Object> cache = new ConcurrentHashMap<>();
     private final Map<Class<?>, Boolean> dirty = new ConcurrentHashMap<>();
+    private final Map<Class<?>, byte[]> encoded = new ConcurrentHashMap<>();
+    private final Map<Class<?>, AtomicLong> sentCounts = new ConcurrentHashMap<>();
+    private final Map<Class<?>, AtomicLong> suppressedCounts = new ConcurrentHashMap<>();
 
+    /**
+     * Stores a freshly built view model, marking it dirty only if its content differs
+     * from the one already cached. Objects that are not {@link IViewModel}s are always
+     * treated as changed.
+     */
     public <T> void update(Class<T> type, T vm) {
+        byte[] bytes = vm instanceof IViewModel ivm ? encode(ivm) : null;
+        byte[] previous = bytes == null ? null : encoded.put(type, bytes);
         cache.put(type, vm);
+        if (previous != null && Arrays.equals(previous, bytes)) {
+            counter(suppressedCounts, type).incrementAndGet();
+            return;
+        }
         dirty.put(type, true);
     }
 
+    /**
+     * Stores a view model as-is, without change detection (client side, where the cache
+     * only serves reads).
+     */
+    public <T> void put(Class<T> type, T vm) {
+        cache.put(type, vm);
+    }
+
     @SuppressWarnings("unchecked")
     public <T> T get(Class<T> type) {
         return (T) cache.get(type);
@@ -31,13 +67,54 @@ public class ViewModelCache {
             Object vm = cache.get(entry.getKey());
             if (vm != null) {
                 sender.accept(vm);
+                counter(sentCounts, entry.getKey()).incrementAndGet();
             }
             return true;
         });
     }
 
+    /**
+     * Visits every cached view model, dirty or not.
+     */
+    public void forEach(Consumer<Object> visitor) {
+        cache.values().forEach(visitor);
+    }
+
+    /**
+     * @return how many dirty view models of this type have been handed to a sender
+     */
+    public long getSentCount(Class<?> type) {
+        AtomicLong count = sentCounts.get(type);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * @return how many updates of this type were dropped because nothing changed
+     */
+    public long getSuppressedCount(Class<?> type) {
+        AtomicLong count = suppressedCounts.get(type);
+        return count == null ? 0 : count.get();
+    }
+
     public void clear() {
         cache.clear();
         dirty.clear();
+        encoded.clear();
+    }
+
+    private static byte[] encode(IViewModel vm) {
+        ByteBuf raw = Unpooled.buffer();
+        try {
+            vm.toBytes(new FriendlyByteBuf(raw));
+            byte[] bytes = new byte[raw.readableBytes()];
+            raw.readBytes(bytes);
+            return bytes;
+        } finally {
+            raw.release();
+        }
+    }
+
+    private static AtomicLong counter(Map<Class<?>, AtomicLong> counts, Class<?> type) {
+        return counts.computeIfAbsent(type, t -> new AtomicLong());
     }
 }
@@ -0,0 +1,212 @@
+package com.quackers29.businesscraft.contract;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Covers ContractIndex, the lookup structure behind ContractBoard queries:
+ *   - id lookup, add/remove
+ *   - issuer / highest bidder / receiver / resource / state indexes
+ *   - reindex moves a contract after bids, award, courier assignment, completion
+ *   - rebuild from a saved contract list
+ *   - deadline queue: only expired contracts are polled, once per expiry, and
+ *     extending the expiry re-queues them; completed contracts are never polled
+ *
+ * Pure contract objects only; no ServerLevel or Town is needed.
+ */
+class ContractIndexTest {
+
+    private static final UUID ISSUER = UUID.fromString("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+    private static final UUID BIDDER1 = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    private static final UUID BIDDER2 = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    private static final UUID COURIER = UUID.fromString("cccccccc-cccc-cccc-cccc-cccccccccccc");
+
+    private SellContract sell(String resourceId) {
+        return new SellContract(ISSUER, "Seller", 60_000L, resourceId, 10, 1.0f);
+    }
+
+    @Test
+    void add_indexesByIdIssuerResourceAndOpenState() {
+        ContractIndex index = new ContractIndex();
+        SellContract sc = sell("iron");
+        index.add(sc);
+
+        assertSame(sc, index.get(sc.getId()));
+        assertTrue(index.getByIssuer(ISSUER).contains(sc));
+        assertTrue(index.getByResource("iron").contains(sc));
+        assertTrue(index.getByState(ContractIndex.State.OPEN).contains(sc));
+        assertTrue(index.getByHighestBidder(BIDDER1).isEmpty());
+        assertTrue(index.getByReceiver(BIDDER1).isEmpty());
+    }
+
+    @Test
+    void reindex_afterBids_movesHighestBidder() {
+        ContractIndex index = new ContractIndex();
+        SellContract sc = sell("iron");
+        index.add(sc);
+
+        sc.addBid(BIDDER1, "One", 10f);
+        index.reindex(sc);
+        assertTrue(index.getByHighestBidder(BIDDER1).contains(sc));
+
+        sc.addBid(BIDDER2, "Two", 20f);
+        index.reindex(sc);
+        assertTrue(index.getByHighestBidder(BIDDER1).isEmpty());
+        assertTrue(index.getByHighestBidder(BIDDER2).contains(sc));
+    }
+
+    @Test
+    void reindex_followsLifecycleStates() {
+        ContractIndex index = new ContractIndex();
+        SellContract sc = sell("iron");
+        index.add(sc);
+
+        sc.setWinningTown(BIDDER1, "One");
+        index.reindex(sc);
+        assertEquals(ContractIndex.State.AWARDED, ContractIndex.stateOf(sc));
+        assertTrue(index.getByState(ContractIndex.State.OPEN).isEmpty());
+        assertTrue(index.getByState(ContractIndex.State.AWARDED).contains(sc));
+        assertTrue(index.getByReceiver(BIDDER1).contains(sc));
+
+        sc.setCourierId(SellContract.SNAIL_MAIL_UUID);
+        index.reindex(sc);
+        assertTrue(index.getByState(ContractIndex.State.IN_TRANSIT).contains(sc));
+
+        sc.complete();
+        index.reindex(sc);
+        assertTrue(index.getByState(ContractIndex.State.IN_TRANSIT).isEmpty());
+        assertTrue(index.getByState(ContractIndex.State.COMPLETED).contains(sc));
+    }
+
+    @Test
+    void courierContract_indexedByDestinationAndAcceptance() {
+        ContractIndex index = new ContractIndex();
+        CourierContract cc = new CourierContract(ISSUER, "Seller", null, 50, 60_000L, "wood", 5,
+                BIDDER2, "Two", 3f);
+        index.add(cc);
+
+        assertTrue(index.getByReceiver(BIDDER2).contains(cc));
+        assertTrue(index.getByState(ContractIndex.State.AWARDED).contains(cc));
+
+        cc.setCourierId(COURIER);
+        index.reindex(cc);
+        assertTrue(index.getByState(ContractIndex.State.IN_TRANSIT).contains(cc));
+    }
+
+    @Test
+    void remove_dropsFromEveryIndex() {
+        ContractIndex index = new ContractIndex();
+        SellContract sc = sell("iron");
+        sc.addBid(BIDDER1, "One", 10f);
+        index.add(sc);
+
+        assertSame(sc, index.remove(sc.getId()));
+        assertNull(index.get(sc.getId()));
+        assertTrue(index.getByIssuer(ISSUER).isEmpty());
+        assertTrue(index.getByHighestBidder(BIDDER1).isEmpty());
+        assertTrue(index.getByResource("iron").isEmpty());
+        assertTrue(index.getByState(ContractIndex.State.OPEN).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void reindex_unknownContract_ignored() {
+        ContractIndex index = new ContractIndex();
+        SellContract sc = sell("iron");
+        index.reindex(sc);
+        assertNull(index.get(sc.getId()));
+        assertTrue(index.getByIssuer(ISSUER).isEmpty());
+    }
+
+    @Test
+    void rebuild_replacesPreviousContents() {
+        ContractIndex index = new ContractIndex();
+        SellContract old = sell("iron");
+        index.add(old);
+
+        SellContract a = sell("wood");
+        SellContract b = sell("stone");
+        index.rebuild(List.of(a, b));
+
+        assertNull(index.get(old.getId()));
+        assertEquals(2, index.size());
+        assertEquals(2, index.getByIssuer(ISSUER).size());
+        assertTrue(index.getByResource("stone").contains(b));
+    }
+
+    @Test
+    void pollExpired_returnsOnlyPastDeadlinesInOrder() {
+        ContractIndex index = new ContractIndex();
+        SellContract later = sell("iron");
+        later.extendExpiry(-1_000L);
+        SellContract earlier = sell("wood");
+        earlier.extendExpiry(-5_000L);
+        SellContract future = sell("stone");
+        index.add(later);
+        index.add(earlier);
+        index.add(future);
+        long now = System.currentTimeMillis();
+
+        assertTrue(index.nextDeadline() < now);
+        assertEquals(List.of(earlier, later), index.pollExpired(now));
+        assertEquals(future.getExpiryTime(), index.nextDeadline());
+
+        // Handed out once per deadline
+        assertTrue(index.pollExpired(now).isEmpty());
+    }
+
+    @Test
+    void pollExpired_bidWithoutExpiryChange_notQueuedTwice() {
+        ContractIndex index = new ContractIndex();
+        SellContract sc = sell("iron");
+        sc.extendExpiry(-1_000L);
+        index.add(sc);
+
+        sc.addBid(BIDDER1, "One", 10f);
+        index.reindex(sc);
+
+        assertEquals(List.of(sc), index.pollExpired(System.currentTimeMillis()));
+        assertTrue(index.pollExpired(System.currentTimeMillis()).isEmpty());
+    }
+
+    @Test
+    void pollExpired_extendedExpiry_requeuesAndDropsStaleDeadline() {
+        ContractIndex index = new ContractIndex();
+        SellContract sc = sell("iron");
+        sc.extendExpiry(-1_000L);
+        index.add(sc);
+
+        // Moved into the future before the board got to it: old deadline is stale
+        sc.extendExpiry(60_000L);
+        index.reindex(sc);
+        assertTrue(index.pollExpired(System.currentTimeMillis()).isEmpty());
+        assertEquals(sc.getExpiryTime(), index.nextDeadline());
+
+        // Moved back into the past: polled again
+        sc.expireNow();
+        index.reindex(sc);
+        assertEquals(List.of(sc), index.pollExpired(System.currentTimeMillis()));
+    }
+
+    @Test
+    void pollExpired_completedOrRemoved_skipped() {
+        ContractIndex index = new ContractIndex();
+        SellContract completed = sell("iron");
+        SellContract removed = sell("wood");
+        completed.extendExpiry(-1_000L);
+        removed.extendExpiry(-1_000L);
+        index.add(completed);
+        index.add(removed);
+
+        completed.complete();
+        index.reindex(completed);
+        index.remove(removed.getId());
+
+        assertTrue(index.pollExpired(System.currentTimeMillis()).isEmpty());
+        assertEquals(Long.MAX_VALUE, index.nextDeadline());
+    }
+}
@@ -0,0 +1,77 @@
+package com.quackers29.businesscraft.contract;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Covers ContractJournal, the per-tick change log behind ContractDeltaPacket:
+ *   - flush produces one batch per tick and advances the version by one
+ *   - repeated changes to a contract coalesce into one entry
+ *   - add + remove within a tick cancels out; update + remove is a removal
+ *   - nothing pending -> no batch, version unchanged
+ */
+class ContractJournalTest {
+
+    private static final UUID A = UUID.fromString("aaaaaaaa-0000-0000-0000-000000000001");
+    private static final UUID B = UUID.fromString("bbbbbbbb-0000-0000-0000-000000000002");
+    private static final UUID C = UUID.fromString("cccccccc-0000-0000-0000-000000000003");
+
+    @Test
+    void flush_nothingPending_returnsNull() {
+        ContractJournal journal = new ContractJournal();
+        assertFalse(journal.hasPending());
+        assertNull(journal.flush());
+        assertEquals(0, journal.getVersion());
+    }
+
+    @Test
+    void flush_advancesVersionOncePerBatch() {
+        ContractJournal journal = new ContractJournal();
+        journal.recordUpdated(A);
+        journal.recordUpdated(B);
+
+        ContractJournal.Batch first = journal.flush();
+        assertEquals(0, first.baseVersion());
+        assertEquals(1, first.version());
+        assertEquals(List.of(A, B), first.updated());
+        assertFalse(journal.hasPending());
+
+        journal.recordUpdated(A);
+        ContractJournal.Batch second = journal.flush();
+        assertEquals(1, second.baseVersion());
+        assertEquals(2, second.version());
+    }
+
+    @Test
+    void repeatedChanges_coalescePerContract() {
+        ContractJournal journal = new ContractJournal();
+        journal.recordAdded(A);
+        journal.recordUpdated(A); // bid on the new contract
+        journal.recordUpdated(B);
+        journal.recordUpdated(B);
+
+        ContractJournal.Batch batch = journal.flush();
+        assertEquals(List.of(A), batch.added());
+        assertEquals(List.of(B), batch.updated());
+        assertTrue(batch.removed().isEmpty());
+    }
+
+    @Test
+    void addThenRemove_cancelsOut_updateThenRemove_isRemoval() {
+        ContractJournal journal = new ContractJournal();
+        journal.recordAdded(A);
+        journal.recordRemoved(A);
+        journal.recordUpdated(B);
+        journal.recordRemoved(B);
+        journal.recordRemoved(C);
+
+        ContractJournal.Batch batch = journal.flush();
+        assertTrue(batch.added().isEmpty());
+        assertTrue(batch.updated().isEmpty());
+        assertEquals(List.of(B, C), batch.removed());
+    }
+}
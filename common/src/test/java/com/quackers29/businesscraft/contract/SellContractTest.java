@@ -23,6 +23,8 @@ import static org.junit.jupiter.api.Assertions.*;
  * - Delivery accumulation (addDeliveredAmount crosses threshold)
  * - Full serialization round-trips (Sell-specific fields + base Contract fields + bids)
  *   exercising the exact save/loadAdditional paths used by ContractSavedData and packets.
+ * - State-only round-trip (saveState/loadState) used by contract deltas: lifecycle fields
+ *   move to a client copy while immutable fields stay untouched.
  *
  * All tests are pure logic. No Town, ServerLevel, ContractBoard orchestration,
  * escrow, market, or registry access. CompoundTag is used (allowed per protocol).
@@ -416,4 +418,36 @@ class SellContractTest {
         assertEquals(10_000_000L, loaded.getQuantity());
         assertEquals(1_000_000f, loaded.getPricePerUnit());
     }
+
+    @Test
+    void stateRoundTrip_appliesLifecycleFieldsToClientCopy() {
+        SellContract server = new SellContract(ISSUER, "Seller", 60_000L, "iron", 64, 2.0f);
+        CompoundTag full = new CompoundTag();
+        server.save(full);
+        SellContract client = new SellContract(full);
+
+        server.addBid(BIDDER, "Bidder", 150f);
+        server.setWinningTown(WINNER, "Winner");
+        server.setAcceptedBid(150f);
+        server.setCourierId(COURIER);
+        server.addDeliveredAmount(10);
+        server.complete();
+
+        CompoundTag state = new CompoundTag();
+        server.saveState(state);
+        assertFalse(state.contains("resourceId")); // immutable fields are not resent
+        client.loadState(state);
+
+        assertEquals(150f, client.getHighestBid());
+        assertEquals("Bidder", client.getBidderName(BIDDER));
+        assertEquals(WINNER, client.getWinningTownId());
+        assertEquals("Winner", client.getWinningTownName());
+        assertEquals(150f, client.getAcceptedBid());
+        assertEquals(COURIER, client.getCourierId());
+        assertEquals(10L, client.getDeliveredAmount());
+        assertTrue(client.isCompleted());
+        assertEquals(server.getExpiryTime(), client.getExpiryTime());
+        assertEquals("iron", client.getResourceId());
+        assertEquals(64L, client.getQuantity());
+    }
 }
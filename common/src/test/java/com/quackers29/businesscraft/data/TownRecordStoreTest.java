@@ -0,0 +1,93 @@
+package com.quackers29.businesscraft.data;
+
+import net.minecraft.nbt.CompoundTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Covers TownRecordStore, the per-town file storage behind TownSavedData's per-town mode:
+ *   - write creates the directory and read returns the same tag
+ *   - rewriting replaces the record and leaves no temporary file behind
+ *   - missing records read as null; delete removes the file
+ *   - a write queued after a delete wins, and a pending delete hides the old file
+ *
+ * Writes and deletes run on SavedDataWriter's background thread, so each check
+ * flushes it first.
+ */
+class TownRecordStoreTest {
+
+    private static final UUID TOWN_A = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+
+    @TempDir
+    Path tempDir;
+
+    private static CompoundTag townTag(String name) {
+        CompoundTag tag = new CompoundTag();
+        tag.putString("name", name);
+        tag.putLong("population", 7);
+        return tag;
+    }
+
+    @Test
+    void write_thenRead_roundTrips() throws Exception {
+        TownRecordStore store = new TownRecordStore(tempDir.resolve("records"));
+        store.write(TOWN_A, townTag("Alpha"), null);
+        SavedDataWriter.flush();
+
+        assertEquals(townTag("Alpha"), store.read(TOWN_A));
+    }
+
+    @Test
+    void write_twice_replacesRecordWithoutLeftovers() throws Exception {
+        TownRecordStore store = new TownRecordStore(tempDir);
+        store.write(TOWN_A, townTag("Alpha"), null);
+        store.write(TOWN_A, townTag("Beta"), null);
+        SavedDataWriter.flush();
+
+        assertEquals("Beta", store.read(TOWN_A).getString("name"));
+        try (var files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void read_missing_isNull_andDeleteRemovesRecord() throws Exception {
+        TownRecordStore store = new TownRecordStore(tempDir);
+        assertNull(store.read(TOWN_A));
+
+        store.write(TOWN_A, townTag("Alpha"), null);
+        store.delete(TOWN_A);
+        SavedDataWriter.flush();
+        assertNull(store.read(TOWN_A));
+    }
+
+    @Test
+    void writeDeleteWrite_keepsLastWrite() throws Exception {
+        TownRecordStore store = new TownRecordStore(tempDir);
+        store.write(TOWN_A, townTag("Alpha"), null);
+        store.delete(TOWN_A);
+        store.write(TOWN_A, townTag("Beta"), null);
+        SavedDataWriter.flush();
+
+        assertEquals("Beta", store.read(TOWN_A).getString("name"));
+        assertTrue(Files.exists(tempDir.resolve(TOWN_A + ".dat")));
+    }
+
+    @Test
+    void read_afterDeleteQueued_isNull() throws Exception {
+        TownRecordStore store = new TownRecordStore(tempDir);
+        store.write(TOWN_A, townTag("Alpha"), null);
+        SavedDataWriter.flush();
+
+        store.delete(TOWN_A);
+        assertNull(store.read(TOWN_A));
+        SavedDataWriter.flush();
+        assertNull(store.read(TOWN_A));
+    }
+}
@@ -0,0 +1,128 @@
+package com.quackers29.businesscraft.production;
+
+import com.quackers29.businesscraft.data.parsers.DataParser.ResourceAmount;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Covers ProductionPlan compilation of recipe amount expressions:
+ *   - legacy "pop*id" / "id*pop" ids are rewritten to id + "*pop" expression
+ *   - special ids map to POP / WU / TOURIST targets
+ *   - evaluation matches the left-to-right string evaluation bit-for-bit
+ *   - unknown variables resolve through getModifier (0 when absent)
+ *   - null/empty expressions evaluate to 0
+ *
+ * Resource ids are unregistered so no item lookup (and no McBootstrap) is needed.
+ */
+class ProductionPlanTest {
+
+    /** Fixed town values for evaluation. */
+    private static class FixedContext implements ProductionPlan.Context {
+        long population = 7;
+        float happiness = 0.3f;
+        long workUnits = 11;
+        final Map<String, Float> modifiers = new HashMap<>();
+
+        @Override
+        public long getPopulation() {
+            return population;
+        }
+
+        @Override
+        public float getHappiness() {
+            return happiness;
+        }
+
+        @Override
+        public long getWorkUnits() {
+            return workUnits;
+        }
+
+        @Override
+        public float getModifier(int slot) {
+            return modifiers.getOrDefault(ModifierSlots.nameOf(slot), 0f);
+        }
+    }
+
+    @Test
+    void compile_popPrefixAndSuffix_rewrittenIntoExpression() {
+        FixedContext ctx = new FixedContext();
+
+        ProductionPlan.Term prefix = ProductionPlan.Term.compile("pop*plan_test_grain", "2");
+        assertEquals("plan_test_grain", prefix.getResourceId());
+        assertEquals("2*pop", prefix.getExpression());
+        assertEquals(14f, prefix.evaluate(ctx));
+        assertTrue(prefix.isDynamic());
+
+        ProductionPlan.Term suffix = ProductionPlan.Term.compile("plan_test_grain*pop", "3");
+        assertEquals("plan_test_grain", suffix.getResourceId());
+        assertEquals(21f, suffix.evaluate(ctx));
+    }
+
+    @Test
+    void compile_specialIds_mapToTargets() {
+        assertEquals(ProductionPlan.Target.POP, ProductionPlan.Term.compile("pop", "1").getTarget());
+        assertEquals(ProductionPlan.Target.WU, ProductionPlan.Term.compile("wu", "1").getTarget());
+        assertEquals(ProductionPlan.Target.TOURIST, ProductionPlan.Term.compile("tourist", "1").getTarget());
+        ProductionPlan.Term stat = ProductionPlan.Term.compile("plan_test_stat", "1");
+        assertEquals(ProductionPlan.Target.RESOURCE, stat.getTarget());
+        assertNull(stat.getType());
+        assertNull(stat.getItem());
+        assertFalse(stat.isDynamic());
+    }
+
+    @Test
+    void evaluate_matchesLeftToRightFloatProduct() {
+        FixedContext ctx = new FixedContext();
+        ctx.modifiers.put("storage_cap_all", 1.7f);
+
+        ProductionPlan.Term term = ProductionPlan.Term.compile("plan_test_res",
+                "0.1*3 * HAPPINESS*0.7*wu*storage_cap_all*pop");
+
+        // Same operation order as the original per-tick string evaluation
+        float expected = 1.0f;
+        expected *= 0.1f;
+        expected *= 3f;
+        expected *= ctx.happiness;
+        expected *= 0.7f;
+        expected *= ctx.workUnits;
+        expected *= 1.7f;
+        expected *= ctx.population;
+
+        assertEquals(Float.floatToIntBits(expected), Float.floatToIntBits(term.evaluate(ctx)));
+
+        // Reflects live town values on each evaluation
+        ctx.population = 8;
+        expected = expected / 7 * 8;
+        assertEquals(expected, term.evaluate(ctx), 1e-4f);
+    }
+
+    @Test
+    void evaluate_unknownModifierOrEmptyExpression_isZero() {
+        FixedContext ctx = new FixedContext();
+        assertEquals(0f, ProductionPlan.Term.compile("plan_test_res", "5*no_such_modifier").evaluate(ctx));
+        assertEquals(0f, ProductionPlan.Term.compile("plan_test_res", "").evaluate(ctx));
+        assertEquals(0f, ProductionPlan.Term.compile("plan_test_res", null).evaluate(ctx));
+    }
+
+    @Test
+    void getPlan_cachedUntilRecompiled() {
+        ProductionRecipe recipe = new ProductionRecipe("plan_test", "Plan Test", 1.0f,
+                List.of(new ResourceAmount("plan_test_in", "2")),
+                List.of(new ResourceAmount("pop*plan_test_out", "1")),
+                Collections.emptyList());
+
+        ProductionPlan plan = recipe.getPlan();
+        assertSame(plan, recipe.getPlan());
+        assertSame(recipe, plan.getRecipe());
+        assertEquals(1, plan.getInputs().size());
+        assertEquals("plan_test_out", plan.getOutputs().get(0).getResourceId());
+        assertTrue(plan.isCurrent());
+    }
+}
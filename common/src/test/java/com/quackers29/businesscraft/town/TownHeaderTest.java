@@ -0,0 +1,75 @@
+package com.quackers29.businesscraft.town;
+
+import com.quackers29.businesscraft.testutil.McBootstrap;
+import net.minecraft.core.BlockPos;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Covers TownHeader, the always-resident town summary used by lazy town loading:
+ *   - of() copies the town's summary fields and state version
+ *   - of() carries the tourist spawning flag and visitor count, and a visit refreshes it
+ *   - save/load round-trips everything but the state version (-1 once loaded)
+ *   - contains() is inclusive at the boundary radius
+ */
+class TownHeaderTest {
+
+    @BeforeAll
+    static void boot() {
+        McBootstrap.init();
+    }
+
+    @Test
+    void of_copiesTownSummary() {
+        Town town = new Town(UUID.randomUUID(), new BlockPos(10, 64, -20), "Headerton");
+        town.setPopulation(12);
+
+        TownHeader header = TownHeader.of(town);
+
+        assertEquals(town.getId(), header.id());
+        assertEquals("Headerton", header.name());
+        assertEquals(new BlockPos(10, 64, -20), header.position());
+        assertEquals(town.getBoundaryRadius(), header.boundaryRadius());
+        assertEquals(12, header.population());
+        assertEquals(town.getStateVersion(), header.stateVersion());
+    }
+
+    @Test
+    void of_copiesTouristFlagAndVisitors() {
+        Town town = new Town(UUID.randomUUID(), BlockPos.ZERO, "Visitville");
+        town.setTouristSpawningEnabled(false);
+        long before = town.getStateVersion();
+        town.addVisitor(UUID.randomUUID());
+
+        TownHeader header = TownHeader.of(town);
+
+        assertFalse(header.touristSpawningEnabled());
+        assertEquals(1, header.totalVisitors());
+        assertTrue(header.stateVersion() > before, "a visit must move the state version so headers refresh");
+    }
+
+    @Test
+    void saveThenLoad_roundTripsFields() {
+        TownHeader header = new TownHeader(UUID.randomUUID(), "Savetown", new BlockPos(1, 2, 3),
+                40, 25, 300, 75.5f, 4, 99, false, 12, 7);
+
+        TownHeader loaded = TownHeader.load(header.save());
+
+        assertEquals(new TownHeader(header.id(), "Savetown", new BlockPos(1, 2, 3),
+                40, 25, 300, 75.5f, 4, 99, false, 12, -1), loaded);
+    }
+
+    @Test
+    void contains_isInclusiveAtRadius() {
+        TownHeader header = new TownHeader(UUID.randomUUID(), "Edge", BlockPos.ZERO,
+                10, 0, 0, 0f, 0, 0, true, 0, 0);
+
+        assertTrue(header.contains(new BlockPos(10, 0, 0)));
+        assertTrue(header.contains(new BlockPos(6, 0, 8)));
+        assertFalse(header.contains(new BlockPos(11, 0, 0)));
+    }
+}
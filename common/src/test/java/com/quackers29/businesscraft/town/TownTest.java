@@ -4,6 +4,7 @@ import com.quackers29.businesscraft.api.ITownDataProvider;
 import com.quackers29.businesscraft.config.ConfigLoader;
 import com.quackers29.businesscraft.testutil.McBootstrap;
 import com.quackers29.businesscraft.town.components.TownUpgradeComponent;
+import com.quackers29.businesscraft.town.data.ClientSyncSections;
 import net.minecraft.core.BlockPos;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -268,6 +269,23 @@ class TownTest {
         return v == null ? 0f : v;
     }
 
+    // --- markDirty (coalesced until TownSavedData folds it in) ---
+
+    @Test
+    void markDirty_repeated_setsPendingFlagAndBumpsVersionEachTime() {
+        long before = town.getStateVersion();
+        assertFalse(town.isDirtyPending());
+
+        town.markDirty();
+        town.markDirty();
+
+        assertTrue(town.isDirtyPending());
+        assertEquals(before + 2, town.getStateVersion());
+
+        town.clearDirtyPending();
+        assertFalse(town.isDirtyPending());
+    }
+
     // --- getBoundaryRadius (fallback 50 + explicit modifier) ---
 
     @Test
@@ -298,6 +316,39 @@ class TownTest {
         assertEquals(50, town.getBoundaryRadius());
     }
 
+    @Test
+    void getBoundaryRadius_cachedUntilBorderModifierChanges() {
+        long before = town.getStateVersion();
+        town.getUpgrades().addFlatModifier("border", 80f);
+        // 80 -> 80*80 = 6400
+        assertEquals(80, town.getBoundaryRadius());
+        assertEquals(6400L, town.getBoundaryRadiusSq());
+        assertTrue(town.getStateVersion() > before);
+
+        // Unrelated modifier leaves the cached radius alone
+        town.getUpgrades().addFlatModifier("happiness", 5f);
+        assertEquals(80, town.getBoundaryRadius());
+
+        town.getUpgrades().accumulateFlatModifier("border", 20f);
+        assertEquals(100, town.getBoundaryRadius());
+        assertTrue(town.isPositionInside(TOWN_POS.offset(100, 0, 0)));
+        assertFalse(town.isPositionInside(TOWN_POS.offset(101, 0, 0)));
+    }
+
+    @Test
+    void upgradesLoad_refreshesCachedBoundaryRadius() {
+        town.getUpgrades().addFlatModifier("border", 75f);
+        net.minecraft.nbt.CompoundTag tag = new net.minecraft.nbt.CompoundTag();
+        town.getUpgrades().save(tag);
+
+        // Same path Town.load takes: fresh town, then the upgrades tag
+        Town loaded = new Town(UUID.randomUUID(), TOWN_POS, "Loaded");
+        assertEquals(50, loaded.getBoundaryRadius());
+        loaded.getUpgrades().load(tag);
+        assertEquals(75, loaded.getBoundaryRadius());
+        assertEquals(5625L, loaded.getBoundaryRadiusSq());
+    }
+
     // --- isPositionInside ---
 
     @Test
@@ -534,4 +585,31 @@ class TownTest {
         assertThrows(UnsupportedOperationException.class, () -> hist.remove(0));
         assertThrows(UnsupportedOperationException.class, hist::clear);
     }
+
+    // --- client data change counters ---
+
+    @Test
+    void clientDataVersion_movesOnlyForTheSectionThatChanged() {
+        long info = town.getClientDataVersion(ClientSyncSections.Section.INFO);
+        long resources = town.getClientDataVersion(ClientSyncSections.Section.RESOURCES);
+        long history = town.getClientDataVersion(ClientSyncSections.Section.HISTORY);
+
+        town.addResource(net.minecraft.world.item.Items.COAL, 3);
+        assertNotEquals(resources, town.getClientDataVersion(ClientSyncSections.Section.RESOURCES));
+        assertEquals(info, town.getClientDataVersion(ClientSyncSections.Section.INFO));
+
+        town.setName("Renamed");
+        assertNotEquals(info, town.getClientDataVersion(ClientSyncSections.Section.INFO));
+
+        town.recordVisit(ORIGIN_U, 1, ORIGIN_POS_A);
+        assertNotEquals(history, town.getClientDataVersion(ClientSyncSections.Section.HISTORY));
+    }
+
+    @Test
+    void clientDataVersion_communalStorageChangeMovesResources() {
+        long resources = town.getClientDataVersion(ClientSyncSections.Section.RESOURCES);
+
+        assertTrue(town.addToCommunalStorage(net.minecraft.world.item.Items.BREAD, 4));
+        assertNotEquals(resources, town.getClientDataVersion(ClientSyncSections.Section.RESOURCES));
+    }
 }
@@ -0,0 +1,239 @@
+package com.quackers29.businesscraft.town;
+
+import com.quackers29.businesscraft.config.ConfigLoader;
+import com.quackers29.businesscraft.testutil.McBootstrap;
+import net.minecraft.core.BlockPos;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Covers TownTickScheduler bucketing and catch-up:
+ *   - each server tick ticks ceil(towns / buckets) towns, round-robin
+ *   - a skipped town receives all missed ticks in one Town.tick(elapsed) call
+ *   - once flushed, elapsed ticks per town sum to the number of server ticks
+ *   - removed towns are dropped, new towns join as "up to date as of last tick"
+ *   - flush() settles every outstanding tick
+ *   - a suspended (unloaded) town catches up on the ticks it missed once it is back
+ *   - a town owed more than MAX_CATCH_UP_TICKS catches up over several turns
+ *
+ * Towns are a recording subclass so only the scheduler is under test.
+ */
+class TownTickSchedulerTest {
+
+    private int savedBuckets;
+    private double savedBudget;
+
+    private Map<UUID, Town> towns;
+    private TownTickScheduler scheduler;
+
+    /** Town that records the elapsed ticks it is handed instead of simulating. */
+    private static class RecordingTown extends Town {
+        final List<Integer> calls = new ArrayList<>();
+
+        RecordingTown(UUID id) {
+            super(id, BlockPos.ZERO, "Rec-" + id);
+        }
+
+        @Override
+        public void tick(int elapsedTicks) {
+            calls.add(elapsedTicks);
+        }
+
+        int total() {
+            return calls.stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+
+    @BeforeAll
+    static void boot() {
+        McBootstrap.init();
+    }
+
+    @BeforeEach
+    void setUp() {
+        savedBuckets = ConfigLoader.townTickBuckets;
+        savedBudget = ConfigLoader.townTickBudgetMs;
+        ConfigLoader.townTickBudgetMs = 0; // unlimited - keeps timing out of the assertions
+
+        towns = new LinkedHashMap<>();
+        scheduler = new TownTickScheduler();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ConfigLoader.townTickBuckets = savedBuckets;
+        ConfigLoader.townTickBudgetMs = savedBudget;
+    }
+
+    private RecordingTown addTown(int n) {
+        UUID id = new UUID(0L, n);
+        RecordingTown town = new RecordingTown(id);
+        towns.put(id, town);
+        return town;
+    }
+
+    @Test
+    void tick_singleBucket_ticksEveryTownEveryTick() {
+        ConfigLoader.townTickBuckets = 1;
+        RecordingTown a = addTown(1);
+        RecordingTown b = addTown(2);
+
+        for (int i = 0; i < 5; i++) {
+            scheduler.tick(towns);
+        }
+
+        assertEquals(List.of(1, 1, 1, 1, 1), a.calls);
+        assertEquals(List.of(1, 1, 1, 1, 1), b.calls);
+    }
+
+    @Test
+    void tick_fourBuckets_spreadsTownsAndCatchesUp() {
+        ConfigLoader.townTickBuckets = 4;
+        List<RecordingTown> all = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            all.add(addTown(i));
+        }
+
+        // 8 towns / 4 buckets = 2 towns per server tick
+        scheduler.tick(towns);
+        assertEquals(2, scheduler.getLastTownsTicked());
+
+        for (int i = 1; i < 12; i++) {
+            scheduler.tick(towns);
+        }
+
+        // Towns 6/7 were due last in the first rotation (waited 4 ticks), every later pass is 4 ticks
+        assertEquals(List.of(4, 4, 4), all.get(7).calls);
+        assertEquals(List.of(1, 4, 4), all.get(0).calls);
+
+        // Once settled, every town has been handed exactly the 12 server ticks that passed
+        scheduler.flush(towns);
+        for (RecordingTown town : all) {
+            assertEquals(12, town.total(), "town " + town.getId());
+        }
+        assertEquals(List.of(1, 4, 4, 3), all.get(0).calls);
+    }
+
+    @Test
+    void tick_removedTown_isDroppedAndNotTicked() {
+        ConfigLoader.townTickBuckets = 1;
+        RecordingTown a = addTown(1);
+        RecordingTown b = addTown(2);
+        scheduler.tick(towns);
+
+        towns.remove(b.getId());
+        scheduler.tick(towns);
+
+        assertEquals(List.of(1, 1), a.calls);
+        assertEquals(List.of(1), b.calls);
+        assertEquals(1, scheduler.getTrackedTownCount());
+    }
+
+    @Test
+    void tick_newTown_startsFromRegistrationTick() {
+        ConfigLoader.townTickBuckets = 1;
+        addTown(1);
+        scheduler.tick(towns);
+        scheduler.tick(towns);
+
+        RecordingTown late = addTown(2);
+        scheduler.tick(towns);
+
+        // Joined on the third tick - only that tick is owed, not the two before it
+        assertEquals(List.of(1), late.calls);
+    }
+
+    @Test
+    void suspend_thenReloaded_catchesUpMissedTicks() {
+        ConfigLoader.townTickBuckets = 1;
+        RecordingTown a = addTown(1);
+        scheduler.tick(towns);
+
+        scheduler.suspend(a.getId());
+        towns.remove(a.getId());
+        scheduler.tick(towns);
+        scheduler.tick(towns);
+        assertEquals(List.of(1), a.calls);
+        assertEquals(0, scheduler.getTrackedTownCount());
+
+        // Loaded again as a new instance - the two ticks spent unloaded are still owed
+        RecordingTown reloaded = new RecordingTown(a.getId());
+        towns.put(a.getId(), reloaded);
+        scheduler.tick(towns);
+        assertEquals(List.of(3), reloaded.calls);
+    }
+
+    @Test
+    void forget_suspendedTown_rejoinsAsNew() {
+        ConfigLoader.townTickBuckets = 1;
+        RecordingTown a = addTown(1);
+        scheduler.tick(towns);
+        scheduler.suspend(a.getId());
+        towns.remove(a.getId());
+        scheduler.tick(towns);
+
+        scheduler.forget(a.getId());
+        RecordingTown again = new RecordingTown(a.getId());
+        towns.put(a.getId(), again);
+        scheduler.tick(towns);
+        assertEquals(List.of(1), again.calls);
+    }
+
+    @Test
+    void flush_settlesOutstandingTicks() {
+        ConfigLoader.townTickBuckets = 4;
+        List<RecordingTown> all = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            all.add(addTown(i));
+        }
+
+        scheduler.tick(towns);
+        scheduler.tick(towns);
+        scheduler.flush(towns);
+
+        for (RecordingTown town : all) {
+            assertEquals(2, town.total(), "town " + town.getId());
+        }
+
+        // Nothing owed after a flush
+        scheduler.flush(towns);
+        for (RecordingTown town : all) {
+            assertEquals(2, town.total(), "town " + town.getId());
+        }
+    }
+
+    @Test
+    void suspend_longAbsence_catchesUpInCappedSteps() {
+        ConfigLoader.townTickBuckets = 1;
+        RecordingTown a = addTown(1);
+        scheduler.tick(towns);
+        scheduler.suspend(a.getId());
+        towns.remove(a.getId());
+        int missed = TownTickScheduler.MAX_CATCH_UP_TICKS * 2 + 10;
+        for (int i = 0; i < missed; i++) {
+            scheduler.tick(towns);
+        }
+
+        RecordingTown reloaded = new RecordingTown(a.getId());
+        towns.put(a.getId(), reloaded);
+        scheduler.tick(towns);
+        scheduler.tick(towns);
+        scheduler.tick(towns);
+        int cap = TownTickScheduler.MAX_CATCH_UP_TICKS;
+        assertEquals(List.of(cap, cap, 13), reloaded.calls);
+
+        // Caught up: one tick per turn again
+        scheduler.tick(towns);
+        assertEquals(1, reloaded.calls.get(3));
+    }
+}
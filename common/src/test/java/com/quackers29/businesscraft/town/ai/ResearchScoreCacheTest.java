@@ -0,0 +1,96 @@
+package com.quackers29.businesscraft.town.ai;
+
+import com.quackers29.businesscraft.data.parsers.Effect;
+import com.quackers29.businesscraft.production.UpgradeNode;
+import com.quackers29.businesscraft.production.UpgradeRegistry;
+import com.quackers29.businesscraft.testutil.McBootstrap;
+import com.quackers29.businesscraft.town.Town;
+import net.minecraft.core.BlockPos;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Covers the per-town research score memo used by TownResearchAI.calculatePriorities:
+ *   - first evaluation computes every available node
+ *   - a new tick window re-validates recorded inputs and reuses unchanged scores
+ *   - an input moving past the tolerance recomputes only that score
+ *   - drift within the tolerance keeps the memoized score
+ *
+ * UpgradeRegistry NODES is swapped via reflection (pattern from TownUpgradeComponentTest).
+ */
+class ResearchScoreCacheTest {
+
+    private Map<String, UpgradeNode> savedNodes;
+    private Town town;
+    private ResearchScoreCache cache;
+
+    @BeforeAll
+    static void boot() {
+        McBootstrap.init();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, UpgradeNode> nodes() throws Exception {
+        Field f = UpgradeRegistry.class.getDeclaredField("NODES");
+        f.setAccessible(true);
+        return (Map<String, UpgradeNode>) f.get(null);
+    }
+
+    private static UpgradeNode node(String id, String target, float value) {
+        return new UpgradeNode(id, "test", id, "", new ArrayList<>(), "desc",
+                List.of(new Effect(target, value, false)));
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        savedNodes = new HashMap<>(nodes());
+        nodes().clear();
+        nodes().put("ai_housing", node("ai_housing", "pop_cap", 5f));
+        nodes().put("ai_tourism", node("ai_tourism", "tourist_cap", 1f));
+
+        town = new Town(UUID.fromString("55555555-5555-5555-5555-555555555555"), new BlockPos(0, 64, 0), "AiTown");
+        town.getUpgrades().addFlatModifier("pop_cap", 1000f);
+        town.setPopulation(500);
+        cache = town.getUpgrades().getResearchScoreCache();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        nodes().clear();
+        nodes().putAll(savedNodes);
+    }
+
+    @Test
+    void calculatePriorities_reusesScoresUntilInputsMove() {
+        Map<String, Float> first = TownResearchAI.calculatePriorities(town);
+        assertEquals(25f, first.get("ai_housing"), 0.0001f); // 100 * (500/1000)^2
+        assertEquals(2, cache.getLastRecomputed());
+
+        cache.advanceWindow();
+        assertEquals(first, TownResearchAI.calculatePriorities(town));
+        assertEquals(0, cache.getLastRecomputed());
+
+        town.setPopulation(800);
+        cache.advanceWindow();
+        assertEquals(64f, TownResearchAI.calculatePriorities(town).get("ai_housing"), 0.0001f);
+        assertEquals(1, cache.getLastRecomputed()); // tourist score did not read population
+    }
+
+    @Test
+    void calculatePriorities_driftWithinTolerance_keepsMemoizedScore() {
+        town.setPopulation(800);
+        TownResearchAI.calculatePriorities(town);
+
+        town.setPopulation(801); // 0.125% change, under the 1% tolerance
+        cache.advanceWindow();
+        assertEquals(64f, TownResearchAI.calculatePriorities(town).get("ai_housing"), 0.0001f);
+        assertEquals(0, cache.getLastRecomputed());
+    }
+}
@@ -28,6 +28,7 @@ import static org.junit.jupiter.api.Assertions.*;
  *   - getActiveRecipes (progress / effective)
  *   - checkConditions (min/excess/percent/pop_cap/surplus/ops/epsilon)
  *   - stall on output cap and the population_maintenance starvation special path
+ *   - analytic production mode matches tick mode (outputs + recipeProgress), incl. mid-run changes
  *
  * Private methods tested via reflection (protocol precedent). ProductionRegistry RECIPES
  * snapshot/restore + injection for determinism (pattern from ProductionRegistryTest).
@@ -46,6 +47,7 @@ class TownProductionComponentTest {
 
     private int savedMinStock;
     private int savedExcessStock;
+    private String savedProductionMode;
 
     // Snapshot for ProductionRegistry static state (deterministic injection)
     private Map<String, ProductionRecipe> savedRecipes;
@@ -66,6 +68,7 @@ class TownProductionComponentTest {
         savedExcessStock = ConfigLoader.excessStockPercent;
         ConfigLoader.minStockPercent = 60;
         ConfigLoader.excessStockPercent = 80;
+        savedProductionMode = ConfigLoader.productionMode;
 
         // Snapshot and clear registry recipes for this test's control
         savedRecipes = snapshotRecipes();
@@ -76,6 +79,7 @@ class TownProductionComponentTest {
     void tearDown() throws Exception {
         ConfigLoader.minStockPercent = savedMinStock;
         ConfigLoader.excessStockPercent = savedExcessStock;
+        ConfigLoader.productionMode = savedProductionMode;
 
         // Restore exact prior registry contents so other tests are unaffected
         restoreRecipes(savedRecipes);
@@ -438,4 +442,38 @@ class TownProductionComponentTest {
         assertEquals("bar", gotId);
         assertEquals(28f, gotAmt, 0.0001f);
     }
+
+    // --- analytic mode ---
+
+    private void tickIn(String mode, Town t) {
+        ConfigLoader.productionMode = mode;
+        t.getProduction().tick(1);
+    }
+
+    @Test
+    void analyticMode_matchesTickMode_includingMidRunChanges() throws Exception {
+        putRecipe(recipe("analytic_wu", 0.1f, List.of(), List.of(new ResourceAmount("wu", "1")))); // 120 ticks
+        putRecipe(recipe("analytic_slow", 0.35f, List.of(), List.of(new ResourceAmount("wu", "2"))));
+        Town analytic = new Town(UUID.fromString("44444444-4444-4444-4444-444444444444"), TOWN_POS, "Analytic");
+        for (Town t : List.of(town, analytic)) {
+            t.getUpgrades().addFlatModifier("analytic_wu", 1.0f);
+            t.getUpgrades().addFlatModifier("analytic_slow", 1.0f);
+            t.getUpgrades().addFlatModifier("wu_cap", 1000f);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            if (i == 500) {
+                // Town change part-way through a cycle (speed boost re-plans analytic mode)
+                town.getUpgrades().addFlatModifier("analytic_slow", 1.0f);
+                analytic.getUpgrades().addFlatModifier("analytic_slow", 1.0f);
+            }
+            tickIn("tick", town);
+            tickIn("analytic", analytic);
+        }
+
+        assertEquals(town.getWorkUnits(), analytic.getWorkUnits());
+        assertTrue(analytic.getWorkUnits() > 0);
+        // Bit-identical progress (analytic settles pending ticks before reporting)
+        assertEquals(comp.getActiveRecipes(), analytic.getProduction().getActiveRecipes());
+    }
 }
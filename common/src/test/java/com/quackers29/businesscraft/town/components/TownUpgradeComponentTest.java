@@ -2,6 +2,7 @@ package com.quackers29.businesscraft.town.components;
 
 import com.quackers29.businesscraft.config.ConfigLoader;
 import com.quackers29.businesscraft.data.parsers.DataParser.ResourceAmount;
+import com.quackers29.businesscraft.production.ModifierSlots;
 import com.quackers29.businesscraft.production.UpgradeNode;
 import com.quackers29.businesscraft.production.UpgradeRegistry;
 import com.quackers29.businesscraft.testutil.McBootstrap;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
@@ -30,7 +32,11 @@ import static org.junit.jupiter.api.Assertions.*;
  *
  * CurrentLevel 0 (not unlocked) yields exactly base (pow ^ 0 == 1.0).
  * Also covers repeatability gates used by canAffordResearch and the
- * getUpgradeLevel default.
+ * getUpgradeLevel default. Also covers the slot-indexed modifier store: incremental
+ * per-target updates match a full recalculation, and the string-keyed activeModifiers
+ * view reads/writes the same slots. Also covers catch-up ticking: tick(elapsed) leaves
+ * research progress bit-identical to ticking one at a time, and completes on the same tick,
+ * which ticksUntilNextEvent predicts so Town.tick(elapsed) can split its span there.
  *
  * Uses McBootstrap for Town construction + TestPlatformHelper + @TempDir
  * (pattern from T-030 UpgradeRegistryTest) + reflection to inject levels
@@ -284,6 +290,129 @@ class TownUpgradeComponentTest {
         List<ResourceAmount> costs = comp.getUpgradeCost("scale_25pct");
         assertEquals(13, costs.get(0).amount); // hand-computed
     }
+
+    // --- slot-indexed modifiers ---
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Float> activeModifiers(TownUpgradeComponent c) throws Exception {
+        Field f = TownUpgradeComponent.class.getDeclaredField("activeModifiers");
+        f.setAccessible(true);
+        return (Map<String, Float>) f.get(c);
+    }
+
+    @Test
+    void modifiers_incrementalUpdates_matchFullRecalculation() throws Exception {
+        comp.addFlatModifier("pop_cap", 1.5f);
+        comp.unlockNode("scale_10pct");
+        comp.unlockNode("scale_10pct");
+        comp.unlockNode("scale_25pct");
+        comp.accumulateFlatModifier("storage_cap_all", 7f);
+
+        assertEquals(9.5f, comp.getModifier("pop_cap")); // flat 1.5 + pop_cap:4 * level 2
+        assertEquals(57f, comp.getModifier("storage_cap_all")); // flat 7 + 50
+        assertEquals(0f, comp.getModifier("happiness")); // non_repeat still locked
+        assertEquals(comp.getModifier("pop_cap"), comp.getModifier(ModifierSlots.get("pop_cap")));
+
+        // A full rebuild (as done on load) yields the same values
+        Map<String, Float> incremental = new HashMap<>(activeModifiers(comp));
+        Method recalc = TownUpgradeComponent.class.getDeclaredMethod("recalculateModifiers");
+        recalc.setAccessible(true);
+        recalc.invoke(comp);
+        assertEquals(incremental, new HashMap<>(activeModifiers(comp)));
+    }
+
+    @Test
+    void activeModifiersView_sharesSlotsWithGetModifier() throws Exception {
+        Map<String, Float> view = activeModifiers(comp);
+        assertNull(view.get("view_test_target"));
+        assertEquals(0f, comp.getModifier("view_test_unknown_target"));
+
+        view.put("view_test_target", 3.25f);
+        assertEquals(3.25f, comp.getModifier("view_test_target"));
+        assertEquals(3.25f, view.get("view_test_target"));
+        assertTrue(view.containsKey("view_test_target"));
+
+        view.remove("view_test_target");
+        assertNull(view.get("view_test_target"));
+        assertEquals(0f, comp.getModifier("view_test_target"));
+    }
+
+    private static void setField(TownUpgradeComponent c, String name, Object value) throws Exception {
+        Field f = TownUpgradeComponent.class.getDeclaredField(name);
+        f.setAccessible(true);
+        f.set(c, value);
+    }
+
+    @Test
+    void tick_catchUp_completesResearchOnTheTickItIsDue() throws Exception {
+        // 1.5x speed: the increment is not exact in float, so any rounding shortcut shows
+        Town perTickTown = new Town(UUID.randomUUID(), TOWN_POS, "PerTick");
+        Town catchUpTown = new Town(UUID.randomUUID(), TOWN_POS, "CatchUp");
+        TownUpgradeComponent perTick = perTickTown.getUpgrades();
+        TownUpgradeComponent catchUp = catchUpTown.getUpgrades();
+        for (TownUpgradeComponent c : List.of(perTick, catchUp)) {
+            c.addFlatModifier("research", 0.5f);
+            setField(c, "currentResearchNode", "scale_10pct"); // 3.0 minutes = about 2400 ticks
+            setField(c, "aiCheckCooldown", Integer.MAX_VALUE); // keep the AI out once idle
+        }
+
+        int window = 7;
+        for (int tick = 0; tick < 2800; tick += window) {
+            for (int i = 0; i < window; i++) {
+                perTick.tick(1);
+            }
+            catchUp.tick(window);
+
+            int at = tick + window;
+            assertEquals(Float.floatToIntBits(perTick.getResearchProgress()),
+                    Float.floatToIntBits(catchUp.getResearchProgress()), "progress at tick " + at);
+            assertEquals(perTick.getCurrentResearchNode(), catchUp.getCurrentResearchNode(), "node at tick " + at);
+            assertEquals(perTick.getUpgradeLevel("scale_10pct"), catchUp.getUpgradeLevel("scale_10pct"),
+                    "level at tick " + at);
+        }
+        assertEquals(1, catchUp.getUpgradeLevel("scale_10pct"), "research should have completed");
+    }
+
+    @Test
+    void ticksUntilNextEvent_matchesTickResearchCompletesOn() throws Exception {
+        comp.addFlatModifier("research", 0.5f);
+        setField(comp, "currentResearchNode", "scale_10pct");
+        setField(comp, "aiCheckCooldown", Integer.MAX_VALUE);
+
+        // Not due within a short span: the whole span is event-free
+        assertEquals(100, comp.ticksUntilNextEvent(100));
+
+        int predicted = comp.ticksUntilNextEvent(10_000);
+        assertTrue(predicted < 10_000);
+        comp.tick(predicted - 1);
+        assertEquals("scale_10pct", comp.getCurrentResearchNode(), "completed before the predicted tick");
+        comp.tick(1);
+        assertNull(comp.getCurrentResearchNode(), "not completed on the predicted tick");
+    }
+
+    @Test
+    void ticksUntilNextEvent_idle_isNextAiCheck() throws Exception {
+        setField(comp, "aiCheckCooldown", 5);
+        // The cooldown runs out on the sixth tick
+        assertEquals(6, comp.ticksUntilNextEvent(100));
+        assertEquals(3, comp.ticksUntilNextEvent(3));
+    }
+
+    @Test
+    void modifierListener_firesOnlyForSlotsThatChanged() {
+        List<String> events = new ArrayList<>();
+        comp.addModifierListener((slot, oldValue, newValue) ->
+                events.add(ModifierSlots.nameOf(slot) + ":" + oldValue + "->" + newValue));
+
+        comp.addFlatModifier("listener_test_target", 10f);
+        comp.accumulateFlatModifier("listener_test_target", 2.5f);
+        // Same value again: recalculated but unchanged, so no event
+        comp.addFlatModifier("listener_test_target", 12.5f);
+
+        assertEquals(List.of(
+                "listener_test_target:0.0->10.0",
+                "listener_test_target:10.0->12.5"), events);
+    }
 }
 
 // --- minimal platform double (same shape as T-030) ---
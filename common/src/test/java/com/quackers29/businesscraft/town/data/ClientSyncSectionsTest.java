@@ -0,0 +1,94 @@
+package com.quackers29.businesscraft.town.data;
+
+import com.quackers29.businesscraft.platform.Platform;
+import com.quackers29.businesscraft.town.data.ClientSyncSections.Section;
+import net.minecraft.core.BlockPos;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Covers ClientSyncSections, the per-section change tracking behind TownInterfaceSyncPacket:
+ *   - the first call reports every section
+ *   - unchanged counters report nothing
+ *   - a moved counter reports that section only
+ *   - a different source (town reloaded) reports everything
+ *   - reset() makes the next call report everything again
+ * and the platform counter it is fed from, which must move on every platform change and
+ * never return to an earlier value when platforms are removed.
+ */
+class ClientSyncSectionsTest {
+
+    private static final Object TOWN = new Object();
+
+    private static long[] versions(long... values) {
+        long[] result = new long[Section.values().length];
+        System.arraycopy(values, 0, result, 0, values.length);
+        return result;
+    }
+
+    @Test
+    void takeChanged_firstCall_reportsAllSections() {
+        ClientSyncSections sections = new ClientSyncSections();
+
+        assertEquals(Section.ALL, sections.takeChanged(TOWN, versions()));
+    }
+
+    @Test
+    void takeChanged_unchanged_reportsNothing() {
+        ClientSyncSections sections = new ClientSyncSections();
+        sections.takeChanged(TOWN, versions(1, 2, 3));
+
+        assertEquals(0, sections.takeChanged(TOWN, versions(1, 2, 3)));
+    }
+
+    @Test
+    void takeChanged_oneCounterMoved_reportsThatSectionOnly() {
+        ClientSyncSections sections = new ClientSyncSections();
+        sections.takeChanged(TOWN, versions(1, 2, 3));
+
+        assertEquals(Section.RESOURCES.bit(), sections.takeChanged(TOWN, versions(1, 5, 3)));
+        assertEquals(0, sections.takeChanged(TOWN, versions(1, 5, 3)));
+    }
+
+    @Test
+    void takeChanged_differentSource_reportsEverything() {
+        ClientSyncSections sections = new ClientSyncSections();
+        sections.takeChanged(TOWN, versions(1, 2, 3));
+
+        assertEquals(Section.ALL, sections.takeChanged(new Object(), versions(1, 2, 3)));
+    }
+
+    @Test
+    void reset_nextCallReportsEverything() {
+        ClientSyncSections sections = new ClientSyncSections();
+        sections.takeChanged(TOWN, versions(1, 2, 3));
+        sections.reset();
+
+        int mask = sections.takeChanged(TOWN, versions(1, 2, 3));
+        assertTrue(Section.INFO.isIn(mask));
+        assertTrue(Section.PLATFORMS.isIn(mask));
+    }
+
+    @Test
+    void platformVersion_movesOnEveryChangeAndNeverGoesBack() {
+        PlatformManager manager = new PlatformManager();
+        long v0 = manager.getVersion();
+
+        manager.addPlatform();
+        Platform platform = manager.getPlatforms(false).get(0);
+        long v1 = manager.getVersion();
+        assertTrue(v1 > v0);
+
+        platform.setStartPos(new BlockPos(1, 64, 1));
+        long v2 = manager.getVersion();
+        assertTrue(v2 > v1);
+
+        manager.removePlatform(platform.getId());
+        long v3 = manager.getVersion();
+        assertTrue(v3 > v2, "removing a modified platform must not bring the counter back");
+
+        manager.addPlatform();
+        assertTrue(manager.getVersion() > v3);
+    }
+}
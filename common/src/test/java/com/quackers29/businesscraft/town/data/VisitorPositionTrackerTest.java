@@ -0,0 +1,123 @@
+package com.quackers29.businesscraft.town.data;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Covers stationary detection and scan-based eviction in VisitorPositionTracker,
+ * which VisitorProcessingHelper uses to only process tourists that have come to a
+ * stop near a platform.
+ */
+class VisitorPositionTrackerTest {
+
+    private static final UUID VISITOR_A = UUID.fromString("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+    private static final UUID VISITOR_B = UUID.fromString("bbbbbbbb-bbbb-bbbb-bbbb-bbbbbbbbbbbb");
+
+    private VisitorPositionTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new VisitorPositionTracker(0.001, 3);
+    }
+
+    private boolean scan(UUID visitor, double x, double y, double z) {
+        tracker.beginScan();
+        boolean stationary = tracker.update(visitor, x, y, z);
+        tracker.endScan();
+        return stationary;
+    }
+
+    @Test
+    void update_firstSighting_isNotStationary() {
+        assertFalse(scan(VISITOR_A, 10, 64, 10));
+        assertEquals(1, tracker.size());
+    }
+
+    @Test
+    void update_samePositionNextScan_isStationary() {
+        scan(VISITOR_A, 10, 64, 10);
+        assertTrue(scan(VISITOR_A, 10, 64, 10));
+    }
+
+    @Test
+    void update_withinThreshold_isStationary() {
+        scan(VISITOR_A, 10, 64, 10);
+        assertTrue(scan(VISITOR_A, 10.0005, 64, 10.0005));
+    }
+
+    @Test
+    void update_movedBeyondThreshold_isNotStationaryUntilItStops() {
+        scan(VISITOR_A, 10, 64, 10);
+        assertFalse(scan(VISITOR_A, 10.5, 64, 10));
+        assertTrue(scan(VISITOR_A, 10.5, 64, 10));
+    }
+
+    @Test
+    void endScan_visitorMissingFewerScansThanLimit_isKept() {
+        scan(VISITOR_A, 10, 64, 10);
+        tracker.beginScan();
+        tracker.endScan();
+        tracker.beginScan();
+        tracker.endScan();
+
+        assertEquals(1, tracker.size());
+        assertTrue(scan(VISITOR_A, 10, 64, 10));
+    }
+
+    @Test
+    void endScan_visitorMissingForLimit_isEvicted() {
+        scan(VISITOR_A, 10, 64, 10);
+        int evicted = 0;
+        for (int i = 0; i < 3; i++) {
+            tracker.beginScan();
+            evicted += tracker.endScan();
+        }
+
+        assertEquals(1, evicted);
+        assertEquals(0, tracker.size());
+        assertFalse(scan(VISITOR_A, 10, 64, 10), "an evicted visitor starts over as a first sighting");
+    }
+
+    @Test
+    void endScan_evictionLimitOne_dropsVisitorsMissingFromScan() {
+        tracker = new VisitorPositionTracker(0.001, 1);
+        tracker.beginScan();
+        tracker.update(VISITOR_A, 0, 64, 0);
+        tracker.update(VISITOR_B, 5, 64, 5);
+        tracker.endScan();
+
+        assertTrue(scan(VISITOR_A, 0, 64, 0));
+        assertEquals(1, tracker.size());
+    }
+
+    @Test
+    void evictedSlots_areReusedWithoutMixingPositions() {
+        tracker = new VisitorPositionTracker(0.001, 1);
+        for (int i = 0; i < 100; i++) {
+            UUID visitor = new UUID(0, i);
+            scan(visitor, i, 64, i);
+            assertTrue(scan(visitor, i, 64, i));
+        }
+        // Each visitor was dropped once the next one took over, so one slot is enough
+        assertEquals(1, tracker.size());
+    }
+
+    @Test
+    void clear_forgetsAllVisitors() {
+        scan(VISITOR_A, 10, 64, 10);
+        scan(VISITOR_B, 20, 64, 20);
+        tracker.clear();
+
+        assertEquals(0, tracker.size());
+        assertFalse(scan(VISITOR_A, 10, 64, 10));
+    }
+
+    @Test
+    void constructor_rejectsEvictionLimitBelowOne() {
+        assertThrows(IllegalArgumentException.class, () -> new VisitorPositionTracker(0.001, 0));
+    }
+}
@@ -0,0 +1,119 @@
+package com.quackers29.businesscraft.town.service;
+
+import com.quackers29.businesscraft.testutil.McBootstrap;
+import com.quackers29.businesscraft.town.TownHeader;
+import net.minecraft.core.BlockPos;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Covers TownBoundaryIndex, the grid behind TownManager.findTownAt and placement checks:
+ *   - point queries find the containing town (edge inclusive), across cell borders and
+ *     at negative coordinates
+ *   - overlapping boundaries resolve to the nearest center
+ *   - update() re-buckets a town whose radius grew; remove() drops it
+ *   - findOverlapping matches the placement rule (distance < r1 + r2)
+ *   - findAll answers a batch of positions
+ */
+class TownBoundaryIndexTest {
+
+    @BeforeAll
+    static void boot() {
+        McBootstrap.init();
+    }
+
+    private static TownHeader town(int n, int x, int z, int radius) {
+        return new TownHeader(new UUID(0L, n), "Town" + n, new BlockPos(x, 64, z),
+                radius, 0, 0, 0f, 0, 0, true, 0, 0);
+    }
+
+    @Test
+    void findAt_insideAndAtEdge_findsTown() {
+        TownBoundaryIndex index = new TownBoundaryIndex();
+        TownHeader a = town(1, 60, 60, 20); // spans four cells around (64, 64)
+        index.update(a);
+
+        assertEquals(a, index.findAt(new BlockPos(60, 64, 60)));
+        assertEquals(a, index.findAt(new BlockPos(80, 64, 60)));
+        assertEquals(a, index.findAt(new BlockPos(45, 64, 70)));
+        assertNull(index.findAt(new BlockPos(81, 64, 60)));
+        assertNull(index.findAt(new BlockPos(500, 64, 500)));
+    }
+
+    @Test
+    void findAt_negativeCoordinates_findsTown() {
+        TownBoundaryIndex index = new TownBoundaryIndex();
+        TownHeader a = town(1, -100, -300, 30);
+        index.update(a);
+
+        assertEquals(a, index.findAt(new BlockPos(-129, 64, -300)));
+        assertNull(index.findAt(new BlockPos(-131, 64, -300)));
+    }
+
+    @Test
+    void findAt_overlapping_prefersNearestCenter() {
+        TownBoundaryIndex index = new TownBoundaryIndex();
+        TownHeader a = town(1, 0, 0, 50);
+        TownHeader b = town(2, 60, 0, 50);
+        index.update(a);
+        index.update(b);
+
+        assertEquals(a, index.findAt(new BlockPos(25, 64, 0)));
+        assertEquals(b, index.findAt(new BlockPos(35, 64, 0)));
+    }
+
+    @Test
+    void update_radiusGrows_andRemove() {
+        TownBoundaryIndex index = new TownBoundaryIndex();
+        index.update(town(1, 0, 0, 10));
+        BlockPos far = new BlockPos(150, 64, 0);
+        assertNull(index.findAt(far));
+
+        TownHeader grown = town(1, 0, 0, 200);
+        index.update(grown);
+        assertEquals(grown, index.findAt(far));
+        assertEquals(1, index.size());
+
+        index.remove(grown.id());
+        assertNull(index.findAt(far));
+        assertNull(index.findAt(BlockPos.ZERO.above(64)));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void findOverlapping_matchesPlacementRule() {
+        TownBoundaryIndex index = new TownBoundaryIndex();
+        TownHeader a = town(1, 0, 0, 50);
+        index.update(a);
+        index.update(town(2, 1000, 1000, 50));
+
+        // 50 + 10 = 60 required; exactly 60 away is allowed, 59 is not
+        assertTrue(index.findOverlapping(new BlockPos(60, 64, 0), 10).isEmpty());
+        assertEquals(List.of(a), index.findOverlapping(new BlockPos(59, 64, 0), 10));
+    }
+
+    @Test
+    void findAll_answersEveryPosition() {
+        TownBoundaryIndex index = new TownBoundaryIndex();
+        TownHeader a = town(1, 0, 0, 20);
+        index.update(a);
+
+        Map<String, BlockPos> players = new LinkedHashMap<>();
+        players.put("in", new BlockPos(5, 64, 5));
+        players.put("alsoIn", new BlockPos(-5, 64, 3));
+        players.put("out", new BlockPos(300, 64, 0));
+
+        Map<String, TownHeader> found = index.findAll(players);
+        assertEquals(a, found.get("in"));
+        assertEquals(a, found.get("alsoIn"));
+        assertTrue(found.containsKey("out"));
+        assertNull(found.get("out"));
+    }
+}
@@ -0,0 +1,97 @@
+package com.quackers29.businesscraft.town.viewmodel;
+
+import net.minecraft.network.FriendlyByteBuf;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Covers ViewModelCache change detection:
+ *   - first update of a type is dirty and sent once
+ *   - an equal rebuild (new instance, same encoding) is suppressed and not re-sent
+ *   - a real change is dirty again; the latest instance is always readable
+ *   - put() stores without dirtying (client side)
+ */
+class ViewModelCacheTest {
+
+    /** Minimal view model whose wire encoding is its two fields. */
+    private record StubViewModel(int amount, String label) implements IViewModel {
+        @Override
+        public void toBytes(FriendlyByteBuf buf) {
+            buf.writeInt(amount);
+            buf.writeUtf(label);
+        }
+    }
+
+    private static List<Object> drain(ViewModelCache cache) {
+        List<Object> sent = new ArrayList<>();
+        cache.syncAllDirty(sent::add);
+        return sent;
+    }
+
+    @Test
+    void update_firstValue_isDirtyAndSentOnce() {
+        ViewModelCache cache = new ViewModelCache();
+        StubViewModel vm = new StubViewModel(5, "Coal");
+        cache.update(StubViewModel.class, vm);
+
+        assertTrue(cache.isDirty(StubViewModel.class));
+        assertEquals(List.of(vm), drain(cache));
+        assertTrue(drain(cache).isEmpty());
+        assertEquals(1, cache.getSentCount(StubViewModel.class));
+    }
+
+    @Test
+    void update_equalRebuild_isSuppressed() {
+        ViewModelCache cache = new ViewModelCache();
+        cache.update(StubViewModel.class, new StubViewModel(5, "Coal"));
+        drain(cache);
+
+        StubViewModel rebuilt = new StubViewModel(5, "Coal");
+        cache.update(StubViewModel.class, rebuilt);
+
+        assertFalse(cache.isDirty(StubViewModel.class));
+        assertTrue(drain(cache).isEmpty());
+        assertSame(rebuilt, cache.get(StubViewModel.class));
+        assertEquals(1, cache.getSuppressedCount(StubViewModel.class));
+        assertEquals(1, cache.getSentCount(StubViewModel.class));
+    }
+
+    @Test
+    void update_changedContent_isDirtyAgain() {
+        ViewModelCache cache = new ViewModelCache();
+        cache.update(StubViewModel.class, new StubViewModel(5, "Coal"));
+        drain(cache);
+
+        StubViewModel changed = new StubViewModel(6, "Coal");
+        cache.update(StubViewModel.class, changed);
+
+        assertTrue(cache.isDirty(StubViewModel.class));
+        assertEquals(List.of(changed), drain(cache));
+        assertEquals(0, cache.getSuppressedCount(StubViewModel.class));
+    }
+
+    @Test
+    void clear_forgetsPreviousEncoding() {
+        ViewModelCache cache = new ViewModelCache();
+        cache.update(StubViewModel.class, new StubViewModel(5, "Coal"));
+        drain(cache);
+        cache.clear();
+
+        cache.update(StubViewModel.class, new StubViewModel(5, "Coal"));
+        assertTrue(cache.isDirty(StubViewModel.class));
+    }
+
+    @Test
+    void put_storesWithoutDirtying() {
+        ViewModelCache cache = new ViewModelCache();
+        StubViewModel vm = new StubViewModel(1, "Wood");
+        cache.put(StubViewModel.class, vm);
+
+        assertSame(vm, cache.get(StubViewModel.class));
+        assertFalse(cache.isDirty(StubViewModel.class));
+    }
+}
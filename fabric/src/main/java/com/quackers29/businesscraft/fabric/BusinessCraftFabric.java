@@ -136,6 +136,7 @@ public class BusinessCraftFabric implements ModInitializer {
 
         // Initialize common event handlers
         com.quackers29.businesscraft.event.PlayerBoundaryTracker.initialize();
+        com.quackers29.businesscraft.service.VehicleMotionTracker.initialize();
         com.quackers29.businesscraft.event.PlatformPathHandler.initialize();
         com.quackers29.businesscraft.event.TownEventHandler.initialize();
 
@@ -160,8 +161,19 @@ public class BusinessCraftFabric implements ModInitializer {
 
         net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents.SERVER_STOPPING.register(server -> {
             FabricModMessages.setServer(null);
+            // Let each TownManager catch up skipped town ticks before the final save
+            com.quackers29.businesscraft.town.TownManager.getAllInstances()
+                    .forEach(com.quackers29.businesscraft.town.TownManager::onServerStopping);
             com.quackers29.businesscraft.contract.ContractBoard.clearInstances();
             com.quackers29.businesscraft.town.TownManager.clearInstances();
+            com.quackers29.businesscraft.entity.TouristRegistry.clearInstances();
+            com.quackers29.businesscraft.service.VehicleMotionTracker.clearInstances();
+            com.quackers29.businesscraft.menu.TownInterfaceMenu.clearInstances();
+        });
+
+        net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+            // Final saves are written in the background; wait for them before the world closes
+            com.quackers29.businesscraft.data.SavedDataWriter.flush();
         });
 
         LOGGER.info("BusinessCraft Fabric initialized successfully!");
@@ -47,6 +47,7 @@ public class FabricEventCallbackHandler {
 
     // Server-side callbacks
     private static final List<EventCallbacks.PlayerTickCallback> playerTickCallbacks = new ArrayList<>();
+    private static final List<EventCallbacks.ServerTickCallback> serverTickCallbacks = new ArrayList<>();
     private static final List<EventCallbacks.PlayerLoginCallback> playerLoginCallbacks = new ArrayList<>();
     private static final List<EventCallbacks.PlayerLogoutCallback> playerLogoutCallbacks = new ArrayList<>();
     private static final List<EventCallbacks.RightClickBlockCallback> rightClickBlockCallbacks = new ArrayList<>();
@@ -87,13 +88,16 @@ public class FabricEventCallbackHandler {
      * Register server-side events using Fabric's event API
      */
     private static void registerServerEvents() {
-        // Player Tick
+        // Player and server tick callbacks
         ServerTickEvents.END_SERVER_TICK.register(server -> {
             for (ServerPlayer player : server.getPlayerList().getPlayers()) {
                 for (EventCallbacks.PlayerTickCallback callback : playerTickCallbacks) {
                     callback.onPlayerTick(player, player.serverLevel(), player.blockPosition());
                 }
             }
+            for (EventCallbacks.ServerTickCallback callback : serverTickCallbacks) {
+                callback.onServerTick(server);
+            }
         });
 
         // Player Login
@@ -243,6 +247,10 @@ public class FabricEventCallbackHandler {
         playerTickCallbacks.add(callback);
     }
 
+    public static void registerServerTickCallback(EventCallbacks.ServerTickCallback callback) {
+        serverTickCallbacks.add(callback);
+    }
+
     public static void registerPlayerLoginCallback(EventCallbacks.PlayerLoginCallback callback) {
         playerLoginCallbacks.add(callback);
     }
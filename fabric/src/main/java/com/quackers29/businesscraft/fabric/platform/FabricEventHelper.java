@@ -50,6 +50,10 @@ public class FabricEventHelper implements EventHelper {
         FabricEventCallbackHandler.registerPlayerTickCallback(callback);
     }
 
+    public void registerServerTickCallback(EventCallbacks.ServerTickCallback callback) {
+        FabricEventCallbackHandler.registerServerTickCallback(callback);
+    }
+
     public void registerPlayerLoginCallback(EventCallbacks.PlayerLoginCallback callback) {
         FabricEventCallbackHandler.registerPlayerLoginCallback(callback);
     }
@@ -30,7 +30,7 @@ import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.RegisterCommandsEvent;
 import net.minecraftforge.event.server.ServerStartedEvent;
 import net.minecraftforge.event.server.ServerStoppingEvent;
-import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.BuildCreativeModeTabContentsEvent;
 import net.minecraftforge.eventbus.api.IEventBus;
@@ -43,7 +43,6 @@ import net.minecraftforge.server.ServerLifecycleHooks;
 import net.minecraft.server.level.ServerLevel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import com.quackers29.businesscraft.service.TouristVehicleManager;
 import com.quackers29.businesscraft.town.TownManager;
 import com.quackers29.businesscraft.config.ConfigLoader;
 import com.quackers29.businesscraft.debug.DebugConfig;
@@ -90,9 +89,6 @@ public class BusinessCraftForge {
         PlatformAccess.touristHelper = TOURIST_HELPER;
     }
 
-    // Add a static reference to the manager to use in event handlers
-    public static final TouristVehicleManager TOURIST_VEHICLE_MANAGER = new TouristVehicleManager();
-
     public BusinessCraftForge() {
         LOGGER.info("BusinessCraft Forge constructor called!");
         System.out.println("DEBUG: BusinessCraft Forge mod starting up!");
@@ -122,11 +118,9 @@ public class BusinessCraftForge {
 
         // Register server lifecycle events
         MinecraftForge.EVENT_BUS.addListener(this::onServerStopping);
+        MinecraftForge.EVENT_BUS.addListener(this::onServerStopped);
         MinecraftForge.EVENT_BUS.addListener(this::onServerStarted);
 
-        // Register the world unload event listener
-        MinecraftForge.EVENT_BUS.addListener(this::onLevelUnload);
-
         LOGGER.info("BusinessCraft Forge initialized. Press F3+K in-game to toggle town debug overlay.");
     }
 
@@ -146,6 +140,7 @@ public class BusinessCraftForge {
 
         // Initialize server-side event handlers
         com.quackers29.businesscraft.event.PlayerBoundaryTracker.initialize();
+        com.quackers29.businesscraft.service.VehicleMotionTracker.initialize();
         com.quackers29.businesscraft.event.PlatformPathHandler.initialize();
         com.quackers29.businesscraft.event.TownEventHandler.initialize();
 
@@ -159,6 +154,11 @@ public class BusinessCraftForge {
         com.quackers29.businesscraft.command.ClearContractsCommand.register(event.getDispatcher());
     }
 
+    private void onServerStopped(ServerStoppedEvent event) {
+        // Final saves are written in the background; wait for them before the world closes
+        com.quackers29.businesscraft.data.SavedDataWriter.flush();
+    }
+
     private void onServerStopping(ServerStoppingEvent event) {
         LOGGER.info("Server stopping, saving town data...");
         ServerLifecycleHooks.getCurrentServer().getAllLevels().forEach(level -> {
@@ -168,12 +168,11 @@ public class BusinessCraftForge {
         // Clear all instances after saving to ensure a clean slate on next load
         TownManager.clearInstances();
 
-        // Don't forget to clean up the tourist vehicle manager
-        LOGGER.info("Clearing tracked vehicles on server stopping");
-        TOURIST_VEHICLE_MANAGER.clearTrackedVehicles();
-
         // Clear ContractBoard instances
         com.quackers29.businesscraft.contract.ContractBoard.clearInstances();
+        com.quackers29.businesscraft.entity.TouristRegistry.clearInstances();
+        com.quackers29.businesscraft.service.VehicleMotionTracker.clearInstances();
+        com.quackers29.businesscraft.menu.TownInterfaceMenu.clearInstances();
     }
 
     private void onServerStarted(ServerStartedEvent event) {
@@ -185,7 +184,7 @@ public class BusinessCraftForge {
                 TownManager townManager = TownManager.get(serverLevel);
 
                 // Log number of towns loaded
-                int townCount = townManager.getAllTowns().size();
+                int townCount = townManager.getTownCount();
                 LOGGER.info("Loaded {} towns for level: {}", townCount, level.dimension().location());
             }
         });
@@ -201,14 +200,6 @@ public class BusinessCraftForge {
         }
     }
 
-    // Add a level unload event handler
-    private void onLevelUnload(LevelEvent.Unload event) {
-        if (event.getLevel() instanceof ServerLevel) {
-            DebugConfig.debug(LOGGER, DebugConfig.MOD_INITIALIZATION, "Clearing tracked vehicles on level unload");
-            TOURIST_VEHICLE_MANAGER.clearTrackedVehicles();
-        }
-    }
-
     @SubscribeEvent
     public void onLevelTick(TickEvent.LevelTickEvent event) {
         if (event.phase == TickEvent.Phase.END && event.level instanceof ServerLevel) {
@@ -28,6 +28,7 @@ public class ForgeEventCallbackHandler {
 
     // Server-side callbacks
     private static final List<EventCallbacks.PlayerTickCallback> playerTickCallbacks = new ArrayList<>();
+    private static final List<EventCallbacks.ServerTickCallback> serverTickCallbacks = new ArrayList<>();
     private static final List<EventCallbacks.PlayerLoginCallback> playerLoginCallbacks = new ArrayList<>();
     private static final List<EventCallbacks.PlayerLogoutCallback> playerLogoutCallbacks = new ArrayList<>();
     private static final List<EventCallbacks.RightClickBlockCallback> rightClickBlockCallbacks = new ArrayList<>();
@@ -56,6 +57,17 @@ public class ForgeEventCallbackHandler {
         }
     }
 
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) {
+            return;
+        }
+
+        for (EventCallbacks.ServerTickCallback callback : serverTickCallbacks) {
+            callback.onServerTick(event.getServer());
+        }
+    }
+
     @SubscribeEvent
     public static void onPlayerLogin(PlayerEvent.PlayerLoggedInEvent event) {
         if (event.getEntity() instanceof ServerPlayer serverPlayer) {
@@ -160,6 +172,10 @@ public class ForgeEventCallbackHandler {
         playerTickCallbacks.add(callback);
     }
 
+    public static void registerServerTickCallback(EventCallbacks.ServerTickCallback callback) {
+        serverTickCallbacks.add(callback);
+    }
+
     public static void registerPlayerLoginCallback(EventCallbacks.PlayerLoginCallback callback) {
         playerLoginCallbacks.add(callback);
     }
@@ -54,6 +54,11 @@ public class ForgeEventHelper implements EventHelper {
         ForgeEventCallbackHandler.registerPlayerTickCallback(callback);
     }
 
+    @Override
+    public void registerServerTickCallback(EventCallbacks.ServerTickCallback callback) {
+        ForgeEventCallbackHandler.registerServerTickCallback(callback);
+    }
+
     @Override
     public void registerPlayerLoginCallback(EventCallbacks.PlayerLoginCallback callback) {
         ForgeEventCallbackHandler.registerPlayerLoginCallback(callback);